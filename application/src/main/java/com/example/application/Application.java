@@ -4,13 +4,17 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Classe Principal da Aplicação Spring Boot
+ * 
+ * @EnableScheduling: ciclos do UsuarioOutboxRelay
  */
 @SpringBootApplication(scanBasePackages = "com.example")
+@EnableScheduling
 @EnableJpaRepositories(basePackages = "com.example.infrastructure.databases.oracle.repository")
-@EntityScan(basePackages = "com.example.infrastructure.persistence.entity")
+@EntityScan(basePackages = "com.example.infrastructure.databases.oracle.entity")
 public class Application {
     
     public static void main(String[] args) {
@@ -0,0 +1,68 @@
+package com.example.application.config;
+
+import com.example.application.datasource.LeituraEscritaDataSource;
+import com.example.application.datasource.LeituraPropriaEscritaFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Roteamento de conexões entre primário e réplica (opcional)
+ * 
+ * Ativado por app.usuarios.datasource.routing.enabled=true. Dois pools Hikari:
+ * - primário: spring.datasource.* (e spring.datasource.hikari.*), como sem roteamento
+ * - réplica: app.usuarios.datasource.replica.* (propriedades do HikariConfig)
+ * 
+ * O DataSource @Primary (usado pelo JPA) é LazyConnectionDataSourceProxy → LeituraEscritaDataSource:
+ * transações read-only vão à réplica, o resto ao primário. O LeituraPropriaEscritaFilter (registrado pelo Spring Boot
+ * para todas as URLs) mantém as leituras de quem acabou de escrever no primário durante o replica-max-lag
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.usuarios.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfiguration {
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("usuarios-primario");
+        return dataSource;
+    }
+    
+    @Bean
+    @ConfigurationProperties("app.usuarios.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("usuarios-replica");
+        return dataSource;
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primarioDataSource") DataSource primario,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 @Value("${app.usuarios.datasource.routing.replica-max-lag:2s}") Duration atrasoMaximo,
+                                 MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new LeituraEscritaDataSource(primario, replica, atrasoMaximo, meterRegistry));
+    }
+    
+    @Bean
+    public LeituraPropriaEscritaFilter leituraPropriaEscritaFilter(
+            @Value("${app.usuarios.datasource.routing.replica-max-lag:2s}") Duration atrasoMaximo) {
+        return new LeituraPropriaEscritaFilter(atrasoMaximo);
+    }
+}
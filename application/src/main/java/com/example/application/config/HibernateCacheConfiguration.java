@@ -0,0 +1,144 @@
+package com.example.application.config;
+
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cache de segundo nível do Hibernate (opcional): JCache com Caffeine, por instância
+ *
+ * Ativado por app.usuarios.hibernate-cache.enabled=true. Regiões criadas aqui, com tamanho e TTL próprios:
+ * - usuarios: UsuarioEntity por id (findById do UsuarioRepositoryAdapter)
+ * - usuarios-email: natural id email → id (buscarPorEmail do UsuarioRepositoryAdapter)
+ * - default-query-results-region: consultas cacheáveis (findDetalheById/findDetalheByEmail do UsuarioQueryService)
+ * - default-update-timestamps-region: última escrita por tabela, invalida o cache de consultas (sem limite nem TTL)
+ *
+ * Escritas feitas por esta instância atualizam o cache (READ_WRITE); escritas de outras instâncias
+ * ou direto no banco só aparecem após o TTL da região. A remoção de um usuário (UsuarioJpaRepository.deletarPorId)
+ * invalida só a sua entrada por id e a do seu email (UsuarioCacheRepository); a remoção em lote é um DELETE em JPQL
+ * (UsuarioJpaRepository.deletarPorIds) e invalida as regiões usuarios e usuarios-email inteiras.
+ *
+ * Métricas a partir das estatísticas do Hibernate:
+ * - usuarios.hibernate.cache (tags regiao e resultado=hit/miss/put)
+ * - usuarios.hibernate.carregamentos: entidades carregadas do banco
+ * - usuarios.hibernate.statements: statements JDBC preparados
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.usuarios.hibernate-cache.enabled", havingValue = "true")
+@Slf4j
+public class HibernateCacheConfiguration {
+
+    static final String REGIAO_CONSULTAS = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+    static final String REGIAO_TIMESTAMPS = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    /**
+     * O CachingProvider compartilha CacheManagers pela URI: uma URI por contexto evita
+     * que dois contextos Spring (ex: testes) disputem as mesmas regiões
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager usuariosCacheManager(
+            @Value("${app.usuarios.hibernate-cache.entity.maximum-size:10000}") long tamanhoEntidades,
+            @Value("${app.usuarios.hibernate-cache.entity.ttl:10m}") Duration ttlEntidades,
+            @Value("${app.usuarios.hibernate-cache.natural-id.maximum-size:10000}") long tamanhoNaturalId,
+            @Value("${app.usuarios.hibernate-cache.natural-id.ttl:10m}") Duration ttlNaturalId,
+            @Value("${app.usuarios.hibernate-cache.query.maximum-size:1000}") long tamanhoConsultas,
+            @Value("${app.usuarios.hibernate-cache.query.ttl:1m}") Duration ttlConsultas) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("urn:usuarios-hibernate-cache:" + UUID.randomUUID()),
+                        getClass().getClassLoader());
+
+        cacheManager.createCache(UsuarioEntity.REGIAO_CACHE, regiao(tamanhoEntidades, ttlEntidades));
+        cacheManager.createCache(UsuarioEntity.REGIAO_CACHE_EMAIL, regiao(tamanhoNaturalId, ttlNaturalId));
+        cacheManager.createCache(REGIAO_CONSULTAS, regiao(tamanhoConsultas, ttlConsultas));
+        // Despejar um timestamp faria o Hibernate aceitar resultados de consulta antigos
+        cacheManager.createCache(REGIAO_TIMESTAMPS, new CaffeineConfiguration<>().setStoreByValue(false));
+
+        log.info("Cache de segundo nível habilitado: entidades {} / {}, natural id {} / {}, consultas {} / {}",
+                tamanhoEntidades, ttlEntidades, tamanhoNaturalId, ttlNaturalId, tamanhoConsultas, ttlConsultas);
+        return cacheManager;
+    }
+
+    /**
+     * Propriedades do Hibernate que dependem do CacheManager (instância, não configurável pelo application.yml)
+     *
+     * missing_cache_strategy=fail: uma região não criada acima é erro de configuração, não cache sem limite
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheProperties(CacheManager usuariosCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, JCacheRegionFactory.class.getName());
+            properties.put(ConfigSettings.CACHE_MANAGER, usuariosCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            for (String regiao : List.of(UsuarioEntity.REGIAO_CACHE, UsuarioEntity.REGIAO_CACHE_EMAIL, REGIAO_CONSULTAS)) {
+                registrarRegiao(registry, estatisticas, regiao, "hit", CacheRegionStatistics::getHitCount);
+                registrarRegiao(registry, estatisticas, regiao, "miss", CacheRegionStatistics::getMissCount);
+                registrarRegiao(registry, estatisticas, regiao, "put", CacheRegionStatistics::getPutCount);
+            }
+            FunctionCounter.builder("usuarios.hibernate.carregamentos", estatisticas, Statistics::getEntityLoadCount)
+                    .description("Entidades carregadas do banco (não do cache)")
+                    .register(registry);
+            FunctionCounter.builder("usuarios.hibernate.statements", estatisticas, Statistics::getPrepareStatementCount)
+                    .description("Statements JDBC preparados pelo Hibernate")
+                    .register(registry);
+        };
+    }
+
+    private static void registrarRegiao(MeterRegistry registry, Statistics estatisticas, String regiao,
+                                        String resultado, ToLongFunction<CacheRegionStatistics> valor) {
+        FunctionCounter.builder("usuarios.hibernate.cache", estatisticas, e -> {
+                    CacheRegionStatistics regiaoEstatisticas = e.getCacheRegionStatistics(regiao);
+                    return regiaoEstatisticas == null ? 0 : valor.applyAsLong(regiaoEstatisticas);
+                })
+                .tag("regiao", regiao)
+                .tag("resultado", resultado)
+                .description("Acessos ao cache de segundo nível do Hibernate")
+                .register(registry);
+    }
+
+    /**
+     * Por referência (storeByValue=false): as entradas do Hibernate já são cópias desmontadas e imutáveis
+     */
+    private static CaffeineConfiguration<Object, Object> regiao(long tamanhoMaximo, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuracao = new CaffeineConfiguration<>();
+        configuracao.setMaximumSize(OptionalLong.of(tamanhoMaximo));
+        configuracao.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuracao.setStoreByValue(false);
+        return configuracao;
+    }
+}
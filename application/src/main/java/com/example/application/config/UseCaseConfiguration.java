@@ -1,11 +1,17 @@
 package com.example.application.config;
 
+import com.example.application.metrics.MeteredUsuarioInboundPort;
+import com.example.application.metrics.MeteredUsuarioOutboundPort;
 import com.example.domain.ports.in.UsuarioInboundPort;
+import com.example.domain.ports.out.UsuarioEventoOutboundPort;
 import com.example.domain.ports.out.UsuarioOutboundPort;
 import com.example.domain.usecase.UsuarioUseCaseImpl;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 /**
  * Configuração Manual dos Beans da Lógica de Negócio
  * 
@@ -26,12 +32,24 @@ public class UseCaseConfiguration {
     /**
      * Cria e configura o bean da porta de entrada de Usuário
      * 
+     * As duas portas são envolvidas por decorators de métricas (Micrometer):
+     * MeteredUsuarioInboundPort → UsuarioUseCaseImpl → MeteredUsuarioOutboundPort → adapter
+     * 
      * @param usuarioOutboundPort implementação da porta de saída (vem da camada Infrastructure)
+     * @param eventoOutboundPorts destinos dos eventos de domínio, todos recebem cada evento:
+     *                            UsuarioOutboxAdapter (outbox na mesma transação) e, se ativo,
+     *                            UsuarioReadModelAdapter (usuarios_read após o commit)
+     * @param meterRegistry registro de métricas (Actuator)
      * @return instância configurada da lógica de negócio
      */
     @Bean
-    public UsuarioInboundPort usuarioInboundPort(UsuarioOutboundPort usuarioOutboundPort) {
-        return new UsuarioUseCaseImpl(usuarioOutboundPort);
+    public UsuarioInboundPort usuarioInboundPort(UsuarioOutboundPort usuarioOutboundPort,
+                                                 List<UsuarioEventoOutboundPort> eventoOutboundPorts,
+                                                 MeterRegistry meterRegistry) {
+        UsuarioUseCaseImpl useCase = new UsuarioUseCaseImpl(
+                new MeteredUsuarioOutboundPort(usuarioOutboundPort, meterRegistry),
+                evento -> eventoOutboundPorts.forEach(porta -> porta.registrar(evento)));
+        return new MeteredUsuarioInboundPort(useCase, meterRegistry);
     }
 
 }
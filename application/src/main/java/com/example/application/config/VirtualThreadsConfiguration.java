@@ -0,0 +1,32 @@
+package com.example.application.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Verificação do perfil "virtual-threads" (application-virtual-threads.yml)
+ * 
+ * O Spring Boot só liga virtual threads (spring.threads.virtual.enabled) em Java 21+;
+ * em Java 17 a propriedade é ignorada em silêncio e a aplicação volta ao pool do Tomcat,
+ * mas com o pool de conexões dimensionado para virtual threads. Aqui isso vira um aviso.
+ */
+@Configuration
+@Profile("virtual-threads")
+@Slf4j
+public class VirtualThreadsConfiguration implements InitializingBean {
+    
+    static final int VERSAO_MINIMA = 21;
+    
+    @Override
+    public void afterPropertiesSet() {
+        int versao = Runtime.version().feature();
+        if (versao < VERSAO_MINIMA) {
+            log.warn("Perfil virtual-threads ativo em Java {}: virtual threads exigem Java {}+, "
+                    + "requisições continuam em threads de plataforma", versao, VERSAO_MINIMA);
+        } else {
+            log.info("Perfil virtual-threads ativo: Tomcat e applicationTaskExecutor em virtual threads");
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.application.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+import java.util.regex.Pattern;
+
+/**
+ * DataSource que separa leituras e escritas entre primário e réplica
+ * 
+ * Decide na hora de abrir a conexão física, pela transação corrente:
+ * - transação read-only (UsuarioQueryService, consultas do Spring Data): réplica
+ * - qualquer outra (UsuarioCommandService, relay do outbox, sem transação): primário
+ * 
+ * Deve ficar atrás de um LazyConnectionDataSourceProxy: o Hibernate pede a conexão
+ * no begin, antes de a transação ser marcada como read-only, e o proxy adia a
+ * escolha até o primeiro comando SQL.
+ * 
+ * Atraso de replicação (ler o que acabou de escrever), por cliente: depois de um commit com escrita no primário,
+ * as leituras do mesmo cliente continuam no primário por atrasoMaximo. O cliente é identificado pela requisição
+ * corrente ({@link #iniciarCliente}, chamado pelo LeituraPropriaEscritaFilter), que leva a última escrita como token
+ * entre requisições e entre instâncias. Leituras de outros clientes e fora de uma requisição seguem na réplica.
+ * Réplica indisponível: a leitura cai para o primário.
+ */
+@Slf4j
+public class LeituraEscritaDataSource extends AbstractDataSource {
+    
+    private static final Pattern DML = Pattern.compile("\\s*(insert|update|delete|merge)\\b", Pattern.CASE_INSENSITIVE);
+    
+    private final DataSource primario;
+    private final DataSource replica;
+    private final long atrasoMaximoMillis;
+    
+    /**
+     * Cliente da requisição em andamento nesta thread (null fora de uma requisição)
+     */
+    private static final ThreadLocal<Cliente> CLIENTE = new ThreadLocal<>();
+    
+    private final Counter escritas;
+    private final Counter leiturasReplica;
+    private final Counter leiturasAtraso;
+    private final Counter leiturasIndisponivel;
+    
+    public LeituraEscritaDataSource(DataSource primario, DataSource replica, Duration atrasoMaximo,
+                                    MeterRegistry meterRegistry) {
+        this.primario = primario;
+        this.replica = replica;
+        this.atrasoMaximoMillis = atrasoMaximo.toMillis();
+        this.escritas = contador(meterRegistry, "primario", "escrita");
+        this.leiturasReplica = contador(meterRegistry, "replica", "leitura");
+        this.leiturasAtraso = contador(meterRegistry, "primario", "atraso-replica");
+        this.leiturasIndisponivel = contador(meterRegistry, "primario", "replica-indisponivel");
+    }
+    
+    private static Counter contador(MeterRegistry registry, String destino, String motivo) {
+        return Counter.builder("usuarios.datasource.conexoes")
+                .description("Conexões físicas abertas, por destino e motivo da escolha")
+                .tag("destino", destino)
+                .tag("motivo", motivo)
+                .register(registry);
+    }
+    
+    /**
+     * Associa à thread corrente o cliente da requisição, até {@link #encerrarCliente()}
+     * 
+     * @param ultimaEscrita última escrita do cliente (epoch millis, o token recebido), 0 se não há
+     * @param aoEscrever recebe o novo token a cada commit com escrita, para devolvê-lo ao cliente
+     */
+    public static void iniciarCliente(long ultimaEscrita, LongConsumer aoEscrever) {
+        CLIENTE.set(new Cliente(ultimaEscrita, aoEscrever));
+    }
+    
+    public static void encerrarCliente() {
+        CLIENTE.remove();
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return rotear(DataSource::getConnection);
+    }
+    
+    /**
+     * Mesmo roteamento, com as credenciais repassadas ao pool escolhido
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return rotear(dataSource -> dataSource.getConnection(username, password));
+    }
+    
+    private Connection rotear(Abertura abertura) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return conexaoEscrita(abertura);
+        }
+        Cliente cliente = CLIENTE.get();
+        if (cliente != null && cliente.escreveuHaMenosDe(atrasoMaximoMillis)) {
+            leiturasAtraso.increment();
+            return abertura.abrir(primario);
+        }
+        try {
+            Connection conexao = abertura.abrir(replica);
+            leiturasReplica.increment();
+            return conexao;
+        } catch (SQLException ex) {
+            log.warn("Réplica indisponível, leitura vai para o primário: {}", ex.getMessage());
+            leiturasIndisponivel.increment();
+            return abertura.abrir(primario);
+        }
+    }
+    
+    /**
+     * Conexão do primário; se a transação preparar um DML (PreparedStatement, como faz o
+     * Hibernate), o commit abre a janela de atraso do cliente da requisição
+     * 
+     * Transações read-write que só leem (ex.: o relay do outbox com a fila vazia)
+     * não tiram as leituras da réplica
+     */
+    private Connection conexaoEscrita(Abertura abertura) throws SQLException {
+        Connection conexao = abertura.abrir(primario);
+        escritas.increment();
+        Cliente cliente = CLIENTE.get();
+        if (cliente == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return conexao;
+        }
+        AtomicBoolean escreveu = new AtomicBoolean();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (escreveu.get()) {
+                    cliente.registrarEscrita(System.currentTimeMillis());
+                }
+            }
+        });
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, metodo, args) -> {
+                    if (metodo.getName().startsWith("prepare") && args != null && args[0] instanceof String sql
+                            && DML.matcher(sql).lookingAt()) {
+                        escreveu.set(true);
+                    }
+                    try {
+                        return metodo.invoke(conexao, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+    
+    @FunctionalInterface
+    private interface Abertura {
+        Connection abrir(DataSource dataSource) throws SQLException;
+    }
+    
+    private static final class Cliente {
+        
+        private final LongConsumer aoEscrever;
+        private long ultimaEscrita;
+        
+        Cliente(long ultimaEscrita, LongConsumer aoEscrever) {
+            this.ultimaEscrita = ultimaEscrita;
+            this.aoEscrever = aoEscrever;
+        }
+        
+        /**
+         * Token no futuro (relógio adiantado ou forjado) não conta
+         */
+        boolean escreveuHaMenosDe(long millis) {
+            long idade = System.currentTimeMillis() - ultimaEscrita;
+            return idade >= 0 && idade < millis;
+        }
+        
+        void registrarEscrita(long instante) {
+            ultimaEscrita = instante;
+            aoEscrever.accept(instante);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.application.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Ler o que escreveu entre requisições (LeituraEscritaDataSource): o instante da última escrita do cliente
+ * vai e volta no cookie {@value #COOKIE}, válido pelo atraso máximo da réplica
+ * 
+ * O cookie é gravado no commit, ainda dentro do controller, antes de a resposta começar a ser enviada.
+ * Cliente sem o cookie (novo, expirado ou que não guarda cookies): leituras na réplica
+ */
+public class LeituraPropriaEscritaFilter extends OncePerRequestFilter {
+    
+    public static final String COOKIE = "usuarios-escrita";
+    
+    private final Duration atrasoMaximo;
+    
+    public LeituraPropriaEscritaFilter(Duration atrasoMaximo) {
+        this.atrasoMaximo = atrasoMaximo;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        LeituraEscritaDataSource.iniciarCliente(ultimaEscrita(request), instante -> {
+            if (!response.isCommitted()) {
+                response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, String.valueOf(instante))
+                        .maxAge(atrasoMaximo)
+                        .path("/")
+                        .httpOnly(true)
+                        .sameSite("Lax")
+                        .build()
+                        .toString());
+            }
+        });
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            LeituraEscritaDataSource.encerrarCliente();
+        }
+    }
+    
+    private static long ultimaEscrita(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE);
+        if (cookie == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+}
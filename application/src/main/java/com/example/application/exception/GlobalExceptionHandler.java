@@ -1,11 +1,16 @@
 package com.example.application.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLTransientConnectionException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -13,6 +18,8 @@ import java.util.Map;
 /**
  * Handler Global de Exceções
  * Trata as exceções de domínio e converte em respostas HTTP apropriadas
+ *
+ * Corpo sempre em JSON, mesmo quando o cliente só aceita outro formato (ex: text/event-stream do feed)
  */
 @Slf4j
 @RestControllerAdvice
@@ -28,7 +35,35 @@ public class GlobalExceptionHandler {
                 ex.getMessage()
         );
         
-        return ResponseEntity.status(code.getHttpStatus()).body(body);
+        return ResponseEntity.status(code.getHttpStatus()).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+    
+    /**
+     * Sem conexão livre no pool dentro do connection-timeout (Hikari): sobrecarga passageira, não erro do servidor
+     * Com virtual threads é o caminho normal de rejeição (ver application-virtual-threads.yml)
+     */
+    @ExceptionHandler({
+            CannotCreateTransactionException.class,
+            CannotGetJdbcConnectionException.class,
+            SQLTransientConnectionException.class
+    })
+    public ResponseEntity<Map<String, Object>> handleSemConexao(Exception ex) {
+        ResponseErrorCode serviceUnavailable = ResponseErrorCode.SERVICE_UNAVAILABLE;
+
+        String message = "Serviço temporariamente sobrecarregado. Tente novamente em instantes.";
+
+        Map<String, Object> body = errorBuild(
+                serviceUnavailable.getHttpStatus(),
+                serviceUnavailable.getErrorKey(),
+                message
+        );
+
+        log.warn("Requisição rejeitada sem conexão com o banco: {}", ex.getMessage());
+
+        return ResponseEntity.status(serviceUnavailable.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
     
     @ExceptionHandler(Exception.class)
@@ -45,7 +80,7 @@ public class GlobalExceptionHandler {
 
         log.error(message, ex);
         
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     private Map<String, Object> errorBuild(HttpStatus httpStatus, String errorKey, String message) {
@@ -12,7 +12,10 @@ public enum ResponseErrorCode {
     FORBIDDEN(403, "FORBIDDEN"),
     NOT_FOUND(404, "NOT_FOUND"),
     CONFLICT(409, "CONFLICT"),
-    INTERNAL_SERVER_ERROR(500, "INTERNAL_SERVER_ERROR");
+    PRECONDITION_FAILED(412, "PRECONDITION_FAILED"),
+    TOO_MANY_REQUESTS(429, "TOO_MANY_REQUESTS"),
+    INTERNAL_SERVER_ERROR(500, "INTERNAL_SERVER_ERROR"),
+    SERVICE_UNAVAILABLE(503, "SERVICE_UNAVAILABLE");
 
     private int httpStatus;
     private String errorKey;
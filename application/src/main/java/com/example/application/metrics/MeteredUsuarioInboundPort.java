@@ -0,0 +1,72 @@
+package com.example.application.metrics;
+
+import com.example.domain.exception.UsuarioInvalidoException;
+import com.example.domain.exception.UsuarioNaoEncontradoException;
+import com.example.domain.model.AtualizacaoUsuario;
+import com.example.domain.model.ResultadoCriacaoUsuario;
+import com.example.domain.model.Usuario;
+import com.example.domain.ports.in.UsuarioInboundPort;
+import com.example.domain.valueobject.CPF;
+import com.example.domain.valueobject.Email;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+
+/**
+ * Decorator da porta de entrada com métricas (Micrometer)
+ * 
+ * Mantém o Domain sem frameworks: a medição fica aqui no Application
+ * e é montada em volta do UsuarioUseCaseImpl no UseCaseConfiguration
+ * 
+ * Métrica: usuarios.port{port=UsuarioInboundPort, method, outcome, exception}
+ */
+public class MeteredUsuarioInboundPort implements UsuarioInboundPort {
+    
+    private final UsuarioInboundPort delegate;
+    private final PortMetrics metrics;
+    
+    public MeteredUsuarioInboundPort(UsuarioInboundPort delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new PortMetrics(registry, "usuarios.port", "UsuarioInboundPort");
+    }
+    
+    @Override
+    public Usuario criarUsuario(String nome, Email email, CPF cpf) throws UsuarioInvalidoException {
+        return metrics.medir("criarUsuario", () -> delegate.criarUsuario(nome, email, cpf));
+    }
+    
+    @Override
+    public List<ResultadoCriacaoUsuario> criarUsuarios(List<Usuario> novosUsuarios) {
+        return metrics.medir("criarUsuarios", () -> delegate.criarUsuarios(novosUsuarios));
+    }
+    
+    @Override
+    public Usuario buscarUsuarioPorId(Long id) throws UsuarioNaoEncontradoException {
+        return metrics.medir("buscarUsuarioPorId", () -> delegate.buscarUsuarioPorId(id));
+    }
+    
+    @Override
+    public List<Usuario> listarTodosUsuarios() {
+        return metrics.medir("listarTodosUsuarios", delegate::listarTodosUsuarios);
+    }
+    
+    @Override
+    public Usuario atualizarUsuario(Long id, AtualizacaoUsuario atualizacao)
+            throws UsuarioNaoEncontradoException, UsuarioInvalidoException {
+        return metrics.<Usuario, UsuarioNaoEncontradoException, UsuarioInvalidoException>medirComDuasExcecoes(
+                "atualizarUsuario", () -> delegate.atualizarUsuario(id, atualizacao));
+    }
+    
+    @Override
+    public void removerUsuario(Long id) throws UsuarioNaoEncontradoException {
+        metrics.medir("removerUsuario", () -> {
+            delegate.removerUsuario(id);
+            return null;
+        });
+    }
+    
+    @Override
+    public List<Usuario> removerUsuarios(List<Long> ids) {
+        return metrics.medir("removerUsuarios", () -> delegate.removerUsuarios(ids));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.application.metrics;
+
+import com.example.domain.model.Usuario;
+import com.example.domain.ports.out.UsuarioOutboundPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Decorator da porta de saída com métricas (Micrometer)
+ * 
+ * Envolve o adapter injetado (JPA, ou o decorator com Bloom filter quando ativo),
+ * então mede o custo visto pelo Domain, inclusive o que o Bloom filter evita
+ * 
+ * Métrica: usuarios.port{port=UsuarioOutboundPort, method, outcome, exception}
+ */
+public class MeteredUsuarioOutboundPort implements UsuarioOutboundPort {
+    
+    private final UsuarioOutboundPort delegate;
+    private final PortMetrics metrics;
+    
+    public MeteredUsuarioOutboundPort(UsuarioOutboundPort delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new PortMetrics(registry, "usuarios.port", "UsuarioOutboundPort");
+    }
+    
+    @Override
+    public Usuario salvar(Usuario usuario) {
+        return metrics.medir("salvar", () -> delegate.salvar(usuario));
+    }
+    
+    @Override
+    public List<Usuario> salvarTodos(List<Usuario> usuarios) {
+        return metrics.medir("salvarTodos", () -> delegate.salvarTodos(usuarios));
+    }
+    
+    @Override
+    public Usuario atualizar(Usuario usuario) {
+        return metrics.medir("atualizar", () -> delegate.atualizar(usuario));
+    }
+    
+    @Override
+    public Optional<Usuario> buscarPorId(Long id) {
+        return metrics.medir("buscarPorId", () -> delegate.buscarPorId(id));
+    }
+    
+    @Override
+    public List<Usuario> buscarTodos() {
+        return metrics.medir("buscarTodos", delegate::buscarTodos);
+    }
+    
+    @Override
+    public int deletar(Long id) {
+        return metrics.medir("deletar", () -> delegate.deletar(id));
+    }
+    
+    @Override
+    public List<Usuario> deletarTodos(Collection<Long> ids) {
+        return metrics.medir("deletarTodos", () -> delegate.deletarTodos(ids));
+    }
+    
+    @Override
+    public Optional<Usuario> buscarPorEmail(String email) {
+        return metrics.medir("buscarPorEmail", () -> delegate.buscarPorEmail(email));
+    }
+    
+    @Override
+    public Set<String> buscarEmailsExistentes(Collection<String> emails) {
+        return metrics.medir("buscarEmailsExistentes", () -> delegate.buscarEmailsExistentes(emails));
+    }
+}
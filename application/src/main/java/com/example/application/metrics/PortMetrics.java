@@ -0,0 +1,77 @@
+package com.example.application.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Timer por método de porta, no mesmo formato do http.server.requests:
+ * 
+ * {@code <nome>{method, outcome=SUCCESS|ERROR, exception=<classe>|none}}
+ * 
+ * O count de cada timer é o contador de chamadas (e de erros, por outcome).
+ * Histograma de percentis ligado por configuração
+ * (management.metrics.distribution.percentiles-histogram.usuarios.port)
+ */
+final class PortMetrics {
+    
+    /**
+     * Chamada a uma porta, propagando a exceção verificada declarada pelo método
+     */
+    @FunctionalInterface
+    interface Chamada<T, E extends Exception> {
+        T executar() throws E;
+    }
+    
+    /**
+     * Chamada a um método que declara duas exceções verificadas
+     */
+    @FunctionalInterface
+    interface ChamadaDuasExcecoes<T, E1 extends Exception, E2 extends Exception> {
+        T executar() throws E1, E2;
+    }
+    
+    private final MeterRegistry registry;
+    private final String nome;
+    private final String porta;
+    
+    PortMetrics(MeterRegistry registry, String nome, String porta) {
+        this.registry = registry;
+        this.nome = nome;
+        this.porta = porta;
+    }
+    
+    <T, E extends Exception> T medir(String metodo, Chamada<T, E> chamada) throws E {
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            T resultado = chamada.executar();
+            sample.stop(timer(metodo, "SUCCESS", "none"));
+            return resultado;
+        } catch (Exception | Error ex) {
+            sample.stop(timer(metodo, "ERROR", ex.getClass().getSimpleName()));
+            throw ex;
+        }
+    }
+    
+    <T, E1 extends Exception, E2 extends Exception> T medirComDuasExcecoes(
+            String metodo, ChamadaDuasExcecoes<T, E1, E2> chamada) throws E1, E2 {
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            T resultado = chamada.executar();
+            sample.stop(timer(metodo, "SUCCESS", "none"));
+            return resultado;
+        } catch (Exception | Error ex) {
+            sample.stop(timer(metodo, "ERROR", ex.getClass().getSimpleName()));
+            throw ex;
+        }
+    }
+    
+    private Timer timer(String metodo, String outcome, String exception) {
+        return Timer.builder(nome)
+                .description("Latência das chamadas à porta " + porta)
+                .tag("port", porta)
+                .tag("method", metodo)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(registry);
+    }
+}
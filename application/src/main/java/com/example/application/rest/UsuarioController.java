@@ -1,16 +1,32 @@
 package com.example.application.rest;
 
+import com.example.application.exception.ApiException;
+import com.example.application.exception.ResponseErrorCode;
+import com.example.application.rest.dto.ComandoCriacaoResponse;
+import com.example.application.rest.dto.UsuarioLoteResponse;
+import com.example.application.rest.dto.UsuarioRemocaoLoteResponse;
 import com.example.application.rest.dto.UsuarioRequest;
 import com.example.application.rest.dto.UsuarioResponse;
 import com.example.application.service.command.UsuarioCommandService;
+import com.example.application.service.command.async.CriacaoUsuarioAssincrona;
 import com.example.application.service.query.UsuarioQueryService;
-import com.example.application.service.query.dto.UsuarioListResponse;
+import com.example.application.service.query.dto.UsuarioBuscaResponse;
+import com.example.application.service.query.dto.UsuarioDeltaResponse;
+import com.example.application.service.query.dto.UsuarioPageResponse;
+import com.example.application.service.query.feed.UsuarioFeedMudancas;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Adaptador de Entrada - Controller REST
@@ -31,45 +47,157 @@ public class UsuarioController {
     
     private final UsuarioCommandService commandService;
     private final UsuarioQueryService queryService;
+    private final Optional<CriacaoUsuarioAssincrona> criacaoAssincrona;
+    private final Optional<UsuarioFeedMudancas> feedMudancas;
     
     /**
      * CREATE - Command (passa por Domain)
      * POST tem lógica de negócio, validações, regras
+     * 
+     * Com app.usuarios.async-commands.enabled=true: 202 Accepted + Location do status do comando
+     * (ou 429 com a fila cheia), e o usuário é gravado em lote pela CriacaoUsuarioAssincrona
      */
     @PostMapping
-    public ResponseEntity<UsuarioResponse> criarUsuario(@RequestBody UsuarioRequest request) {
+    public ResponseEntity<?> criarUsuario(@RequestBody UsuarioRequest request) {
+        if (criacaoAssincrona.isPresent()) {
+            ComandoCriacaoResponse comando = criacaoAssincrona.get().enfileirar(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/usuarios/comandos/" + comando.getId()))
+                    .body(comando);
+        }
         UsuarioResponse response = commandService.criarUsuario(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    /**
+     * Status de um comando de criação assíncrona (PENDENTE, CRIADO ou FALHOU)
+     */
+    @GetMapping("/comandos/{id}")
+    public ResponseEntity<ComandoCriacaoResponse> buscarComando(@PathVariable UUID id) {
+        CriacaoUsuarioAssincrona criacao = criacaoAssincrona.orElseThrow(() ->
+                new ApiException(ResponseErrorCode.NOT_FOUND, "Criação assíncrona de usuários desabilitada", null));
+        return criacao.buscarSituacao(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * CREATE em lote - Command (passa por Domain)
+     * 201 quando todos foram criados, 207 (Multi-Status) quando algum item falhou
+     */
+    @PostMapping("/lote")
+    public ResponseEntity<UsuarioLoteResponse> criarUsuarios(@RequestBody List<UsuarioRequest> requests) {
+        UsuarioLoteResponse response = commandService.criarUsuarios(requests);
+        HttpStatus status = response.getFalhas() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+    
     /**
      * READ - Query (bypass Domain)
      * GET simples sem lógica, apenas busca dados
+     * 
+     * ETag forte "<id>-<versao>". Com If-None-Match, a versão vem do cache
+     * ou de uma consulta só da coluna versao: 304 sem carregar nem serializar o usuário.
+     * Sem correspondência, o ETag do 200 é o do usuário carregado (a versão prévia só decide o 304)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<UsuarioResponse> buscarUsuario(@PathVariable Long id) {
+    public ResponseEntity<UsuarioResponse> buscarUsuario(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<Long> versao = queryService.buscarVersao(id);
+            if (versao.isPresent() && corresponde(ifNoneMatch, etag(id, versao.get()))) {
+                return naoModificado(etag(id, versao.get()));
+            }
+        }
         return queryService.buscarPorId(id)
-                .map(ResponseEntity::ok)
+                .map(UsuarioController::comEtag)
                 .orElse(ResponseEntity.notFound().build());
     }
     
     /**
      * READ - Query (bypass Domain)
-     * Listagem simples sem lógica
+     * Listagem paginada por cursor: ?after={ultimoId}&limit={tamanho}
+     * 
+     * ETag da página (ids e versões das linhas). Com If-None-Match, consulta só id e versão: 304 se nada mudou;
+     * senão o ETag do 200 é calculado da página listada
      */
     @GetMapping
-    public ResponseEntity<List<UsuarioListResponse>> listarUsuarios() {
-        List<UsuarioListResponse> usuarios = queryService.listarTodosUsuarios();
-        return ResponseEntity.ok(usuarios);
+    public ResponseEntity<UsuarioPageResponse> listarUsuarios(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String versao = queryService.versaoPagina(after, limit);
+            if (corresponde(ifNoneMatch, versao)) {
+                return naoModificado(versao);
+            }
+        }
+        UsuarioPageResponse pagina = queryService.listarUsuarios(after, limit);
+        return ResponseEntity.ok()
+                .eTag(UsuarioQueryService.versaoPagina(pagina))
+                .body(pagina);
+    }
+    
+    /**
+     * READ - Delta sync (bypass Domain)
+     * Só o que mudou desde a última sincronização: ?since={token}&limit={tamanho}
+     * 
+     * Sem since, todos os usuários existentes (sincronização inicial), também em páginas
+     */
+    @GetMapping("/delta")
+    public ResponseEntity<UsuarioDeltaResponse> listarMudancas(
+            @RequestParam(required = false) Long since,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(queryService.listarMudancas(since, limit));
+    }
+    
+    /**
+     * READ - Query de busca por parte do nome/email (bypass Domain)
+     * Top-K por relevância: ?q={texto}&limit={tamanho}
+     */
+    @GetMapping("/search")
+    public ResponseEntity<UsuarioBuscaResponse> buscarUsuarios(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(queryService.buscarPorTexto(q, limit));
+    }
+    
+    /**
+     * READ - Query de exportação (bypass Domain)
+     * Streaming NDJSON: cada usuário é escrito na resposta assim que lido do banco
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportarUsuarios() {
+        StreamingResponseBody body = queryService::exportarUsuarios;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+    
+    /**
+     * READ - Feed de mudanças em Server-Sent Events (bypass Domain)
+     * Eventos usuario.criado/usuario.atualizado/usuario.removido à medida que os commits acontecem
+     * 
+     * Last-Event-ID retoma de onde o cliente parou; fora do histórico, evento "resync"
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter acompanharMudancas(
+            @RequestHeader(value = "Last-Event-ID", required = false) String ultimoEventoId) {
+        UsuarioFeedMudancas feed = feedMudancas.orElseThrow(() ->
+                new ApiException(ResponseErrorCode.NOT_FOUND, "Feed de mudanças de usuários desabilitado", null));
+        return feed.assinar(ultimoEventoId);
     }
     
     /**
      * READ - Query por email (bypass Domain)
+     * ETag "<id>-<versao>": If-None-Match igual responde 304 sem corpo (Spring MVC). Com o id no ETag, um usuário
+     * removido e recriado com o mesmo email (versão 0 de novo) não corresponde ao ETag do anterior
      */
     @GetMapping("/email/{email}")
     public ResponseEntity<UsuarioResponse> buscarPorEmail(@PathVariable String email) {
         return queryService.buscarPorEmail(email)
-                .map(ResponseEntity::ok)
+                .map(UsuarioController::comEtag)
                 .orElse(ResponseEntity.notFound().build());
     }
     
@@ -84,7 +212,7 @@ public class UsuarioController {
     
     /**
      * DELETE - Command (passa por Domain)
-     * DELETE tem lógica: verificar existência, possíveis validações
+     * Um DELETE sem ler o usuário antes (e o INSERT do tombstone, na mesma transação): 404 quando nenhuma linha foi afetada
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> removerUsuario(@PathVariable Long id) {
@@ -92,16 +220,115 @@ public class UsuarioController {
         return ResponseEntity.noContent().build();
     }
     
+    /**
+     * DELETE em lote - Command (passa por Domain)
+     * Corpo: lista de ids. 200 com os ids removidos e os não encontrados
+     */
+    @DeleteMapping("/lote")
+    public ResponseEntity<UsuarioRemocaoLoteResponse> removerUsuarios(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(commandService.removerUsuarios(ids));
+    }
+    
     /**
      * UPDATE - Command (passa por Domain)
-     * PUT/PATCH tem lógica de negócio
+     * PUT substitui nome, email e CPF (CPF ausente remove o CPF)
+     * 
+     * If-Match opcional com o ETag de uma leitura ou escrita anterior: 409 se o usuário mudou desde então,
+     * 412 se o ETag for fraco ou de outro usuário. Resposta com ETag da nova versão
      */
     @PutMapping("/{id}")
-    public ResponseEntity<UsuarioResponse> buscarPorId(
+    public ResponseEntity<UsuarioResponse> atualizarUsuario(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody UsuarioRequest request) {
-        UsuarioResponse response = commandService.buscarUsuarioPorId(id);
-        return ResponseEntity.ok(response);
+        return comEtag(commandService.atualizarUsuario(id, request, versaoEsperada(id, ifMatch), false));
+    }
+    
+    /**
+     * UPDATE parcial - Command (passa por Domain)
+     * PATCH altera só os campos informados (campo ausente ou null mantém o valor)
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<UsuarioResponse> atualizarUsuarioParcial(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UsuarioRequest request) {
+        return comEtag(commandService.atualizarUsuario(id, request, versaoEsperada(id, ifMatch), true));
+    }
+    
+    /**
+     * ETag de um usuário: o id junto da versão, que sozinha se repete entre usuários (todo usuário nasce na versão 0)
+     */
+    static String etag(Long id, Long versao) {
+        return id + "-" + versao;
+    }
+    
+    /**
+     * 200 com ETag forte "<id>-<versao>" (o valor aceito no If-Match de PUT/PATCH)
+     */
+    private static ResponseEntity<UsuarioResponse> comEtag(UsuarioResponse response) {
+        if (response.getVersao() == null) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag(response.getId(), response.getVersao()))
+                .body(response);
+    }
+    
+    /**
+     * 304 com o ETag da versão atual, sem corpo
+     */
+    private static <T> ResponseEntity<T> naoModificado(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    
+    /**
+     * If-None-Match contra o ETag atual: comparação fraca (W/"7-3" corresponde a "7-3"), "*" corresponde a qualquer um
+     */
+    static boolean corresponde(String ifNoneMatch, String etag) {
+        for (String candidato : ifNoneMatch.split(",")) {
+            String valor = candidato.trim();
+            if (valor.equals("*")) {
+                return true;
+            }
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if (valor.replace("\"", "").equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * If-Match → versão esperada: ausente ou "*" não verificam; aceita 7-3 e "7-3" (ETag do usuário 7 na versão 3)
+     * 
+     * If-Match usa comparação forte: um ETag fraco (W/"7-3") ou de outro usuário nunca corresponde, 412
+     */
+    static Long versaoEsperada(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String valor = ifMatch.trim();
+        if (valor.startsWith("W/")) {
+            throw new ApiException(ResponseErrorCode.PRECONDITION_FAILED,
+                    "If-Match exige ETag forte: " + ifMatch, null);
+        }
+        valor = valor.replace("\"", "");
+        int separador = valor.lastIndexOf('-');
+        Long idEtag;
+        Long versao;
+        try {
+            idEtag = Long.valueOf(valor.substring(0, Math.max(separador, 0)));
+            versao = Long.valueOf(valor.substring(separador + 1));
+        } catch (NumberFormatException ex) {
+            throw new ApiException(ResponseErrorCode.INVALID_REQUEST, "If-Match inválido: " + ifMatch, ex);
+        }
+        if (!idEtag.equals(id)) {
+            throw new ApiException(ResponseErrorCode.PRECONDITION_FAILED,
+                    "If-Match de outro usuário: " + ifMatch, null);
+        }
+        return versao;
     }
 }
-
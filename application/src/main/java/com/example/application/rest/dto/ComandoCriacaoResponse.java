@@ -0,0 +1,31 @@
+package com.example.application.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO com a situação de um comando de criação assíncrona (202 Accepted)
+ * 
+ * usuarioId: preenchido apenas quando o usuário foi criado
+ * erro: preenchido apenas quando o comando falhou
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComandoCriacaoResponse {
+    
+    public enum Status {
+        PENDENTE,
+        CRIADO,
+        FALHOU
+    }
+    
+    private UUID id;
+    private Status status;
+    private String email;
+    private Long usuarioId;
+    private String erro;
+}
@@ -0,0 +1,23 @@
+package com.example.application.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com o resultado de um item da criação em lote
+ * 
+ * posicao: índice do item na requisição (começa em 0)
+ * id: preenchido apenas quando o usuário foi criado
+ * erro: preenchido apenas quando o item foi rejeitado
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioLoteItemResponse {
+    private int posicao;
+    private boolean criado;
+    private Long id;
+    private String email;
+    private String erro;
+}
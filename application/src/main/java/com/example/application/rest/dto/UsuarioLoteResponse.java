@@ -0,0 +1,22 @@
+package com.example.application.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da criação de usuários em lote
+ * 
+ * Um item por usuário enviado, na mesma ordem da requisição
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioLoteResponse {
+    private int total;
+    private int criados;
+    private int falhas;
+    private List<UsuarioLoteItemResponse> itens;
+}
@@ -0,0 +1,20 @@
+package com.example.application.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da remoção de usuários em lote
+ * 
+ * IDs repetidos na requisição aparecem uma vez só
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioRemocaoLoteResponse {
+    private List<Long> removidos;
+    private List<Long> naoEncontrados;
+}
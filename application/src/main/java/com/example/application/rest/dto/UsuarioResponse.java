@@ -1,5 +1,6 @@
 package com.example.application.rest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,5 +19,15 @@ public class UsuarioResponse {
     private String nome;
     private String email;       // Vem de Email (Value Object)
     private String cpf;          // Vem de CPF (Value Object) - pode ser null
+    
+    /**
+     * Versão do usuário (controle otimista), só nas respostas de escrita; também vai no ETag
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long versao;
+    
+    public UsuarioResponse(Long id, String nome, String email, String cpf) {
+        this(id, nome, email, cpf, null);
+    }
 }
 
@@ -2,17 +2,33 @@ package com.example.application.service.command;
 
 import com.example.application.exception.ApiException;
 import com.example.application.exception.ResponseErrorCode;
+import com.example.application.service.query.cache.UsuarioQueryCache;
+import com.example.domain.exception.ConflitoVersaoException;
 import com.example.domain.exception.UsuarioInvalidoException;
 import com.example.domain.exception.UsuarioNaoEncontradoException;
+import com.example.domain.model.AtualizacaoUsuario;
+import com.example.domain.model.ResultadoCriacaoUsuario;
 import com.example.domain.model.Usuario;
 import com.example.domain.ports.in.UsuarioInboundPort;
 import com.example.domain.valueobject.CPF;
 import com.example.domain.valueobject.Email;
+import com.example.application.rest.dto.UsuarioLoteItemResponse;
+import com.example.application.rest.dto.UsuarioLoteResponse;
+import com.example.application.rest.dto.UsuarioRemocaoLoteResponse;
 import com.example.application.rest.dto.UsuarioRequest;
 import com.example.application.rest.dto.UsuarioResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Command Service - Operações de ESCRITA (Write)
@@ -32,7 +48,13 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class UsuarioCommandService {
     
+    /**
+     * Quantidade máxima de usuários aceitos em uma única requisição de lote
+     */
+    public static final int MAXIMO_ITENS_LOTE = 50_000;
+    
     private final UsuarioInboundPort usuarioInboundPort;
+    private final UsuarioQueryCache queryCache;
     
     /**
      * Cria um novo usuário
@@ -42,7 +64,10 @@ public class UsuarioCommandService {
      * - Receber dados do adapter (REST, CLI, etc.)
      * - Converter Strings → Value Objects
      * - Chamar o Domain com objetos válidos
+     * 
+     * Transação: o INSERT do usuário e o do evento no outbox são confirmados juntos
      */
+    @Transactional
     public UsuarioResponse criarUsuario(UsuarioRequest request) {
         log.info("Command: Criar usuário com email {}", request.getEmail());
         
@@ -55,6 +80,7 @@ public class UsuarioCommandService {
                     email,  // Value Object
                     cpf     // Value Object (null se não informado)
             );
+            queryCache.invalidarCriado(usuario.getId(), usuario.getEmailAsString());
 
             return toResponse(usuario);
         } catch (IllegalArgumentException | UsuarioInvalidoException ex) {
@@ -63,25 +89,157 @@ public class UsuarioCommandService {
 
     }
 
+    /**
+     * Cria usuários em lote
+     * PASSA por Domain: mesmas regras da criação individual, aplicadas ao lote inteiro
+     * 
+     * - Conversão para Value Objects item a item: item inválido vira falha, não aborta o lote
+     * - Uma transação para o lote: INSERTs em batch JDBC
+     */
+    @Transactional
+    public UsuarioLoteResponse criarUsuarios(List<UsuarioRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAXIMO_ITENS_LOTE) {
+            throw new ApiException(ResponseErrorCode.INVALID_REQUEST,
+                    "O lote deve conter entre 1 e " + MAXIMO_ITENS_LOTE + " usuários", null);
+        }
+        
+        log.info("Command: Criar {} usuários em lote", requests.size());
+        
+        UsuarioLoteItemResponse[] itens = new UsuarioLoteItemResponse[requests.size()];
+        List<Integer> posicoesConvertidas = new ArrayList<>();
+        List<Usuario> novosUsuarios = new ArrayList<>();
+        
+        for (int i = 0; i < requests.size(); i++) {
+            UsuarioRequest request = requests.get(i);
+            if (request == null) {
+                itens[i] = new UsuarioLoteItemResponse(i, false, null, null, "Item do lote não pode ser nulo");
+                continue;
+            }
+            if (request.getNome() == null) {
+                itens[i] = new UsuarioLoteItemResponse(i, false, null, request.getEmail(), "Nome não pode ser vazio");
+                continue;
+            }
+            try {
+                Email email = Email.of(request.getEmail());
+                CPF cpf = CPF.of(request.getCpf());
+                novosUsuarios.add(new Usuario(request.getNome(), email, cpf));
+                posicoesConvertidas.add(i);
+            } catch (IllegalArgumentException ex) {
+                itens[i] = new UsuarioLoteItemResponse(i, false, null, request.getEmail(), ex.getMessage());
+            }
+        }
+        
+        List<ResultadoCriacaoUsuario> resultados;
+        try {
+            resultados = usuarioInboundPort.criarUsuarios(novosUsuarios);
+        } catch (DataIntegrityViolationException ex) {
+            // Corrida com outra escrita do mesmo email entre a verificação e o INSERT
+            throw new ApiException(ResponseErrorCode.CONFLICT,
+                    "Conflito de email durante a criação em lote. Nenhum usuário foi criado.", ex);
+        }
+        
+        for (int i = 0; i < resultados.size(); i++) {
+            int posicao = posicoesConvertidas.get(i);
+            ResultadoCriacaoUsuario resultado = resultados.get(i);
+            Usuario usuario = resultado.getUsuario();
+            if (resultado.isSucesso()) {
+                queryCache.invalidarCriado(usuario.getId(), usuario.getEmailAsString());
+            }
+            itens[posicao] = new UsuarioLoteItemResponse(
+                    posicao,
+                    resultado.isSucesso(),
+                    resultado.isSucesso() ? usuario.getId() : null,
+                    usuario != null ? usuario.getEmailAsString() : null,
+                    resultado.getErro()
+            );
+        }
+        
+        int criados = (int) resultados.stream().filter(ResultadoCriacaoUsuario::isSucesso).count();
+        return new UsuarioLoteResponse(itens.length, criados, itens.length - criados, Arrays.asList(itens));
+    }
+
+    /**
+     * Remove um usuário
+     * Transação: o DELETE do usuário e o evento no outbox são confirmados juntos
+     */
+    @Transactional
     public void removerUsuario(Long id) {
         try {
             usuarioInboundPort.removerUsuario(id);
+            queryCache.invalidarRemovido(id);
         } catch (UsuarioNaoEncontradoException ex) {
             throw new ApiException(ResponseErrorCode.NOT_FOUND, ex.getMessage(), ex);
         }
     }
 
     /**
-     * TODO: construir na hora com o pessoal para explicar o Exception tratável
+     * Remove usuários em lote
+     * PASSA por Domain: um evento de remoção por usuário removido
+     * 
+     * Uma transação para o lote: statements set-based em chunks, sem carregar as entidades
      */
-    public UsuarioResponse buscarUsuarioPorId(Long id) {
-        /*try {
-            Usuario usuario = usuarioInboundPort.buscarUsuarioPorId(id);
+    @Transactional
+    public UsuarioRemocaoLoteResponse removerUsuarios(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAXIMO_ITENS_LOTE) {
+            throw new ApiException(ResponseErrorCode.INVALID_REQUEST,
+                    "O lote deve conter entre 1 e " + MAXIMO_ITENS_LOTE + " ids", null);
+        }
+        if (ids.contains(null)) {
+            throw new ApiException(ResponseErrorCode.INVALID_REQUEST, "O lote não pode conter ids nulos", null);
+        }
+        
+        log.info("Command: Remover {} usuários em lote", ids.size());
+        
+        Set<Long> removidos = new LinkedHashSet<>();
+        for (Usuario usuario : usuarioInboundPort.removerUsuarios(ids)) {
+            removidos.add(usuario.getId());
+            queryCache.invalidarRemovido(usuario.getId(), usuario.getEmailAsString());
+        }
+        List<Long> naoEncontrados = ids.stream()
+                .distinct()
+                .filter(id -> !removidos.contains(id))
+                .collect(Collectors.toList());
+        return new UsuarioRemocaoLoteResponse(new ArrayList<>(removidos), naoEncontrados);
+    }
+
+    /**
+     * Atualiza um usuário
+     * PASSA por Domain: validação, email duplicado, versão esperada
+     * 
+     * - parcial=false (PUT): nome e email obrigatórios, CPF ausente remove o CPF
+     * - parcial=true (PATCH): só os campos informados são alterados
+     * - versaoEsperada: do If-Match (null = sem verificação)
+     * 
+     * Transação: o UPDATE do usuário e o evento no outbox são confirmados juntos
+     */
+    @Transactional
+    public UsuarioResponse atualizarUsuario(Long id, UsuarioRequest request, Long versaoEsperada, boolean parcial) {
+        log.info("Command: Atualizar usuário {}", id);
+        
+        try {
+            String nome = request.getNome();
+            Email email = parcial && request.getEmail() == null ? null : Email.of(request.getEmail());
+            CPF cpf = request.getCpf() == null || request.getCpf().isBlank() ? null : CPF.of(request.getCpf());
+            if (!parcial && nome == null) {
+                throw new IllegalArgumentException("Nome não pode ser vazio");
+            }
+            AtualizacaoUsuario atualizacao = parcial
+                    ? AtualizacaoUsuario.parcial(nome, email, cpf, versaoEsperada)
+                    : AtualizacaoUsuario.substituicao(nome, email, cpf, versaoEsperada);
+            
+            // Email antes da alteração, para invalidar a sua entrada no cache de consultas. Mesma transação:
+            // o caso de uso encontra a entidade já no persistence context, sem novo SELECT
+            String emailAnterior = usuarioInboundPort.buscarUsuarioPorId(id).getEmailAsString();
+            Usuario usuario = usuarioInboundPort.atualizarUsuario(id, atualizacao);
+            queryCache.invalidarAtualizado(usuario.getId(), emailAnterior, usuario.getEmailAsString());
             return toResponse(usuario);
+        } catch (IllegalArgumentException | UsuarioInvalidoException ex) {
+            throw new ApiException(ResponseErrorCode.INVALID_REQUEST, ex.getMessage(), ex);
         } catch (UsuarioNaoEncontradoException ex) {
-            throw new ApiException(ResponseErrorCode.USUARIO_NAO_ENCONTRADO, "Usuário não encontrado ao tentar atualizar.", ex);
-        }*/
-        return null;
+            throw new ApiException(ResponseErrorCode.NOT_FOUND, ex.getMessage(), ex);
+        } catch (ConflitoVersaoException ex) {
+            throw new ApiException(ResponseErrorCode.CONFLICT, ex.getMessage(), ex);
+        }
     }
     
     private UsuarioResponse toResponse(Usuario usuario) {
@@ -89,7 +247,8 @@ public class UsuarioCommandService {
             usuario.getId(),
             usuario.getNome(),
             usuario.getEmailAsString(),
-            usuario.getCpfAsString()
+            usuario.getCpfAsString(),
+            usuario.getVersao()
         );
     }
 }
@@ -0,0 +1,301 @@
+package com.example.application.service.command.async;
+
+import com.example.application.exception.ApiException;
+import com.example.application.exception.ResponseErrorCode;
+import com.example.application.rest.dto.ComandoCriacaoResponse;
+import com.example.application.rest.dto.UsuarioRequest;
+import com.example.application.service.query.cache.UsuarioQueryCache;
+import com.example.domain.exception.UsuarioInvalidoException;
+import com.example.domain.model.ResultadoCriacaoUsuario;
+import com.example.domain.model.Usuario;
+import com.example.domain.ports.in.UsuarioInboundPort;
+import com.example.domain.valueobject.CPF;
+import com.example.domain.valueobject.Email;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criação assíncrona de usuários (opcional) - fila limitada + escrita em micro-lotes
+ * 
+ * Ativada por app.usuarios.async-commands.enabled=true. Quando ativa, POST /api/usuarios:
+ * 1. Converte e valida os Value Objects na própria requisição (400 continua síncrono)
+ * 2. Enfileira o comando e responde 202 Accepted com o recurso de status
+ *    (GET /api/usuarios/comandos/{id})
+ * 3. Fila cheia: 429 Too Many Requests (backpressure, nada é enfileirado)
+ * 
+ * Uma thread escritora drena a fila em lotes: fecha o lote ao atingir
+ * app.usuarios.async-commands.batch-size ou após app.usuarios.async-commands.max-wait
+ * desde o primeiro comando. Cada lote passa pelo Domain (criarUsuarios) em UMA transação:
+ * uma consulta de emails existentes e INSERTs em batch JDBC, em vez de SELECT + INSERT
+ * por requisição.
+ * 
+ * Se o lote falhar na restrição única de email (corrida com outra escrita),
+ * os comandos são refeitos um a um, para que só o conflitante falhe.
+ * 
+ * ⚠️ A fila é em memória: comandos aceitos e ainda não gravados se perdem se o processo cair.
+ * O status de cada comando fica disponível por app.usuarios.async-commands.status-ttl, limitado
+ * a app.usuarios.async-commands.status-maximum-size comandos (no mínimo a capacidade da fila,
+ * para um comando pendente não perder o status): rajadas dentro do TTL não crescem o heap sem limite.
+ * 
+ * Métricas: usuarios.comandos.fila (gauge), usuarios.comandos.lote (tamanho dos lotes),
+ * usuarios.comandos.rejeitados (429)
+ */
+@Component
+@ConditionalOnProperty(name = "app.usuarios.async-commands.enabled", havingValue = "true")
+@Slf4j
+public class CriacaoUsuarioAssincrona {
+    
+    private static final String ERRO_INESPERADO = "Erro inesperado ao gravar o usuário";
+    
+    /**
+     * Comando aceito: usuário já convertido para Value Objects
+     */
+    record Comando(UUID id, Usuario usuario) {
+    }
+    
+    private final UsuarioInboundPort usuarioInboundPort;
+    private final UsuarioQueryCache queryCache;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Comando> fila;
+    private final Cache<UUID, ComandoCriacaoResponse> situacoes;
+    private final int tamanhoLote;
+    private final Duration esperaMaxima;
+    private final DistributionSummary tamanhoLoteMetrica;
+    private final Counter rejeitados;
+    private final Thread escritor;
+    private volatile boolean executando = true;
+    
+    public CriacaoUsuarioAssincrona(
+            UsuarioInboundPort usuarioInboundPort,
+            UsuarioQueryCache queryCache,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.usuarios.async-commands.queue-capacity:10000}") int capacidade,
+            @Value("${app.usuarios.async-commands.batch-size:200}") int tamanhoLote,
+            @Value("${app.usuarios.async-commands.max-wait:50ms}") Duration esperaMaxima,
+            @Value("${app.usuarios.async-commands.status-ttl:10m}") Duration ttlSituacao,
+            @Value("${app.usuarios.async-commands.status-maximum-size:100000}") long tamanhoMaximoSituacoes) {
+        if (capacidade < 1 || tamanhoLote < 1) {
+            throw new IllegalArgumentException("queue-capacity e batch-size devem ser maiores que zero");
+        }
+        if (tamanhoMaximoSituacoes < capacidade) {
+            throw new IllegalArgumentException("status-maximum-size deve ser no mínimo a queue-capacity");
+        }
+        this.usuarioInboundPort = usuarioInboundPort;
+        this.queryCache = queryCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fila = new ArrayBlockingQueue<>(capacidade);
+        this.tamanhoLote = tamanhoLote;
+        this.esperaMaxima = esperaMaxima;
+        this.situacoes = Caffeine.newBuilder()
+                .expireAfterWrite(ttlSituacao)
+                .maximumSize(tamanhoMaximoSituacoes)
+                .build();
+        
+        Gauge.builder("usuarios.comandos.fila", fila, BlockingQueue::size)
+                .description("Comandos de criação aguardando gravação")
+                .register(meterRegistry);
+        this.tamanhoLoteMetrica = DistributionSummary.builder("usuarios.comandos.lote")
+                .description("Quantidade de comandos gravados por transação")
+                .register(meterRegistry);
+        this.rejeitados = Counter.builder("usuarios.comandos.rejeitados")
+                .description("Comandos recusados com a fila cheia (429)")
+                .register(meterRegistry);
+        
+        this.escritor = new Thread(this::executar, "usuarios-comandos-escritor");
+        this.escritor.setDaemon(true);
+    }
+    
+    @PostConstruct
+    public void iniciar() {
+        escritor.start();
+        log.info("Criação assíncrona de usuários habilitada: fila {} comandos, lotes de até {} ou {}",
+                fila.remainingCapacity(), tamanhoLote, esperaMaxima);
+    }
+    
+    /**
+     * Encerra o escritor depois de gravar o que já estava na fila
+     */
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        executando = false;
+        escritor.join(TimeUnit.SECONDS.toMillis(30));
+    }
+    
+    /**
+     * Valida e enfileira a criação
+     * 
+     * @return situação PENDENTE do comando
+     * @throws ApiException INVALID_REQUEST se os dados forem inválidos, TOO_MANY_REQUESTS se a fila estiver cheia
+     */
+    public ComandoCriacaoResponse enfileirar(UsuarioRequest request) {
+        Usuario usuario;
+        try {
+            usuario = new Usuario(request.getNome(), Email.of(request.getEmail()), CPF.of(request.getCpf()));
+        } catch (IllegalArgumentException ex) {
+            throw new ApiException(ResponseErrorCode.INVALID_REQUEST, ex.getMessage(), ex);
+        }
+        if (!usuario.isValid()) {
+            throw new ApiException(ResponseErrorCode.INVALID_REQUEST, "Dados do usuário são inválidos", null);
+        }
+        
+        Comando comando = new Comando(UUID.randomUUID(), usuario);
+        ComandoCriacaoResponse pendente = new ComandoCriacaoResponse(
+                comando.id(), ComandoCriacaoResponse.Status.PENDENTE, usuario.getEmailAsString(), null, null);
+        // Antes do offer: o escritor pode concluir o comando antes desta thread voltar
+        situacoes.put(comando.id(), pendente);
+        
+        if (!fila.offer(comando)) {
+            situacoes.invalidate(comando.id());
+            rejeitados.increment();
+            throw new ApiException(ResponseErrorCode.TOO_MANY_REQUESTS,
+                    "Fila de criação de usuários cheia. Tente novamente em instantes.", null);
+        }
+        
+        log.debug("Command: Criação de usuário com email {} enfileirada ({})", usuario.getEmailAsString(), comando.id());
+        return pendente;
+    }
+    
+    public Optional<ComandoCriacaoResponse> buscarSituacao(UUID id) {
+        return Optional.ofNullable(situacoes.getIfPresent(id));
+    }
+    
+    private void executar() {
+        List<Comando> lote = new ArrayList<>(tamanhoLote);
+        while (executando || !fila.isEmpty()) {
+            try {
+                if (proximoLote(lote)) {
+                    gravar(lote);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Falha inesperada no escritor de comandos de usuário", ex);
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+    
+    /**
+     * Espera o primeiro comando e fecha o lote por tamanho ou por tempo
+     * 
+     * @return false se nenhum comando chegou (permite conferir o encerramento)
+     */
+    private boolean proximoLote(List<Comando> lote) throws InterruptedException {
+        Comando primeiro = fila.poll(1, TimeUnit.SECONDS);
+        if (primeiro == null) {
+            return false;
+        }
+        lote.add(primeiro);
+        
+        long prazo = System.nanoTime() + esperaMaxima.toNanos();
+        while (lote.size() < tamanhoLote) {
+            // Já enfileirados: sem esperar
+            if (fila.drainTo(lote, tamanhoLote - lote.size()) > 0) {
+                continue;
+            }
+            long restante = prazo - System.nanoTime();
+            Comando proximo = restante > 0 ? fila.poll(restante, TimeUnit.NANOSECONDS) : null;
+            if (proximo == null) {
+                break;
+            }
+            lote.add(proximo);
+        }
+        return true;
+    }
+    
+    private void gravar(List<Comando> lote) {
+        tamanhoLoteMetrica.record(lote.size());
+        List<Usuario> usuarios = lote.stream().map(Comando::usuario).toList();
+        
+        List<ResultadoCriacaoUsuario> resultados;
+        try {
+            resultados = transactionTemplate.execute(status -> {
+                List<ResultadoCriacaoUsuario> criados = usuarioInboundPort.criarUsuarios(usuarios);
+                criados.stream()
+                        .filter(ResultadoCriacaoUsuario::isSucesso)
+                        .forEach(resultado -> queryCache.invalidarCriado(
+                                resultado.getUsuario().getId(), resultado.getUsuario().getEmailAsString()));
+                return criados;
+            });
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Conflito de email no lote de {} comandos: gravando um a um", lote.size());
+            lote.forEach(this::gravarIndividual);
+            return;
+        } catch (RuntimeException ex) {
+            log.error("Falha ao gravar lote de {} comandos de criação de usuário", lote.size(), ex);
+            lote.forEach(comando -> registrar(comando, null, ERRO_INESPERADO));
+            return;
+        }
+        
+        for (int i = 0; i < lote.size(); i++) {
+            ResultadoCriacaoUsuario resultado = resultados.get(i);
+            registrar(lote.get(i), resultado.isSucesso() ? resultado.getUsuario().getId() : null, resultado.getErro());
+        }
+    }
+    
+    /**
+     * Uma transação por comando (usuário + evento no outbox juntos)
+     */
+    private void gravarIndividual(Comando comando) {
+        Usuario usuario = comando.usuario();
+        try {
+            Usuario criado = transactionTemplate.execute(status -> {
+                try {
+                    Usuario salvo = usuarioInboundPort.criarUsuario(usuario.getNome(), usuario.getEmail(), usuario.getCpf());
+                    queryCache.invalidarCriado(salvo.getId(), salvo.getEmailAsString());
+                    return salvo;
+                } catch (UsuarioInvalidoException ex) {
+                    throw new ComandoRecusadoException(ex);
+                }
+            });
+            registrar(comando, criado.getId(), null);
+        } catch (ComandoRecusadoException ex) {
+            registrar(comando, null, ex.getCause().getMessage());
+        } catch (RuntimeException ex) {
+            log.error("Falha ao gravar comando {} de criação de usuário", comando.id(), ex);
+            registrar(comando, null, ERRO_INESPERADO);
+        }
+    }
+    
+    /**
+     * Recusa de negócio dentro do TransactionTemplate (que não propaga exceções verificadas)
+     */
+    private static final class ComandoRecusadoException extends RuntimeException {
+        ComandoRecusadoException(UsuarioInvalidoException causa) {
+            super(causa);
+        }
+    }
+    
+    private void registrar(Comando comando, Long usuarioId, String erro) {
+        ComandoCriacaoResponse.Status status = erro == null
+                ? ComandoCriacaoResponse.Status.CRIADO
+                : ComandoCriacaoResponse.Status.FALHOU;
+        situacoes.put(comando.id(), new ComandoCriacaoResponse(
+                comando.id(), status, comando.usuario().getEmailAsString(), usuarioId, erro));
+    }
+}
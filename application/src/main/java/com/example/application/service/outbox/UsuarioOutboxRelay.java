@@ -0,0 +1,136 @@
+package com.example.application.service.outbox;
+
+import com.example.infrastructure.databases.oracle.entity.UsuarioOutboxEntity;
+import com.example.infrastructure.databases.oracle.repository.UsuarioOutboxJpaRepository;
+import com.example.infrastructure.outbox.EventoPublicavel;
+import com.example.infrastructure.outbox.PublicadorEventos;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Relay do outbox - publica os eventos de usuário gravados em usuarios_outbox
+ * 
+ * A cada app.usuarios.outbox.relay.interval-ms, drena o outbox em lotes de
+ * app.usuarios.outbox.relay.batch-size, cada lote em uma transação:
+ * 1. Reivindica as linhas mais antigas com FOR UPDATE SKIP LOCKED
+ *    (várias instâncias do relay não disputam as mesmas linhas)
+ * 2. Publica em ordem de id no PublicadorEventos
+ * 3. Apaga as publicadas, em um único DELETE
+ * 
+ * Falha ao publicar: o evento e os seguintes ficam para o próximo ciclo.
+ * Entrega at-least-once: se a transação falhar depois de publicar, o evento é publicado de novo
+ * (o consumidor deduplica pelo id).
+ * 
+ * Métricas:
+ * - usuarios.outbox.atraso: tempo entre a gravação e a publicação de cada evento
+ * - usuarios.outbox.lag: idade (s) do evento mais antigo ainda não publicado, medida a cada ciclo
+ * - usuarios.outbox.publicados / usuarios.outbox.falhas
+ */
+@Component
+@ConditionalOnProperty(name = "app.usuarios.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class UsuarioOutboxRelay {
+    
+    private final UsuarioOutboxJpaRepository outboxRepository;
+    private final PublicadorEventos publicador;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+    private final Timer atraso;
+    private final Counter publicados;
+    private final Counter falhas;
+    private final AtomicReference<Instant> maisAntigoPendente = new AtomicReference<>();
+    
+    public UsuarioOutboxRelay(UsuarioOutboxJpaRepository outboxRepository,
+                              PublicadorEventos publicador,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.usuarios.outbox.relay.batch-size:100}") int tamanhoLote) {
+        this.outboxRepository = outboxRepository;
+        this.publicador = publicador;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanhoLote = tamanhoLote;
+        
+        this.atraso = Timer.builder("usuarios.outbox.atraso")
+                .description("Tempo entre a gravação do evento no outbox e a publicação")
+                .register(meterRegistry);
+        this.publicados = Counter.builder("usuarios.outbox.publicados")
+                .description("Eventos de usuário publicados pelo relay")
+                .register(meterRegistry);
+        this.falhas = Counter.builder("usuarios.outbox.falhas")
+                .description("Falhas ao publicar eventos de usuário")
+                .register(meterRegistry);
+        Gauge.builder("usuarios.outbox.lag", this, UsuarioOutboxRelay::lagEmSegundos)
+                .description("Idade do evento mais antigo ainda não publicado")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Um ciclo do relay: lotes cheios indicam que há mais, então continua até esvaziar ou falhar
+     */
+    @Scheduled(fixedDelayString = "${app.usuarios.outbox.relay.interval-ms:1000}",
+               initialDelayString = "${app.usuarios.outbox.relay.interval-ms:1000}")
+    public void drenar() {
+        int publicadosNoLote;
+        do {
+            publicadosNoLote = transactionTemplate.execute(status -> publicarLote());
+        } while (publicadosNoLote == tamanhoLote);
+        
+        maisAntigoPendente.set(outboxRepository.findCriadoEmMaisAntigo().orElse(null));
+    }
+    
+    /**
+     * @return quantidade publicada (menor que o lote quando o outbox esvaziou ou a publicação falhou)
+     */
+    private int publicarLote() {
+        List<UsuarioOutboxEntity> lote = outboxRepository.reivindicarLote(tamanhoLote);
+        List<UsuarioOutboxEntity> publicadosNoLote = new ArrayList<>(lote.size());
+        
+        for (UsuarioOutboxEntity evento : lote) {
+            try {
+                publicador.publicar(toEvento(evento));
+            } catch (Exception ex) {
+                falhas.increment();
+                log.warn("Falha ao publicar evento {} ({}) do outbox, nova tentativa no próximo ciclo",
+                        evento.getId(), evento.getTipo(), ex);
+                break;
+            }
+            atraso.record(Duration.between(evento.getCriadoEm(), Instant.now()));
+            publicadosNoLote.add(evento);
+        }
+        
+        outboxRepository.deleteAllInBatch(publicadosNoLote);
+        publicados.increment(publicadosNoLote.size());
+        return publicadosNoLote.size();
+    }
+    
+    private double lagEmSegundos() {
+        Instant maisAntigo = maisAntigoPendente.get();
+        return maisAntigo == null ? 0 : Duration.between(maisAntigo, Instant.now()).toMillis() / 1000.0;
+    }
+    
+    private static EventoPublicavel toEvento(UsuarioOutboxEntity entity) {
+        return new EventoPublicavel(
+                entity.getId(),
+                entity.getTipo(),
+                entity.getUsuarioId(),
+                entity.getPayload(),
+                entity.getCriadoEm()
+        );
+    }
+}
@@ -1,16 +1,42 @@
 package com.example.application.service.query;
 
+import com.example.application.exception.ApiException;
+import com.example.application.exception.ResponseErrorCode;
+import com.example.application.service.query.busca.UsuarioIndiceBusca;
+import com.example.application.service.query.cache.UsuarioQueryCache;
+import com.example.application.service.query.dto.UsuarioBuscaResponse;
+import com.example.application.service.query.dto.UsuarioDeltaResponse;
 import com.example.application.service.query.dto.UsuarioListResponse;
+import com.example.application.service.query.dto.UsuarioPageResponse;
 import com.example.application.rest.dto.UsuarioResponse;
-import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioMudancaProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioRemocaoProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioResumoProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioVersaoProjection;
+import com.example.infrastructure.databases.oracle.repository.UsuarioConsultaRepository;
 import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.infrastructure.databases.oracle.repository.UsuarioLeituraJpaRepository;
+import com.example.infrastructure.databases.oracle.repository.UsuarioRemovidoJpaRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Query Service - Operações de LEITURA (Read)
@@ -30,28 +56,252 @@ import java.util.stream.Collectors;
  * Estrutura:
  * - CQRS: Separa Command/Query (organização)
  * - Bypass: Queries pulam Domain (performance)
+ * - Projeções: SELECT apenas das colunas usadas, sem entidades gerenciadas
+ * - Modelo de leitura (opcional, app.usuarios.read-model.enabled): consultas em
+ *   usuarios_read em vez de usuarios, sem disputar locks com os comandos
+ * - Transações read-only: com roteamento de DataSource, vão para a réplica
+ * - GET condicional: versões (buscarVersao, versaoPagina) sem carregar nem serializar o usuário
+ * - Delta sync (listarMudancas): só o que mudou desde um token, sempre da tabela usuarios
  */
 @Service
-@RequiredArgsConstructor
+@Transactional(readOnly = true)
 @Slf4j
 public class UsuarioQueryService {
 
+    /**
+     * A cada quantas linhas exportadas o buffer é enviado ao cliente
+     */
+    static final int LOTE_EXPORTACAO = 1_000;
+
+    private final UsuarioConsultaRepository consultaRepository;
     private final UsuarioJpaRepository usuarioJpaRepository;
+    private final UsuarioRemovidoJpaRepository removidoJpaRepository;
+    private final ObjectWriter exportWriter;
+    private final UsuarioQueryCache cache;
+    private final Optional<UsuarioIndiceBusca> indiceBusca;
+
+    public UsuarioQueryService(UsuarioJpaRepository usuarioJpaRepository,
+                               UsuarioLeituraJpaRepository usuarioLeituraJpaRepository,
+                               UsuarioRemovidoJpaRepository removidoJpaRepository,
+                               @Value("${app.usuarios.read-model.enabled:false}") boolean usarModeloLeitura,
+                               ObjectMapper objectMapper,
+                               UsuarioQueryCache cache,
+                               Optional<UsuarioIndiceBusca> indiceBusca) {
+        this.consultaRepository = usarModeloLeitura ? usuarioLeituraJpaRepository : usuarioJpaRepository;
+        this.usuarioJpaRepository = usuarioJpaRepository;
+        this.removidoJpaRepository = removidoJpaRepository;
+        this.cache = cache;
+        this.indiceBusca = indiceBusca;
+        // Sem flush por linha: o flush é feito a cada lote
+        // Separador entre valores raiz "\n" no lugar do espaço padrão do Jackson (linha 2+ começaria com " {")
+        this.exportWriter = objectMapper.writerFor(UsuarioResponse.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
 
     /**
-     * Lista todos os usuários
+     * Tamanho de página usado quando o cliente não informa "limit"
+     */
+    public static final int LIMITE_PADRAO = 50;
+
+    /**
+     * Limite máximo de página aceito pelo servidor
+     * Garante memória limitada por requisição, qualquer que seja o tamanho da tabela
+     */
+    public static final int LIMITE_MAXIMO = 500;
+
+    /**
+     * Quantidade de resultados da busca quando o cliente não informa "limit", e o máximo aceito
+     */
+    public static final int LIMITE_BUSCA_PADRAO = 10;
+    public static final int LIMITE_BUSCA_MAXIMO = 100;
+
+    /**
+     * Lista usuários paginando por cursor (keyset)
      * BYPASS: Vai direto ao repositório JPA (pula Domain)
      * <p>
-     * Justificativa: Query simples sem lógica de negócio
+     * Busca limite + 1 linhas com {@code id > after}: a linha extra só indica
+     * se existe próxima página, sem precisar de COUNT
+     *
+     * @param after  último id recebido na página anterior (null = início)
+     * @param limite tamanho da página (null = padrão, limitado a LIMITE_MAXIMO)
      */
-    public List<UsuarioListResponse> listarTodosUsuarios() {
-        log.info("Query: Listar todos os usuários (BYPASS Domain)");
+    public UsuarioPageResponse listarUsuarios(Long after, Integer limite) {
+        long cursor = cursor(after);
+        int tamanho = tamanhoPagina(limite);
+
+        log.info("Query: Listar usuários após id {} (limite {}) (BYPASS Domain)", cursor, tamanho);
 
-        // Vai DIRETO na Infrastructure (JPA Repository)
-        return usuarioJpaRepository.findAll()
-                .stream()
+        List<UsuarioResumoProjection> resumos = consultaRepository
+                .findResumosAfter(cursor, Limit.of(tamanho + 1));
+
+        boolean temProxima = resumos.size() > tamanho;
+        List<UsuarioListResponse> usuarios = resumos.stream()
+                .limit(tamanho)
                 .map(this::toListResponse)
                 .collect(Collectors.toList());
+
+        Long proximoCursor = temProxima ? usuarios.get(usuarios.size() - 1).getId() : null;
+        return new UsuarioPageResponse(usuarios, proximoCursor, tamanho);
+    }
+
+    /**
+     * ETag da página de listarUsuarios(after, limite), só com id e versão de cada linha
+     * BYPASS: Vai direto ao repositório JPA, sem nome/email e sem serializar a página
+     * <p>
+     * Mesmo valor de {@link #versaoPagina(UsuarioPageResponse)} para a página que seria listada
+     */
+    public String versaoPagina(Long after, Integer limite) {
+        long cursor = cursor(after);
+        int tamanho = tamanhoPagina(limite);
+
+        List<UsuarioVersaoProjection> versoes = consultaRepository.findVersoesAfter(cursor, Limit.of(tamanho + 1));
+
+        VersaoPagina versao = new VersaoPagina(tamanho);
+        versoes.stream().limit(tamanho).forEach(linha -> versao.adicionar(linha.id(), linha.versao()));
+        return versao.valor(versoes.size() > tamanho ? versoes.get(tamanho - 1).id() : null);
+    }
+
+    /**
+     * ETag de uma página já listada: hash das versões (e ids) das linhas, do limite e do próximo cursor
+     * <p>
+     * Muda quando um usuário da página é criado, alterado ou removido; não depende do JSON
+     */
+    public static String versaoPagina(UsuarioPageResponse pagina) {
+        VersaoPagina versao = new VersaoPagina(pagina.getLimite());
+        pagina.getUsuarios().forEach(usuario -> versao.adicionar(usuario.getId(), usuario.getVersao()));
+        return versao.valor(pagina.getProximoCursor());
+    }
+
+    /**
+     * Delta sync: usuários criados, alterados ou removidos depois do token, em ordem de mudança
+     * BYPASS: Vai direto aos repositórios JPA (usuarios e tombstones; o modelo de leitura não tem a sequência)
+     * <p>
+     * Duas varreduras por faixa (índice de seq_mudanca e chave dos tombstones), limite + 1 linhas cada,
+     * intercaladas pela posição: o custo depende de quantas mudanças houve, não do tamanho da tabela.
+     * Um usuário alterado várias vezes aparece uma vez só, no estado atual.
+     * <p>
+     * A posição é atribuída na escrita, não no commit: as varreduras param antes da menor posição de uma
+     * transação ainda aberta (SequenciaMudancaRepository.limiteVisivel), então o token nunca passa de uma
+     * mudança que ainda pode aparecer, por mais longa que seja a transação (lotes, micro-batches assíncronos).
+     * Transação read-write: lê do primário, já que a réplica pode aplicar um commit antigo depois do limite.
+     * <p>
+     * ⚠️ O limite considera as transações desta instância: com várias instâncias gravando, uma transação
+     * aberta em outra instância não segura o token
+     *
+     * @param since  token da chamada anterior (null = desde o início: todos os usuários existentes)
+     * @param limite mudanças por página (null = padrão, limitado a LIMITE_MAXIMO)
+     */
+    @Transactional
+    public UsuarioDeltaResponse listarMudancas(Long since, Integer limite) {
+        long desde = cursor(since);
+        int tamanho = tamanhoPagina(limite);
+
+        log.info("Query: Listar mudanças de usuários após {} (limite {}) (BYPASS Domain)", desde, tamanho);
+
+        // Antes das varreduras: tudo abaixo do limite já está confirmado quando elas começam
+        long antesDe = removidoJpaRepository.limiteVisivel();
+        List<UsuarioMudancaProjection> mudancas =
+                usuarioJpaRepository.findMudancasBetween(desde, antesDe, Limit.of(tamanho + 1));
+        List<UsuarioRemocaoProjection> remocoes =
+                removidoJpaRepository.findRemocoesBetween(desde, antesDe, Limit.of(tamanho + 1));
+
+        List<UsuarioListResponse> alterados = new ArrayList<>();
+        List<Long> removidos = new ArrayList<>();
+        long token = desde;
+        int m = 0;
+        int r = 0;
+        while (alterados.size() + removidos.size() < tamanho && (m < mudancas.size() || r < remocoes.size())) {
+            if (r == remocoes.size()
+                    || (m < mudancas.size() && mudancas.get(m).sequenciaMudanca() < remocoes.get(r).sequenciaMudanca())) {
+                UsuarioMudancaProjection mudanca = mudancas.get(m++);
+                alterados.add(new UsuarioListResponse(mudanca.id(), mudanca.nome(), mudanca.email(), mudanca.versao()));
+                token = mudanca.sequenciaMudanca();
+            } else {
+                UsuarioRemocaoProjection remocao = remocoes.get(r++);
+                removidos.add(remocao.usuarioId());
+                token = remocao.sequenciaMudanca();
+            }
+        }
+        // Sobrou linha lida: há mais mudanças depois do token (cada lista trouxe no máximo limite + 1)
+        boolean temMais = m < mudancas.size() || r < remocoes.size();
+        return new UsuarioDeltaResponse(alterados, removidos, token, temMais, tamanho);
+    }
+
+    /**
+     * Versão de um usuário para o GET condicional: do UsuarioQueryCache, se estiver lá,
+     * senão só a coluna versao do banco (sem nome, email e cpf)
+     */
+    public Optional<Long> buscarVersao(Long id) {
+        Optional<Long> emCache = cache.versaoEmCache(id);
+        if (emCache.isPresent()) {
+            return emCache;
+        }
+        return consultaRepository.findVersaoById(id);
+    }
+
+    /**
+     * Busca usuários por parte do nome ou do email, ordenados por relevância
+     * BYPASS: Vai direto ao índice em memória (UsuarioIndiceBusca), sem banco
+     * <p>
+     * 3+ caracteres: substring; 1 ou 2: prefixo de palavra. Sem acentos e sem diferenciar caixa.
+     *
+     * @param consulta texto digitado (obrigatório)
+     * @param limite   quantidade de resultados (null = padrão, limitado a LIMITE_BUSCA_MAXIMO)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UsuarioBuscaResponse buscarPorTexto(String consulta, Integer limite) {
+        UsuarioIndiceBusca indice = indiceBusca.orElseThrow(() -> new ApiException(
+                ResponseErrorCode.NOT_FOUND, "Busca de usuários desabilitada", null));
+        if (consulta == null || consulta.isBlank()) {
+            throw new ApiException(ResponseErrorCode.INVALID_REQUEST, "Parâmetro q é obrigatório", null);
+        }
+        int tamanho = limite == null || limite < 1 ? LIMITE_BUSCA_PADRAO : Math.min(limite, LIMITE_BUSCA_MAXIMO);
+
+        log.debug("Query: Buscar usuários por \"{}\" (limite {}) (BYPASS Domain)", consulta, tamanho);
+
+        List<UsuarioListResponse> usuarios = indice.buscar(consulta, tamanho).stream()
+                .map(resultado -> new UsuarioListResponse(resultado.id(), resultado.nome(), resultado.email()))
+                .collect(Collectors.toList());
+        return new UsuarioBuscaResponse(usuarios, tamanho);
+    }
+
+    /**
+     * Exporta todos os usuários em NDJSON (um JSON por linha) direto no OutputStream
+     * BYPASS: Vai direto ao repositório JPA
+     * <p>
+     * Memória constante para qualquer tamanho de tabela:
+     * - Lê via cursor (Stream) com fetch size, nunca materializa a lista
+     * - Projeções: nenhuma entidade se acumula no persistence context
+     * - Escreve cada linha assim que lida
+     *
+     * @return quantidade de usuários exportados
+     */
+    public long exportarUsuarios(OutputStream out) throws IOException {
+        log.info("Query: Exportar usuários em NDJSON (BYPASS Domain)");
+
+        long total = 0;
+        try (Stream<UsuarioDetalheProjection> stream = consultaRepository.streamDetalhes();
+             JsonGenerator generator = exportWriter.createGenerator(out)) {
+            // Quem fecha a resposta HTTP é o container, não o gerador
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            Iterator<UsuarioDetalheProjection> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                exportWriter.writeValue(generator, toResponse(iterator.next()));
+
+                if (++total % LOTE_EXPORTACAO == 0) {
+                    generator.flush();
+                }
+            }
+            // O separador só vai entre as linhas: a última também termina em \n
+            if (total > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+
+        log.info("Query: Exportação concluída com {} usuários", total);
+        return total;
     }
 
     /**
@@ -59,13 +309,16 @@ public class UsuarioQueryService {
      * BYPASS: Vai direto ao repositório JPA
      * <p>
      * Justificativa: Busca simples sem lógica
+     * Read-through no UsuarioQueryCache (inclusive "não encontrado", com TTL curto)
      */
     public Optional<UsuarioResponse> buscarPorId(Long id) {
-        log.info("Query: Buscar usuário por id {} (BYPASS Domain)", id);
+        return cache.buscarPorId(id, idNaoCacheado -> {
+            log.info("Query: Buscar usuário por id {} (BYPASS Domain)", idNaoCacheado);
 
-        // Vai DIRETO na Infrastructure
-        return usuarioJpaRepository.findById(id)
-                .map(this::toResponse);
+            // Vai DIRETO na Infrastructure (projeção, sem hidratar a entidade)
+            return consultaRepository.findDetalheById(idNaoCacheado)
+                    .map(this::toResponse);
+        });
     }
 
     /**
@@ -73,13 +326,17 @@ public class UsuarioQueryService {
      * BYPASS: Vai direto ao repositório JPA
      * <p>
      * Justificativa: Query simples
+     * Email normalizado como é gravado (sem espaços nas pontas, minúsculas),
+     * e read-through no UsuarioQueryCache
      */
     public Optional<UsuarioResponse> buscarPorEmail(String email) {
-        log.info("Query: Buscar usuário por email {} (BYPASS Domain)", email);
+        return cache.buscarPorEmail(UsuarioQueryCache.normalizarEmail(email), emailNaoCacheado -> {
+            log.info("Query: Buscar usuário por email {} (BYPASS Domain)", emailNaoCacheado);
 
-        // Vai DIRETO na Infrastructure
-        return usuarioJpaRepository.findByEmail(email)
-                .map(this::toResponse);
+            // Vai DIRETO na Infrastructure (projeção, sem hidratar a entidade)
+            return consultaRepository.findDetalheByEmail(emailNaoCacheado)
+                    .map(this::toResponse);
+        });
     }
 
     /**
@@ -89,7 +346,7 @@ public class UsuarioQueryService {
     public Long contarUsuarios() {
         log.info("Query: Contar usuários (BYPASS Domain)");
 
-        return usuarioJpaRepository.count();
+        return consultaRepository.count();
     }
 
     /**
@@ -103,21 +360,60 @@ public class UsuarioQueryService {
     //     // NÃO FAZER: isso tem regra de negócio!
     //     // FAZER: chamar um Use Case no Domain
     // }
-    private UsuarioResponse toResponse(UsuarioEntity entity) {
+    private static long cursor(Long after) {
+        return after != null && after > 0 ? after : 0L;
+    }
+
+    private static int tamanhoPagina(Integer limite) {
+        return limite == null || limite < 1 ? LIMITE_PADRAO : Math.min(limite, LIMITE_MAXIMO);
+    }
+
+    private UsuarioResponse toResponse(UsuarioDetalheProjection detalhe) {
         return new UsuarioResponse(
-                entity.getId(),
-                entity.getNome(),
-                entity.getEmail(),
-                entity.getCpf()
+                detalhe.id(),
+                detalhe.nome(),
+                detalhe.email(),
+                detalhe.cpf(),
+                detalhe.versao()
         );
     }
 
-    private UsuarioListResponse toListResponse(UsuarioEntity entity) {
+    private UsuarioListResponse toListResponse(UsuarioResumoProjection resumo) {
         return new UsuarioListResponse(
-                entity.getId(),
-                entity.getNome(),
-                entity.getEmail()
+                resumo.id(),
+                resumo.nome(),
+                resumo.email(),
+                resumo.versao()
         );
     }
+
+    /**
+     * Hash de 64 bits das linhas de uma página (mistura do SplitMix64: cada bit de entrada afeta
+     * todo o resultado). Não é criptográfico: só precisa mudar quando a página muda
+     */
+    private static final class VersaoPagina {
+
+        private long hash;
+
+        VersaoPagina(int limite) {
+            hash = misturar(limite);
+        }
+
+        void adicionar(Long id, Long versao) {
+            hash = misturar(hash ^ id);
+            hash = misturar(hash ^ (versao != null ? versao : -1L));
+        }
+
+        String valor(Long proximoCursor) {
+            return Long.toHexString(misturar(hash ^ (proximoCursor != null ? proximoCursor : -1L)));
+        }
+
+        private static long misturar(long valor) {
+            long z = valor + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
 }
 
@@ -0,0 +1,462 @@
+package com.example.application.service.query.busca;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido de trigramas sobre nome e email, em memória
+ * <p>
+ * Cada usuário ocupa uma posição (slot) crescente; cada trigrama do texto normalizado
+ * (minúsculo, sem acentos) aponta para a lista ordenada de slots que o contêm.
+ * Início de palavra também gera os gramas "␁␁a" e "␁ab", para consultas de 1 e 2 letras.
+ * <p>
+ * Busca:
+ * - consulta com 3+ caracteres: substring (interseção das listas de todos os trigramas)
+ * - consulta com 1 ou 2 caracteres: prefixo de palavra
+ * - candidatos conferidos no texto (trigramas não garantem a ordem) e ranqueados:
+ *   nome igual > prefixo do nome > prefixo de palavra do nome > prefixo no email > substring
+ * - top-K num heap de tamanho K: memória da busca não depende da quantidade de resultados
+ * - consultas amplas: ranking só entre os primeiros MAXIMO_CONFERIDOS candidatos, conferindo
+ *   antes os que têm palavra começando pelo termo (nome igual e prefixos não ficam de fora)
+ * <p>
+ * Remoção marca o slot como removido; as listas são reconstruídas quando os removidos
+ * passam de 1/4 dos slots. Leituras concorrentes entre si, escritas exclusivas (ReadWriteLock).
+ */
+public class IndiceTrigramas {
+
+    public record Resultado(long id, String nome, String email) {
+    }
+
+    private static final char BORDA = '\u0001';
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final int CAPACIDADE_INICIAL = 1_024;
+    private static final int MINIMO_REMOVIDOS_COMPACTAR = 1_024;
+
+    /**
+     * Consultas amplas ("ma", "silva") casam com dezenas de milhares de usuários:
+     * o ranking considera só os primeiros candidatos (em ordem de slot, os de início
+     * de palavra antes), para a latência não crescer com a quantidade de resultados
+     */
+    static final int MAXIMO_CONFERIDOS = 1_024;
+
+    /**
+     * Estimativas de memória (JVM 64 bits, compressed oops)
+     */
+    private static final int BYTES_ENTRADA_MAPA = 32 + 16 + 4;
+    private static final int BYTES_POSTAGENS = 24 + 16;
+    private static final int BYTES_STRING = 24 + 16;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postagens> postagens = new HashMap<>();
+    private final Map<Long, Integer> slotPorId = new HashMap<>();
+    private final BitSet removidos = new BitSet();
+
+    private long[] ids = new long[CAPACIDADE_INICIAL];
+    private String[] nomes = new String[CAPACIDADE_INICIAL];
+    private String[] nomesBusca = new String[CAPACIDADE_INICIAL];
+    private String[] emails = new String[CAPACIDADE_INICIAL];
+    private int slots;
+    private int quantidadeRemovidos;
+    private long bytesTextos;
+
+    /**
+     * Texto como é indexado e consultado: "  José  da Silva " → "jose da silva"
+     */
+    public static String normalizar(String texto) {
+        String semAcentos = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD))
+                .replaceAll("");
+        return semAcentos.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Indexa o usuário (substitui a entrada anterior com o mesmo id)
+     */
+    public void adicionar(long id, String nome, String email) {
+        lock.writeLock().lock();
+        try {
+            removerSemLock(id);
+            if (slots == ids.length) {
+                crescer();
+            }
+            int slot = slots++;
+            ids[slot] = id;
+            nomes[slot] = nome;
+            String nomeBusca = normalizar(nome);
+            // Nome que já está normalizado: uma String só para os dois arrays
+            nomesBusca[slot] = nomeBusca.equals(nome) ? nome : nomeBusca;
+            // Email já vem normalizado pelo domínio (Email.of)
+            emails[slot] = normalizar(email);
+            slotPorId.put(id, slot);
+            bytesTextos += bytesTextos(slot);
+
+            indexar(slot, nomesBusca[slot]);
+            indexar(slot, emails[slot]);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return true se o id estava no índice
+     */
+    public boolean remover(long id) {
+        lock.writeLock().lock();
+        try {
+            boolean removido = removerSemLock(id);
+            if (quantidadeRemovidos >= MINIMO_REMOVIDOS_COMPACTAR && quantidadeRemovidos * 4L >= slots) {
+                compactar();
+            }
+            return removido;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Até limite usuários que casam com a consulta, do mais para o menos relevante
+     */
+    public List<Resultado> buscar(String consulta, int limite) {
+        String termo = normalizar(consulta);
+        if (termo.isEmpty() || limite < 1) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Postagens[] listas = listasDaConsulta(termo);
+            if (listas == null) {
+                return List.of();
+            }
+            return ranquear(termo, listas, limite);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return slotPorId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int quantidadeTrigramas() {
+        lock.readLock().lock();
+        try {
+            return postagens.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimativa dos bytes ocupados: textos, arrays por slot, listas de trigramas e mapa de ids
+     */
+    public long memoriaEstimadaBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = bytesTextos;
+            bytes += (long) ids.length * (8 + 4 + 4 + 4) + removidos.size() / 8;
+            bytes += (long) slotPorId.size() * (BYTES_ENTRADA_MAPA + 16 + 16);
+            for (Postagens lista : postagens.values()) {
+                bytes += BYTES_ENTRADA_MAPA + 16 + BYTES_POSTAGENS + 4L * lista.slots.length;
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Indexação
+
+    private void indexar(int slot, String texto) {
+        for (int i = 0; i + 3 <= texto.length(); i++) {
+            adicionarGrama(chave(texto.charAt(i), texto.charAt(i + 1), texto.charAt(i + 2)), slot);
+        }
+        for (int i = 0; i < texto.length(); i++) {
+            if (inicioDePalavra(texto, i)) {
+                adicionarGrama(chave(BORDA, BORDA, texto.charAt(i)), slot);
+                if (i + 1 < texto.length() && Character.isLetterOrDigit(texto.charAt(i + 1))) {
+                    adicionarGrama(chave(BORDA, texto.charAt(i), texto.charAt(i + 1)), slot);
+                }
+            }
+        }
+    }
+
+    private void adicionarGrama(long chave, int slot) {
+        postagens.computeIfAbsent(chave, k -> new Postagens()).adicionar(slot);
+    }
+
+    private boolean removerSemLock(long id) {
+        Integer slot = slotPorId.remove(id);
+        if (slot == null) {
+            return false;
+        }
+        bytesTextos -= bytesTextos(slot);
+        removidos.set(slot);
+        nomes[slot] = null;
+        nomesBusca[slot] = null;
+        emails[slot] = null;
+        quantidadeRemovidos++;
+        return true;
+    }
+
+    /**
+     * Reescreve slots e listas só com os usuários ativos, na mesma ordem
+     */
+    private void compactar() {
+        long[] idsAtivos = new long[slotPorId.size()];
+        String[] nomesAtivos = new String[idsAtivos.length];
+        String[] emailsAtivos = new String[idsAtivos.length];
+        int ativos = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            if (!removidos.get(slot)) {
+                idsAtivos[ativos] = ids[slot];
+                nomesAtivos[ativos] = nomes[slot];
+                emailsAtivos[ativos] = emails[slot];
+                ativos++;
+            }
+        }
+
+        int capacidade = Math.max(CAPACIDADE_INICIAL, ativos + ativos / 2);
+        ids = new long[capacidade];
+        nomes = new String[capacidade];
+        nomesBusca = new String[capacidade];
+        emails = new String[capacidade];
+        postagens.clear();
+        slotPorId.clear();
+        removidos.clear();
+        slots = 0;
+        quantidadeRemovidos = 0;
+        bytesTextos = 0;
+        for (int i = 0; i < ativos; i++) {
+            adicionar(idsAtivos[i], nomesAtivos[i], emailsAtivos[i]);
+        }
+    }
+
+    private void crescer() {
+        int capacidade = ids.length + ids.length / 2;
+        ids = Arrays.copyOf(ids, capacidade);
+        nomes = Arrays.copyOf(nomes, capacidade);
+        nomesBusca = Arrays.copyOf(nomesBusca, capacidade);
+        emails = Arrays.copyOf(emails, capacidade);
+    }
+
+    private long bytesTextos(int slot) {
+        long bytes = bytesString(nomes[slot]) + bytesString(emails[slot]);
+        return nomesBusca[slot] == nomes[slot] ? bytes : bytes + bytesString(nomesBusca[slot]);
+    }
+
+    private static long bytesString(String texto) {
+        return BYTES_STRING + texto.length();
+    }
+
+    // Busca
+
+    /**
+     * Listas dos gramas da consulta, da menor para a maior (null se algum grama não existe)
+     */
+    private Postagens[] listasDaConsulta(String termo) {
+        long[] chaves;
+        if (termo.length() >= 3) {
+            chaves = new long[termo.length() - 2];
+            for (int i = 0; i < chaves.length; i++) {
+                chaves[i] = chave(termo.charAt(i), termo.charAt(i + 1), termo.charAt(i + 2));
+            }
+        } else if (termo.length() == 2) {
+            chaves = new long[]{chave(BORDA, termo.charAt(0), termo.charAt(1))};
+        } else {
+            chaves = new long[]{chave(BORDA, BORDA, termo.charAt(0))};
+        }
+
+        Postagens[] listas = new Postagens[chaves.length];
+        for (int i = 0; i < chaves.length; i++) {
+            listas[i] = postagens.get(chaves[i]);
+            if (listas[i] == null) {
+                return null;
+            }
+        }
+        Arrays.sort(listas, Comparator.comparingInt(lista -> lista.tamanho));
+        return listas;
+    }
+
+    private List<Resultado> ranquear(String termo, Postagens[] listas, int limite) {
+        // Pior candidato no topo: sai quando chega um melhor e o heap está cheio
+        PriorityQueue<long[]> melhores = new PriorityQueue<>(limite,
+                (a, b) -> compararPiorPrimeiro((int) a[0], a[1], (int) b[0], b[1]));
+
+        // 3+ caracteres: primeiro os candidatos com palavra começando pelas 2 primeiras letras do termo
+        // (onde estão nome igual e prefixos), depois o resto da interseção
+        Postagens bordas = termo.length() >= 3 ? postagens.get(chave(BORDA, termo.charAt(0), termo.charAt(1))) : null;
+        int conferidos = 0;
+        if (bordas != null) {
+            Postagens[] comBordas = Arrays.copyOf(listas, listas.length + 1);
+            comBordas[listas.length] = bordas;
+            Arrays.sort(comBordas, Comparator.comparingInt(lista -> lista.tamanho));
+            conferidos = conferir(termo, comBordas, null, melhores, limite, conferidos);
+        }
+        conferir(termo, listas, bordas, melhores, limite, conferidos);
+
+        List<Resultado> resultados = new ArrayList<>(melhores.size());
+        while (!melhores.isEmpty()) {
+            int melhor = (int) melhores.poll()[0];
+            resultados.add(new Resultado(ids[melhor], nomes[melhor], emails[melhor]));
+        }
+        Collections.reverse(resultados);
+        return resultados;
+    }
+
+    /**
+     * Pontua os slots presentes em todas as listas (menos os de jaConferidos) até MAXIMO_CONFERIDOS
+     *
+     * @return conferidos somados aos desta passada
+     */
+    private int conferir(String termo, Postagens[] listas, Postagens jaConferidos,
+                         PriorityQueue<long[]> melhores, int limite, int conferidos) {
+        int[] cursores = new int[listas.length];
+        int cursorConferidos = 0;
+
+        // Interseção leapfrog: cada lista salta direto para o maior slot visto até agora
+        int slot = listas[0].tamanho > 0 ? listas[0].slots[0] : Integer.MAX_VALUE;
+        int listasComSlot = 0;
+        for (int l = 0; slot != Integer.MAX_VALUE && conferidos < MAXIMO_CONFERIDOS; l = (l + 1) % listas.length) {
+            Postagens lista = listas[l];
+            cursores[l] = avancar(lista, cursores[l], slot);
+            if (cursores[l] == lista.tamanho) {
+                break;
+            }
+            int encontrado = lista.slots[cursores[l]];
+            if (encontrado != slot) {
+                slot = encontrado;
+                listasComSlot = 1;
+                continue;
+            }
+            if (++listasComSlot < listas.length) {
+                continue;
+            }
+
+            if (jaConferidos != null) {
+                cursorConferidos = avancar(jaConferidos, cursorConferidos, slot);
+            }
+            boolean conferido = jaConferidos != null && cursorConferidos < jaConferidos.tamanho
+                    && jaConferidos.slots[cursorConferidos] == slot;
+            if (!conferido && !removidos.get(slot)) {
+                conferidos++;
+                int pontos = pontuar(slot, termo);
+                if (pontos >= 0 && melhores.size() < limite) {
+                    melhores.add(new long[]{slot, pontos});
+                } else if (pontos >= 0
+                        && compararPiorPrimeiro(slot, pontos, (int) melhores.peek()[0], melhores.peek()[1]) > 0) {
+                    melhores.poll();
+                    melhores.add(new long[]{slot, pontos});
+                }
+            }
+            slot++;
+            listasComSlot = 0;
+        }
+        return conferidos;
+    }
+
+    /**
+     * Primeira posição a partir de inicio com slot >= alvo (busca exponencial + binária)
+     */
+    private static int avancar(Postagens lista, int inicio, int alvo) {
+        int passo = 1;
+        int fim = inicio;
+        while (fim < lista.tamanho && lista.slots[fim] < alvo) {
+            inicio = fim + 1;
+            fim += passo;
+            passo <<= 1;
+        }
+        int posicao = Arrays.binarySearch(lista.slots, inicio, Math.min(fim, lista.tamanho), alvo);
+        return posicao >= 0 ? posicao : -posicao - 1;
+    }
+
+    /**
+     * Relevância do slot para o termo (maior = melhor), -1 se não casa de fato
+     */
+    private int pontuar(int slot, String termo) {
+        String nome = nomesBusca[slot];
+        String email = emails[slot];
+        if (nome.equals(termo)) {
+            return 5;
+        }
+        if (nome.startsWith(termo)) {
+            return 4;
+        }
+        if (comecaPalavra(nome, termo)) {
+            return 3;
+        }
+        if (email.startsWith(termo)) {
+            return 2;
+        }
+        if (comecaPalavra(email, termo)) {
+            return 1;
+        }
+        // 1 e 2 caracteres: só prefixo de palavra
+        return termo.length() >= 3 && (nome.contains(termo) || email.contains(termo)) ? 0 : -1;
+    }
+
+    /**
+     * Negativo se o slot A é menos relevante que o B
+     */
+    private int compararPiorPrimeiro(int slotA, long pontosA, int slotB, long pontosB) {
+        if (pontosA != pontosB) {
+            return Long.compare(pontosA, pontosB);
+        }
+        // Nomes mais curtos primeiro (mais próximos do termo), depois o id menor
+        int tamanho = Integer.compare(nomes[slotB].length(), nomes[slotA].length());
+        return tamanho != 0 ? tamanho : Long.compare(ids[slotB], ids[slotA]);
+    }
+
+    private static boolean comecaPalavra(String texto, String termo) {
+        for (int i = texto.indexOf(termo); i >= 0; i = texto.indexOf(termo, i + 1)) {
+            if (inicioDePalavra(texto, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean inicioDePalavra(String texto, int i) {
+        return Character.isLetterOrDigit(texto.charAt(i))
+                && (i == 0 || !Character.isLetterOrDigit(texto.charAt(i - 1)));
+    }
+
+    private static long chave(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    /**
+     * Lista de slots em ordem crescente (slots são sempre adicionados no fim)
+     */
+    private static final class Postagens {
+
+        private int[] slots = new int[4];
+        private int tamanho;
+
+        void adicionar(int slot) {
+            // Grama repetido no mesmo texto (ou no nome e no email): uma entrada só
+            if (tamanho > 0 && slots[tamanho - 1] == slot) {
+                return;
+            }
+            if (tamanho == slots.length) {
+                slots = Arrays.copyOf(slots, tamanho * 2);
+            }
+            slots[tamanho++] = slot;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.application.service.query.busca;
+
+import com.example.domain.event.UsuarioAtualizadoEvento;
+import com.example.domain.event.UsuarioCriadoEvento;
+import com.example.domain.event.UsuarioEvento;
+import com.example.domain.event.UsuarioRemovidoEvento;
+import com.example.domain.ports.out.UsuarioEventoOutboundPort;
+import com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection;
+import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Índice de busca por nome/email do UsuarioQueryService (IndiceTrigramas)
+ * <p>
+ * Ativado por app.usuarios.search.enabled=true.
+ * - Aquecido na inicialização com todos os usuários do UsuarioJpaRepository
+ * - Atualizado pelos eventos de domínio (usuario.criado / usuario.removido),
+ *   só depois do commit: rollback não deixa rastro no índice
+ * <p>
+ * O índice é por instância: escritas feitas em outra instância só aparecem aqui no próximo start.
+ * <p>
+ * Métricas: usuarios.busca.memoria (bytes, estimativa), usuarios.busca.documentos, usuarios.busca.trigramas
+ */
+@Component
+@ConditionalOnProperty(name = "app.usuarios.search.enabled", havingValue = "true")
+@Slf4j
+public class UsuarioIndiceBusca implements UsuarioEventoOutboundPort {
+
+    private final IndiceTrigramas indice = new IndiceTrigramas();
+    private final UsuarioJpaRepository usuarioJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public UsuarioIndiceBusca(UsuarioJpaRepository usuarioJpaRepository,
+                              PlatformTransactionManager transactionManager,
+                              ObjectProvider<MeterRegistry> meterRegistry) {
+        this.usuarioJpaRepository = usuarioJpaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        meterRegistry.ifAvailable(this::registrarMetricas);
+    }
+
+    /**
+     * Indexa todos os usuários do banco, antes de a aplicação receber requisições
+     */
+    @PostConstruct
+    public void aquecer() {
+        long inicio = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<UsuarioDetalheProjection> usuarios = usuarioJpaRepository.streamDetalhes()) {
+                usuarios.forEach(usuario -> indice.adicionar(usuario.id(), usuario.nome(), usuario.email()));
+            }
+        });
+        log.info("Índice de busca de usuários aquecido: {} usuários, {} trigramas, ~{} MB em {} ms",
+                indice.tamanho(), indice.quantidadeTrigramas(), indice.memoriaEstimadaBytes() / (1024 * 1024),
+                (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Com transação ativa, o índice só muda no afterCommit
+     */
+    @Override
+    public void registrar(UsuarioEvento evento) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            aplicar(evento);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                aplicar(evento);
+            }
+        });
+    }
+
+    /**
+     * Top-K usuários por relevância (ver IndiceTrigramas)
+     */
+    public List<IndiceTrigramas.Resultado> buscar(String consulta, int limite) {
+        return indice.buscar(consulta, limite);
+    }
+
+    private void aplicar(UsuarioEvento evento) {
+        if (evento instanceof UsuarioCriadoEvento criado) {
+            indice.adicionar(criado.usuarioId(), criado.nome(), criado.email());
+        } else if (evento instanceof UsuarioAtualizadoEvento atualizado) {
+            indice.adicionar(atualizado.usuarioId(), atualizado.nome(), atualizado.email());
+        } else if (evento instanceof UsuarioRemovidoEvento removido) {
+            indice.remover(removido.usuarioId());
+        }
+    }
+
+    private void registrarMetricas(MeterRegistry registry) {
+        Gauge.builder("usuarios.busca.memoria", indice, IndiceTrigramas::memoriaEstimadaBytes)
+                .description("Memória estimada do índice de busca de usuários")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        Gauge.builder("usuarios.busca.documentos", indice, IndiceTrigramas::tamanho)
+                .description("Usuários no índice de busca")
+                .register(registry);
+        Gauge.builder("usuarios.busca.trigramas", indice, IndiceTrigramas::quantidadeTrigramas)
+                .description("Trigramas distintos no índice de busca")
+                .register(registry);
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.application.service.query.cache;
+
+import com.example.application.rest.dto.UsuarioResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Cache local (Caffeine) das buscas por id e por email do UsuarioQueryService
+ * <p>
+ * Read-through: em caso de miss, o loader vai ao banco e o resultado é guardado
+ * - Encontrado: expira após app.usuarios.query-cache.ttl
+ * - Não encontrado (Optional vazio): também é guardado, com TTL curto
+ *   (app.usuarios.query-cache.negative-ttl), para absorver buscas repetidas por ids/emails inexistentes
+ * - Limite de entradas por cache (app.usuarios.query-cache.maximum-size), despejo por W-TinyLFU
+ * <p>
+ * Invalidação pelo UsuarioCommandService (criação, atualização e remoção), após o commit da transação.
+ * O cache é por instância: escritas feitas em outra instância só aparecem aqui após o TTL.
+ * <p>
+ * Métricas (hit/miss/eviction) publicadas no Micrometer como cache.* com tag cache=usuarios.por-id / usuarios.por-email
+ * <p>
+ * Desabilitado (app.usuarios.query-cache.enabled=false): todas as buscas vão direto ao loader
+ */
+@Component
+@Slf4j
+public class UsuarioQueryCache {
+
+    private final Cache<Long, Optional<UsuarioResponse>> porId;
+    private final Cache<String, Optional<UsuarioResponse>> porEmail;
+
+    /**
+     * Email de cada usuário guardado em porEmail: a remoção de um usuário só conhece o id (o DELETE não lê o usuário).
+     * Sai junto com a entrada de porEmail (despejo por tamanho ou TTL) e nas invalidações
+     */
+    private final Map<Long, String> emailPorId = new ConcurrentHashMap<>();
+
+    public UsuarioQueryCache(
+            @Value("${app.usuarios.query-cache.enabled:false}") boolean habilitado,
+            @Value("${app.usuarios.query-cache.maximum-size:10000}") long tamanhoMaximo,
+            @Value("${app.usuarios.query-cache.ttl:5m}") Duration ttl,
+            @Value("${app.usuarios.query-cache.negative-ttl:10s}") Duration ttlNegativo,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        if (!habilitado) {
+            this.porId = null;
+            this.porEmail = null;
+            log.info("Cache de consultas de usuário desabilitado");
+            return;
+        }
+
+        this.porId = criarCache(tamanhoMaximo, ttl, ttlNegativo, (id, usuario, causa) -> { });
+        this.porEmail = criarCache(tamanhoMaximo, ttl, ttlNegativo, (email, usuario, causa) -> {
+            if (usuario != null) {
+                usuario.ifPresent(despejado -> emailPorId.remove(despejado.getId(), email));
+            }
+        });
+        meterRegistry.ifAvailable(registry -> {
+            CaffeineCacheMetrics.monitor(registry, porId, "usuarios.por-id");
+            CaffeineCacheMetrics.monitor(registry, porEmail, "usuarios.por-email");
+        });
+        log.info("Cache de consultas de usuário habilitado: {} entradas, TTL {}, TTL negativo {}",
+                tamanhoMaximo, ttl, ttlNegativo);
+    }
+
+    /**
+     * Email como está gravado no banco (Email.of: sem espaços nas pontas e em minúsculas)
+     */
+    public static String normalizarEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public Optional<UsuarioResponse> buscarPorId(Long id, Function<Long, Optional<UsuarioResponse>> loader) {
+        return porId == null ? loader.apply(id) : porId.get(id, loader);
+    }
+
+    /**
+     * Versão do usuário já em cache, sem ir ao loader (GET condicional)
+     *
+     * @return vazio se o cache está desabilitado, se o id não está em cache ou se está em cache como não encontrado
+     */
+    public Optional<Long> versaoEmCache(Long id) {
+        if (porId == null) {
+            return Optional.empty();
+        }
+        Optional<UsuarioResponse> usuario = porId.getIfPresent(id);
+        return usuario == null ? Optional.empty() : usuario.map(UsuarioResponse::getVersao);
+    }
+
+    /**
+     * @param emailNormalizado email já normalizado ({@link #normalizarEmail(String)})
+     */
+    public Optional<UsuarioResponse> buscarPorEmail(String emailNormalizado,
+                                                    Function<String, Optional<UsuarioResponse>> loader) {
+        if (porEmail == null) {
+            return loader.apply(emailNormalizado);
+        }
+        return porEmail.get(emailNormalizado, email -> {
+            Optional<UsuarioResponse> usuario = loader.apply(email);
+            usuario.ifPresent(encontrado -> emailPorId.put(encontrado.getId(), email));
+            return usuario;
+        });
+    }
+
+    /**
+     * Usuário criado: descarta resultados negativos guardados para o id e para o email
+     */
+    public void invalidarCriado(Long id, String email) {
+        if (porId == null) {
+            return;
+        }
+        depoisDoCommit(() -> {
+            porId.invalidate(id);
+            porEmail.invalidate(normalizarEmail(email));
+        });
+    }
+
+    /**
+     * Usuário removido só pelo id: descarta a entrada por id e, se o usuário também foi buscado por email,
+     * a desse email
+     */
+    public void invalidarRemovido(Long id) {
+        if (porId == null) {
+            return;
+        }
+        depoisDoCommit(() -> {
+            porId.invalidate(id);
+            String email = emailPorId.remove(id);
+            if (email != null) {
+                porEmail.invalidate(email);
+            }
+        });
+    }
+
+    /**
+     * Usuário removido: descarta a entrada por id e a do seu email
+     */
+    public void invalidarRemovido(Long id, String email) {
+        if (porId == null) {
+            return;
+        }
+        depoisDoCommit(() -> {
+            porId.invalidate(id);
+            emailPorId.remove(id);
+            porEmail.invalidate(normalizarEmail(email));
+        });
+    }
+
+    /**
+     * Usuário atualizado: descarta a entrada por id, a do email anterior e a (negativa) do novo email
+     */
+    public void invalidarAtualizado(Long id, String emailAnterior, String email) {
+        if (porId == null) {
+            return;
+        }
+        depoisDoCommit(() -> {
+            porId.invalidate(id);
+            emailPorId.remove(id);
+            porEmail.invalidate(normalizarEmail(emailAnterior));
+            porEmail.invalidate(normalizarEmail(email));
+        });
+    }
+
+    /**
+     * Invalidar antes do commit deixaria uma leitura concorrente guardar de novo o estado antigo
+     */
+    private static void depoisDoCommit(Runnable invalidacao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidacao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidacao.run();
+            }
+        });
+    }
+
+    private static <K> Cache<K, Optional<UsuarioResponse>> criarCache(long tamanhoMaximo,
+                                                                      Duration ttl,
+                                                                      Duration ttlNegativo,
+                                                                      RemovalListener<K, Optional<UsuarioResponse>> aoDespejar) {
+        long ttlNanos = ttl.toNanos();
+        long ttlNegativoNanos = ttlNegativo.toNanos();
+        return Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfter(new Expiry<K, Optional<UsuarioResponse>>() {
+                    @Override
+                    public long expireAfterCreate(K key, Optional<UsuarioResponse> value, long currentTime) {
+                        return value.isPresent() ? ttlNanos : ttlNegativoNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(K key, Optional<UsuarioResponse> value,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(K key, Optional<UsuarioResponse> value,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .evictionListener(aoDespejar)
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.application.service.query.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO do resultado da busca por nome/email (GET /api/usuarios/search?q=)
+ *
+ * Usuários do mais para o menos relevante, no máximo "limite"
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioBuscaResponse {
+    private List<UsuarioListResponse> usuarios;
+    private int limite;
+}
@@ -0,0 +1,25 @@
+package com.example.application.service.query.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de uma página do delta sync (GET /api/usuarios/delta?since=)
+ *
+ * alterados: usuários criados ou alterados (estado atual); removidos: ids dos usuários removidos.
+ * O cliente aplica os dois e envia o token recebido como "since" na próxima chamada
+ * (temMais = true: chamar de novo já, há mais mudanças).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioDeltaResponse {
+    private List<UsuarioListResponse> alterados;
+    private List<Long> removidos;
+    private long token;
+    private boolean temMais;
+    private int limite;
+}
@@ -1,5 +1,6 @@
 package com.example.application.service.query.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,6 +18,16 @@ public class UsuarioListResponse {
     private String nome;
     private String email;
     
+    /**
+     * Versão do usuário (a mesma do ETag de GET /api/usuarios/{id}); ausente na busca por texto
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long versao;
+    
+    public UsuarioListResponse(Long id, String nome, String email) {
+        this(id, nome, email, null);
+    }
+    
     // Poderia ter campos adicionais para listagem:
     // private LocalDateTime dataCriacao;
     // private Boolean ativo;
@@ -0,0 +1,22 @@
+package com.example.application.service.query.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de uma página da listagem de usuários (paginação por cursor/keyset)
+ *
+ * O cliente envia o proximoCursor recebido como parâmetro "after"
+ * para buscar a página seguinte. proximoCursor null = última página.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioPageResponse {
+    private List<UsuarioListResponse> usuarios;
+    private Long proximoCursor;
+    private int limite;
+}
@@ -0,0 +1,68 @@
+package com.example.application.service.query.feed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Buffer circular das últimas mudanças do feed, cada uma com offset crescente (1, 2, 3...)
+ * <p>
+ * Guarda as últimas {@code capacidade} mudanças; as mais antigas são sobrescritas.
+ * Quem retoma a partir de um offset que já saiu do buffer (ou que o buffer nunca emitiu)
+ * não recebe um histórico com buracos: recebe vazio e deve refazer a sincronização completa.
+ * <p>
+ * O JSON é gerado uma vez na escrita, e não por assinante. Thread-safe (monitor do próprio buffer).
+ */
+public class BufferMudancas {
+
+    public record Mudanca(long offset, String tipo, String json) {
+    }
+
+    private final Mudanca[] mudancas;
+    private long ultimo;
+
+    public BufferMudancas(int capacidade) {
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("Capacidade deve ser positiva: " + capacidade);
+        }
+        this.mudancas = new Mudanca[capacidade];
+    }
+
+    /**
+     * @return offset atribuído à mudança
+     */
+    public synchronized long adicionar(String tipo, String json) {
+        long offset = ++ultimo;
+        mudancas[posicao(offset)] = new Mudanca(offset, tipo, json);
+        return offset;
+    }
+
+    /**
+     * Offset da última mudança (0 = nenhuma)
+     */
+    public synchronized long ultimo() {
+        return ultimo;
+    }
+
+    /**
+     * Mudanças com offset maior que {@code depoisDe}, em ordem, no máximo {@code maximo}
+     *
+     * @return lista vazia se não há nada novo; Optional vazio se {@code depoisDe} não pode ser retomado
+     *         (já saiu do buffer, é negativo ou é maior que o último offset emitido)
+     */
+    public synchronized Optional<List<Mudanca>> depoisDe(long depoisDe, int maximo) {
+        if (depoisDe < 0 || depoisDe > ultimo || depoisDe < ultimo - mudancas.length) {
+            return Optional.empty();
+        }
+        long ate = Math.min(ultimo, depoisDe + maximo);
+        List<Mudanca> lote = new ArrayList<>((int) (ate - depoisDe));
+        for (long offset = depoisDe + 1; offset <= ate; offset++) {
+            lote.add(mudancas[posicao(offset)]);
+        }
+        return Optional.of(lote);
+    }
+
+    private int posicao(long offset) {
+        return (int) (offset % mudancas.length);
+    }
+}
@@ -0,0 +1,411 @@
+package com.example.application.service.query.feed;
+
+import com.example.application.exception.ApiException;
+import com.example.application.exception.ResponseErrorCode;
+import com.example.domain.event.UsuarioEvento;
+import com.example.domain.ports.out.UsuarioEventoOutboundPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Feed de mudanças de usuário em Server-Sent Events (GET /api/usuarios/changes)
+ * <p>
+ * Ativado por app.usuarios.change-feed.enabled (padrão: true).
+ * - Recebe os eventos de domínio (usuario.criado / usuario.atualizado / usuario.removido)
+ *   só depois do commit, e guarda os recentes num BufferMudancas (app.usuarios.change-feed.buffer-size)
+ * - Cada evento SSE tem id {@code <época>-<offset>}: o cliente que reconecta com Last-Event-ID
+ *   recebe o que perdeu, sem buracos
+ * - Last-Event-ID que já saiu do buffer, ou de outra execução/instância (outra época):
+ *   evento "resync" (refazer a sincronização completa, ex: listagem) e o feed segue ao vivo
+ * <p>
+ * Envio fora da thread do comando: um pool pequeno (app.usuarios.change-feed.dispatch-threads)
+ * com no máximo uma tarefa por assinante na fila (limitada a max-subscribers), heartbeat incluído.
+ * Heartbeat (comentário SSE) a cada app.usuarios.change-feed.heartbeat detecta conexões mortas;
+ * assinante com envio já pendente não recebe outro.
+ * <p>
+ * O envio SSE bloqueia enquanto o buffer do socket do cliente está cheio. Um envio que passa de
+ * app.usuarios.change-feed.send-timeout descarta o assinante (ele reconecta com Last-Event-ID) e o pool
+ * ganha uma thread no lugar da presa, que só volta quando o container desiste da escrita (timeout de
+ * conexão do servidor). Assim um cliente parado atrasa os demais no máximo pelo send-timeout.
+ * <p>
+ * O feed é por instância: mudanças confirmadas em outra instância não aparecem aqui.
+ * <p>
+ * Métricas: usuarios.feed.assinantes e usuarios.feed.fila (gauges), usuarios.feed.resync e
+ * usuarios.feed.travados (contadores)
+ */
+@Component
+@ConditionalOnProperty(name = "app.usuarios.change-feed.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class UsuarioFeedMudancas implements UsuarioEventoOutboundPort {
+
+    public static final String EVENTO_RESYNC = "resync";
+
+    /**
+     * Mudanças lidas do buffer por vez, por assinante
+     */
+    static final int LOTE_ENVIO = 256;
+
+    private static final String DADOS_RESYNC = "{\"motivo\":\"Last-Event-ID fora do histórico: refaça a sincronização completa\"}";
+
+    private final BufferMudancas buffer;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int maximoAssinantes;
+    private final long limiteEnvioNanos;
+    private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor envio;
+    private final ScheduledExecutorService agendador;
+    private final Counter resyncs;
+    private final Counter travados;
+
+    /**
+     * Muda a cada start: offsets de outra execução não são confundidos com os desta
+     */
+    private final String epoca = Long.toString(System.currentTimeMillis(), 36);
+
+    public UsuarioFeedMudancas(ObjectMapper objectMapper,
+                               @Value("${app.usuarios.change-feed.buffer-size:10000}") int tamanhoBuffer,
+                               @Value("${app.usuarios.change-feed.max-subscribers:1000}") int maximoAssinantes,
+                               @Value("${app.usuarios.change-feed.dispatch-threads:4}") int threadsEnvio,
+                               @Value("${app.usuarios.change-feed.heartbeat:15s}") Duration intervaloHeartbeat,
+                               @Value("${app.usuarios.change-feed.timeout:30m}") Duration timeout,
+                               @Value("${app.usuarios.change-feed.send-timeout:10s}") Duration limiteEnvio,
+                               ObjectProvider<MeterRegistry> meterRegistry) {
+        this.buffer = new BufferMudancas(tamanhoBuffer);
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeout.toMillis();
+        this.maximoAssinantes = maximoAssinantes;
+        this.limiteEnvioNanos = limiteEnvio.toNanos();
+
+        // No máximo uma tarefa por assinante: a fila cabe todos (recusa ao encerrar ou numa corrida acima do limite)
+        AtomicInteger threads = new AtomicInteger();
+        this.envio = new ThreadPoolExecutor(threadsEnvio, threadsEnvio, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maximoAssinantes), tarefa -> {
+                    Thread thread = new Thread(tarefa, "usuarios-feed-envio-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "usuarios-feed-agendador");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.agendador.scheduleAtFixedRate(() -> assinantes.forEach(Assinante::agendarHeartbeat),
+                intervaloHeartbeat.toMillis(), intervaloHeartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        long verificacao = Math.max(1, limiteEnvio.toMillis() / 2);
+        this.agendador.scheduleWithFixedDelay(this::descartarTravados, verificacao, verificacao, TimeUnit.MILLISECONDS);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder("usuarios.feed.assinantes", assinantes, Set::size)
+                    .description("Conexões abertas em GET /api/usuarios/changes")
+                    .register(registry);
+            Gauge.builder("usuarios.feed.fila", envio, pool -> pool.getQueue().size())
+                    .description("Assinantes com envio aguardando uma thread do feed de mudanças")
+                    .register(registry);
+            this.resyncs = Counter.builder("usuarios.feed.resync")
+                    .description("Assinantes que precisaram refazer a sincronização completa")
+                    .register(registry);
+            this.travados = Counter.builder("usuarios.feed.travados")
+                    .description("Assinantes descartados por envio acima do send-timeout")
+                    .register(registry);
+        } else {
+            this.resyncs = null;
+            this.travados = null;
+        }
+        log.info("Feed de mudanças de usuário habilitado: buffer de {} mudanças, até {} assinantes",
+                tamanhoBuffer, maximoAssinantes);
+    }
+
+    /**
+     * Com transação ativa, a mudança só entra no feed no afterCommit
+     */
+    @Override
+    public void registrar(UsuarioEvento evento) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publicar(evento);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publicar(evento);
+            }
+        });
+    }
+
+    /**
+     * Nova conexão SSE
+     *
+     * @param ultimoEventoId header Last-Event-ID (null = só o que acontecer daqui em diante)
+     * @throws ApiException 429 com app.usuarios.change-feed.max-subscribers conexões abertas
+     */
+    public SseEmitter assinar(String ultimoEventoId) {
+        if (assinantes.size() >= maximoAssinantes) {
+            throw new ApiException(ResponseErrorCode.TOO_MANY_REQUESTS,
+                    "Limite de conexões do feed de mudanças atingido", null);
+        }
+        long cursor = ultimoEventoId == null ? buffer.ultimo() : offsetDe(ultimoEventoId);
+
+        SseEmitter emitter = novoEmitter(timeoutMillis);
+        Assinante assinante = new Assinante(emitter, cursor);
+        emitter.onCompletion(() -> assinantes.remove(assinante));
+        // Fim normal da conexão (o cliente reconecta com Last-Event-ID), não erro da requisição
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> assinantes.remove(assinante));
+        assinantes.add(assinante);
+
+        // Os headers só saem na primeira escrita: o comentário confirma a conexão mesmo sem mudanças.
+        // Envios antes de o Spring MVC iniciar a resposta ficam guardados no SseEmitter
+        try {
+            emitter.send(SseEmitter.event().comment("conectado"));
+        } catch (IOException ex) {
+            assinantes.remove(assinante);
+            throw new UncheckedIOException(ex);
+        }
+        assinante.agendar();
+        return emitter;
+    }
+
+    /**
+     * Ponto de extensão dos testes (envio que bloqueia, como um socket cheio)
+     */
+    SseEmitter novoEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        agendador.shutdownNow();
+        envio.shutdownNow();
+        assinantes.forEach(assinante -> assinante.emitter.complete());
+        assinantes.clear();
+    }
+
+    private void publicar(UsuarioEvento evento) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(evento);
+        } catch (JsonProcessingException ex) {
+            // afterCommit: a escrita já foi confirmada, não há o que desfazer
+            log.error("Falha ao serializar o evento {} para o feed de mudanças", evento.tipo(), ex);
+            return;
+        }
+        buffer.adicionar(evento.tipo(), json);
+        assinantes.forEach(Assinante::agendar);
+    }
+
+    /**
+     * Descarta os assinantes com envio acima do send-timeout e repõe as threads presas neles
+     */
+    private void descartarTravados() {
+        long agora = System.nanoTime();
+        for (Assinante assinante : assinantes) {
+            if (assinante.descartarSeTravado(agora)) {
+                log.warn("Assinante do feed de mudanças descartado: envio parado há mais de {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(limiteEnvioNanos));
+                if (travados != null) {
+                    travados.increment();
+                }
+                ajustarThreads(1);
+            }
+        }
+    }
+
+    /**
+     * Thread presa em um envio travado: uma a mais no pool até a escrita retornar
+     */
+    private synchronized void ajustarThreads(int delta) {
+        int threads = envio.getCorePoolSize() + delta;
+        if (delta > 0) {
+            envio.setMaximumPoolSize(threads);
+            envio.setCorePoolSize(threads);
+        } else {
+            envio.setCorePoolSize(threads);
+            envio.setMaximumPoolSize(threads);
+        }
+    }
+
+    /**
+     * {@code <época>-<offset>} desta execução → offset; qualquer outro valor → -1 (resync)
+     */
+    private long offsetDe(String ultimoEventoId) {
+        String prefixo = epoca + "-";
+        if (!ultimoEventoId.startsWith(prefixo)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(ultimoEventoId.substring(prefixo.length()));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private String idEvento(long offset) {
+        return epoca + "-" + offset;
+    }
+
+    /**
+     * Conexão SSE com a posição já enviada (cursor)
+     *
+     * O cursor só é lido e escrito pela tarefa de envio, que roda no máximo uma por vez (agendado).
+     * Estado do envio em andamento (enviando, inicioEnvio, travado) protegido por this: o agendador nunca
+     * chama o emitter, que fica bloqueado (synchronized) durante um envio parado
+     */
+    private final class Assinante {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean agendado = new AtomicBoolean();
+        private long cursor;
+        private boolean enviando;
+        private long inicioEnvio;
+        private boolean travado;
+
+        Assinante(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        void agendar() {
+            if (agendado.compareAndSet(false, true)) {
+                executar(() -> enviarPendentes(false));
+            }
+        }
+
+        /**
+         * Envio pendente ou em andamento já mantém a conexão ativa: sem tarefa extra na fila
+         */
+        void agendarHeartbeat() {
+            if (agendado.compareAndSet(false, true)) {
+                executar(() -> enviarPendentes(true));
+            }
+        }
+
+        private void executar(Runnable tarefa) {
+            try {
+                envio.execute(tarefa);
+            } catch (RejectedExecutionException ex) {
+                // Pool encerrado ou fila cheia: o cliente reconecta com Last-Event-ID
+                agendado.set(false);
+                assinantes.remove(this);
+                emitter.complete();
+            }
+        }
+
+        /**
+         * Chamado pelo agendador; true se o envio em andamento passou do send-timeout (só na primeira vez)
+         */
+        synchronized boolean descartarSeTravado(long agora) {
+            if (!enviando || travado || agora - inicioEnvio <= limiteEnvioNanos) {
+                return false;
+            }
+            travado = true;
+            assinantes.remove(this);
+            return true;
+        }
+
+        private void enviarPendentes(boolean heartbeat) {
+            try {
+                if (heartbeat && !enviar(SseEmitter.event().comment(""))) {
+                    return;
+                }
+                while (true) {
+                    Optional<List<BufferMudancas.Mudanca>> lote = buffer.depoisDe(cursor, LOTE_ENVIO);
+                    if (lote.isEmpty()) {
+                        cursor = buffer.ultimo();
+                        if (resyncs != null) {
+                            resyncs.increment();
+                        }
+                        if (!enviar(SseEmitter.event().id(idEvento(cursor)).name(EVENTO_RESYNC)
+                                .data(DADOS_RESYNC, MediaType.APPLICATION_JSON))) {
+                            return;
+                        }
+                        continue;
+                    }
+                    if (lote.get().isEmpty()) {
+                        break;
+                    }
+                    for (BufferMudancas.Mudanca mudanca : lote.get()) {
+                        if (!enviar(SseEmitter.event().id(idEvento(mudanca.offset())).name(mudanca.tipo())
+                                .data(mudanca.json(), MediaType.APPLICATION_JSON))) {
+                            return;
+                        }
+                        cursor = mudanca.offset();
+                    }
+                }
+            } finally {
+                agendado.set(false);
+            }
+            // Mudança publicada depois da última leitura do buffer e antes de agendado=false
+            if (buffer.ultimo() > cursor) {
+                agendar();
+            }
+        }
+
+        /**
+         * @return false se a conexão caiu ou o envio passou do send-timeout (assinante removido)
+         */
+        private boolean enviar(SseEmitter.SseEventBuilder evento) {
+            synchronized (this) {
+                if (travado) {
+                    return false;
+                }
+                enviando = true;
+                inicioEnvio = System.nanoTime();
+            }
+            Exception falha = null;
+            try {
+                emitter.send(evento);
+            } catch (IOException | IllegalStateException ex) {
+                falha = ex;
+            }
+            boolean descartado;
+            synchronized (this) {
+                enviando = false;
+                descartado = travado;
+            }
+            if (descartado) {
+                // Removido pelo agendador durante o envio: devolve a thread extra e fecha a conexão
+                ajustarThreads(-1);
+                emitter.completeWithError(falha != null ? falha : new IOException("Envio acima do send-timeout"));
+                return false;
+            }
+            if (falha != null) {
+                log.debug("Assinante do feed de mudanças desconectado: {}", falha.getMessage());
+                assinantes.remove(this);
+                emitter.completeWithError(falha);
+                return false;
+            }
+            return true;
+        }
+    }
+}
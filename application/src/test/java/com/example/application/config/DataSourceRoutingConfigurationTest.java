@@ -0,0 +1,108 @@
+package com.example.application.config;
+
+import com.example.application.service.query.UsuarioQueryService;
+import com.example.application.service.query.cache.UsuarioQueryCache;
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Roteamento primário/réplica com JPA real e dois H2 em memória
+ *
+ * O schema (ddl-auto) só é criado no primário; a réplica recebe uma cópia
+ * manual com dados diferentes, para saber de onde cada leitura veio.
+ * Sem a transação do @DataJpaTest: cada operação abre a sua.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:roteamento-app-primario;DB_CLOSE_DELAY=-1",
+        "app.usuarios.datasource.routing.enabled=true",
+        "app.usuarios.datasource.routing.replica-max-lag=0s",
+        "app.usuarios.datasource.replica.jdbc-url=jdbc:h2:mem:roteamento-app-replica;DB_CLOSE_DELAY=-1",
+        "app.usuarios.datasource.replica.username=sa",
+        "app.usuarios.query-cache.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DataSourceRoutingConfiguration.class, UsuarioQueryService.class, UsuarioQueryCache.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, MetricsAutoConfiguration.class,
+        SimpleMetricsExportAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DataSourceRoutingConfigurationTest {
+
+    @Autowired
+    private UsuarioQueryService queryService;
+
+    @Autowired
+    private UsuarioJpaRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("primarioDataSource")
+    private DataSource primario;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replica;
+
+    @BeforeEach
+    void prepararBancos() {
+        repository.deleteAllInBatch();
+        JdbcTemplate jdbc = new JdbcTemplate(replica);
+        jdbc.execute("create table if not exists usuarios "
+                + "(id bigint primary key, nome varchar(255) not null, email varchar(255) not null, cpf varchar(11), versao bigint default 0 not null, seq_mudanca bigint)");
+        jdbc.update("delete from usuarios");
+    }
+
+    @Test
+    @DisplayName("Transação read-write grava no primário; UsuarioQueryService lê da réplica")
+    void deveEscreverNoPrimarioELerDaReplica() {
+        UsuarioEntity salvo = new TransactionTemplate(transactionManager).execute(status ->
+                repository.save(new UsuarioEntity(null, "No Primário", "primario@test.com", null)));
+
+        assertEquals(1, new JdbcTemplate(primario).queryForObject(
+                "select count(*) from usuarios where id = ?", Integer.class, salvo.getId()));
+
+        // Réplica ainda não recebeu a linha
+        assertTrue(queryService.buscarPorId(salvo.getId()).isEmpty());
+        assertEquals(0L, queryService.contarUsuarios());
+
+        new JdbcTemplate(replica).update("insert into usuarios (id, nome, email, cpf) values (?, ?, ?, null)",
+                salvo.getId(), "Na Réplica", "primario@test.com");
+
+        assertEquals("Na Réplica", queryService.buscarPorId(salvo.getId()).orElseThrow().getNome());
+        assertEquals(1L, queryService.contarUsuarios());
+    }
+
+    @Test
+    @DisplayName("Repositório: transação read-only lê da réplica, read-write lê do primário")
+    void deveRotearRepositorioPeloTipoDaTransacao() {
+        new JdbcTemplate(replica).update("insert into usuarios (id, nome, email, cpf) values (1, 'Na Réplica', 'r@test.com', null)");
+        TransactionTemplate leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+        TransactionTemplate escrita = new TransactionTemplate(transactionManager);
+
+        assertEquals("Na Réplica", leitura.execute(status -> repository.findDetalheById(1L)).orElseThrow().nome());
+        assertTrue(escrita.execute(status -> repository.findDetalheById(1L)).isEmpty());
+    }
+}
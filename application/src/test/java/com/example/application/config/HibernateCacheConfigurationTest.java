@@ -0,0 +1,158 @@
+package com.example.application.config;
+
+import com.example.domain.exception.UsuarioNaoEncontradoException;
+import com.example.domain.model.Usuario;
+import com.example.domain.usecase.UsuarioUseCaseImpl;
+import com.example.infrastructure.adapter.UsuarioRepositoryAdapter;
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cache de segundo nível com JPA real: contagem de acessos ao banco pelas estatísticas do Hibernate
+ *
+ * Sem a transação do @DataJpaTest: cada operação abre a sua, como no UsuarioCommandService,
+ * e o persistence context (cache de primeiro nível) não sobrevive entre elas.
+ */
+@DataJpaTest(properties = "app.usuarios.hibernate-cache.enabled=true")
+@Import({HibernateCacheConfiguration.class, UsuarioRepositoryAdapter.class})
+@ImportAutoConfiguration({MetricsAutoConfiguration.class, SimpleMetricsExportAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HibernateCacheConfigurationTest {
+
+    @Autowired
+    private UsuarioRepositoryAdapter adapter;
+
+    @Autowired
+    private UsuarioJpaRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics estatisticas;
+    private TransactionTemplate transacao;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transacao = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("buscarPorId: usuário vem do cache de segundo nível, sem ir ao banco")
+    void deveBuscarPorIdSemSelectComUsuarioEmCache() {
+        Long id = salvar("Cacheado", "cacheado@test.com");
+        transacao.executeWithoutResult(status -> adapter.buscarPorId(id));
+        estatisticas.clear();
+
+        Usuario usuario = transacao.execute(status -> adapter.buscarPorId(id)).orElseThrow();
+
+        assertEquals("Cacheado", usuario.getNome());
+        assertEquals(0, estatisticas.getEntityLoadCount());
+        assertEquals(0, estatisticas.getPrepareStatementCount());
+        assertTrue(estatisticas.getSecondLevelCacheHitCount() >= 1);
+        assertTrue(meterRegistry.get("usuarios.hibernate.cache")
+                .tag("regiao", UsuarioEntity.REGIAO_CACHE)
+                .tag("resultado", "hit")
+                .functionCounter().count() >= 1);
+    }
+
+    @Test
+    @DisplayName("removerUsuario: sem carregar o usuário, só o DELETE e o tombstone vão ao banco; saem do cache só o id e o email removidos")
+    void deveRemoverComUmUnicoStatement() {
+        Long id = salvar("Removido", "removido@test.com");
+        Long outro = salvar("Mantido", "mantido@test.com");
+        transacao.executeWithoutResult(status -> {
+            adapter.buscarPorEmail("removido@test.com");
+            adapter.buscarPorId(outro);
+            adapter.buscarPorEmail("mantido@test.com");
+        });
+        assertTrue(repository.findDetalheById(id).isPresent());
+        estatisticas.clear();
+
+        transacao.executeWithoutResult(status -> {
+            try {
+                new UsuarioUseCaseImpl(adapter).removerUsuario(id);
+            } catch (UsuarioNaoEncontradoException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        // DELETE, posição do tombstone (usuarios_mudanca_seq) e INSERT do tombstone
+        assertEquals(0, estatisticas.getEntityLoadCount());
+        assertEquals(3, estatisticas.getPrepareStatementCount());
+        assertFalse(repository.existsById(id));
+        assertTrue(transacao.execute(status -> adapter.buscarPorId(id)).isEmpty());
+        assertTrue(transacao.execute(status -> adapter.buscarPorEmail("removido@test.com")).isEmpty());
+        assertTrue(repository.findDetalheById(id).isEmpty());
+
+        // Os demais usuários continuam em cache, por id e por email
+        estatisticas.clear();
+        transacao.executeWithoutResult(status -> {
+            assertEquals("Mantido", adapter.buscarPorId(outro).orElseThrow().getNome());
+            assertEquals(outro, adapter.buscarPorEmail("mantido@test.com").orElseThrow().getId());
+        });
+        assertEquals(0, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("buscarPorEmail resolve email → id pelo natural id em cache, sem ir ao banco")
+    void deveBuscarPorEmailPeloNaturalIdEmCache() {
+        Long id = salvar("Natural", "natural@test.com");
+        transacao.executeWithoutResult(status -> adapter.buscarPorEmail("natural@test.com"));
+        estatisticas.clear();
+
+        Usuario usuario = transacao.execute(status -> adapter.buscarPorEmail("natural@test.com")).orElseThrow();
+
+        assertEquals(id, usuario.getId());
+        assertEquals(0, estatisticas.getPrepareStatementCount());
+        assertTrue(estatisticas.getNaturalIdCacheHitCount() >= 1);
+        assertTrue(transacao.execute(status -> adapter.buscarPorEmail("outro@test.com")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Consulta por id é reaproveitada do cache de consultas até a próxima escrita em usuarios")
+    void deveReaproveitarConsultaAteAProximaEscrita() {
+        Long id = salvar("Consulta", "consulta@test.com");
+        assertTrue(repository.findDetalheById(id).isPresent());
+        estatisticas.clear();
+
+        assertEquals("Consulta", repository.findDetalheById(id).orElseThrow().nome());
+        assertEquals(0, estatisticas.getPrepareStatementCount());
+
+        salvar("Outro", "outro@test.com");
+        estatisticas.clear();
+
+        assertEquals("Consulta", repository.findDetalheById(id).orElseThrow().nome());
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+    }
+
+    private Long salvar(String nome, String email) {
+        return transacao.execute(status -> repository.save(new UsuarioEntity(null, nome, email, null))).getId();
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.application.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.servlet.http.Cookie;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do roteamento leitura/escrita com dois H2 em memória (primário e réplica)
+ *
+ * Cada banco tem a tabela "origem" com uma linha dizendo quem ele é
+ */
+class LeituraEscritaDataSourceTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final DataSource primario = banco("primario");
+    private final DataSource replica = banco("replica");
+
+    private static DataSource banco(String nome) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:roteamento-" + nome + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists origem (nome varchar(20))");
+        jdbc.update("delete from origem");
+        jdbc.update("insert into origem values (?)", nome);
+        return dataSource;
+    }
+
+    @AfterEach
+    void limpar() {
+        LeituraEscritaDataSource.encerrarCliente();
+        new JdbcTemplate(primario).execute("drop table if exists origem");
+        new JdbcTemplate(replica).execute("drop table if exists origem");
+    }
+
+    private double conexoes(String destino, String motivo) {
+        return registry.get("usuarios.datasource.conexoes").tag("destino", destino).tag("motivo", motivo).counter().count();
+    }
+
+    @Test
+    @DisplayName("Transação read-only vai para a réplica, read-write para o primário")
+    void deveRotearPorTipoDeTransacao() {
+        Roteamento roteamento = new Roteamento(replica, Duration.ZERO);
+
+        assertEquals("replica", roteamento.ler());
+        assertEquals("primario", roteamento.escrever("select nome from origem"));
+        assertEquals(1, conexoes("replica", "leitura"));
+    }
+
+    @Test
+    @DisplayName("Depois de um commit com escrita, as leituras do mesmo cliente ficam no primário durante o atraso máximo")
+    void deveLerDoPrimarioDuranteAtrasoDeReplicacao() {
+        Roteamento roteamento = new Roteamento(replica, Duration.ofHours(1));
+        List<Long> tokens = new ArrayList<>();
+        LeituraEscritaDataSource.iniciarCliente(0, tokens::add);
+
+        assertEquals("replica", roteamento.ler());
+        roteamento.escrever("update origem set nome = nome");
+        assertEquals(1, tokens.size());
+        assertEquals("primario", roteamento.ler());
+        assertEquals(1, conexoes("primario", "atraso-replica"));
+
+        // Outro cliente, sem escrita recente, segue na réplica; o mesmo cliente com o token, no primário
+        LeituraEscritaDataSource.iniciarCliente(0, token -> { });
+        assertEquals("replica", roteamento.ler());
+        LeituraEscritaDataSource.iniciarCliente(tokens.get(0), token -> { });
+        assertEquals("primario", roteamento.ler());
+    }
+
+    @Test
+    @DisplayName("Escrita fora de uma requisição não tira da réplica as leituras de ninguém")
+    void naoDeveAbrirJanelaDeAtrasoSemCliente() {
+        Roteamento roteamento = new Roteamento(replica, Duration.ofHours(1));
+
+        roteamento.escrever("update origem set nome = nome");
+
+        LeituraEscritaDataSource.iniciarCliente(0, token -> { });
+        assertEquals("replica", roteamento.ler());
+    }
+
+    @Test
+    @DisplayName("Filtro: a resposta da escrita traz o cookie, e a requisição seguinte com ele lê do primário")
+    void deveLevarEscritaEntreRequisicoesNoCookie() throws Exception {
+        Roteamento roteamento = new Roteamento(replica, Duration.ofHours(1));
+        LeituraPropriaEscritaFilter filtro = new LeituraPropriaEscritaFilter(Duration.ofHours(1));
+
+        MockHttpServletResponse escrita = new MockHttpServletResponse();
+        filtro.doFilter(new MockHttpServletRequest(), escrita,
+                (request, response) -> roteamento.escrever("update origem set nome = nome"));
+        Cookie cookie = escrita.getCookie(LeituraPropriaEscritaFilter.COOKIE);
+        assertNotNull(cookie);
+        assertEquals(3600, cookie.getMaxAge());
+
+        List<String> origens = new ArrayList<>();
+        MockHttpServletRequest comCookie = new MockHttpServletRequest();
+        comCookie.setCookies(cookie);
+        filtro.doFilter(comCookie, new MockHttpServletResponse(), (request, response) -> origens.add(roteamento.ler()));
+        filtro.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                (request, response) -> origens.add(roteamento.ler()));
+
+        assertEquals(List.of("primario", "replica"), origens);
+    }
+
+    @Test
+    @DisplayName("getConnection com credenciais segue o mesmo roteamento")
+    void deveRotearConexaoComCredenciais() throws SQLException {
+        LeituraEscritaDataSource roteado = new LeituraEscritaDataSource(primario, replica, Duration.ZERO, registry);
+
+        try (Connection conexao = roteado.getConnection("sa", "");
+             ResultSet origem = conexao.createStatement().executeQuery("select nome from origem")) {
+            assertTrue(origem.next());
+            assertEquals("primario", origem.getString(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Transação read-write que só lê não tira as leituras da réplica")
+    void naoDeveAbrirJanelaDeAtrasoSemEscrita() {
+        Roteamento roteamento = new Roteamento(replica, Duration.ofHours(1));
+        LeituraEscritaDataSource.iniciarCliente(0, token -> { });
+
+        roteamento.escrever("select nome from origem");
+
+        assertEquals("replica", roteamento.ler());
+    }
+
+    @Test
+    @DisplayName("Réplica indisponível: leitura cai para o primário")
+    void deveUsarPrimarioQuandoReplicaIndisponivel() {
+        DataSource indisponivel = new DriverManagerDataSource("jdbc:h2:mem:roteamento-inexistente;IFEXISTS=TRUE", "sa", "");
+        Roteamento roteamento = new Roteamento(indisponivel, Duration.ZERO);
+
+        assertEquals("primario", roteamento.ler());
+        assertEquals(1, conexoes("primario", "replica-indisponivel"));
+    }
+
+    /**
+     * DataSource roteado + transações read-only e read-write sobre ele
+     */
+    private class Roteamento {
+
+        private final JdbcTemplate jdbc;
+        private final TransactionTemplate leitura;
+        private final TransactionTemplate escrita;
+
+        Roteamento(DataSource replicaUsada, Duration atrasoMaximo) {
+            DataSource roteado = new LazyConnectionDataSourceProxy(
+                    new LeituraEscritaDataSource(primario, replicaUsada, atrasoMaximo, registry));
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(roteado);
+            this.jdbc = new JdbcTemplate(roteado);
+            this.leitura = new TransactionTemplate(transactionManager);
+            this.leitura.setReadOnly(true);
+            this.escrita = new TransactionTemplate(transactionManager);
+        }
+
+        String ler() {
+            return leitura.execute(status -> jdbc.queryForObject("select nome from origem", String.class));
+        }
+
+        /**
+         * Executa o SQL numa transação read-write e devolve a origem lida na mesma conexão
+         */
+        String escrever(String sql) {
+            return escrita.execute(status -> {
+                if (sql.startsWith("select")) {
+                    jdbc.queryForList(sql);
+                } else {
+                    // Com argumentos (mesmo vazios) o JdbcTemplate usa PreparedStatement, como o Hibernate
+                    jdbc.update(sql, new Object[0]);
+                }
+                return jdbc.queryForObject("select nome from origem", String.class);
+            });
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.application.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do GlobalExceptionHandler - sem Spring
+ */
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("Pool sem conexão livre (timeout do Hikari): 503 com Retry-After, não 500")
+    void deveResponder503SemConexao() {
+        CannotCreateTransactionException ex = new CannotCreateTransactionException("Could not open JPA EntityManager",
+                new SQLTransientConnectionException("HikariPool-1 - Connection is not available, request timed out"));
+
+        ResponseEntity<Map<String, Object>> resposta = handler.handleSemConexao(ex);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, resposta.getStatusCode());
+        assertEquals("1", resposta.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("SERVICE_UNAVAILABLE", resposta.getBody().get("error"));
+    }
+}
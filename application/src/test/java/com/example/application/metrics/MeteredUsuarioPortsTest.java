@@ -0,0 +1,64 @@
+package com.example.application.metrics;
+
+import com.example.domain.exception.UsuarioNaoEncontradoException;
+import com.example.domain.model.Usuario;
+import com.example.domain.ports.in.UsuarioInboundPort;
+import com.example.domain.ports.out.UsuarioOutboundPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes dos decorators de métricas das portas - sem Spring
+ */
+class MeteredUsuarioPortsTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private Timer timer(String porta, String metodo, String outcome, String exception) {
+        return registry.get("usuarios.port")
+                .tag("port", porta)
+                .tag("method", metodo)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .timer();
+    }
+
+    @Test
+    @DisplayName("Porta de saída: cada chamada é medida e o resultado do delegate é devolvido")
+    void deveMedirChamadasDaPortaDeSaida() {
+        UsuarioOutboundPort delegate = mock(UsuarioOutboundPort.class);
+        Usuario usuario = Usuario.reconstituir(1L, "João", "joao@example.com", null);
+        when(delegate.buscarPorId(1L)).thenReturn(Optional.of(usuario));
+        MeteredUsuarioOutboundPort porta = new MeteredUsuarioOutboundPort(delegate, registry);
+
+        assertSame(usuario, porta.buscarPorId(1L).orElseThrow());
+        porta.buscarPorId(1L);
+        porta.deletar(1L);
+
+        assertEquals(2, timer("UsuarioOutboundPort", "buscarPorId", "SUCCESS", "none").count());
+        assertEquals(1, timer("UsuarioOutboundPort", "deletar", "SUCCESS", "none").count());
+        verify(delegate).deletar(1L);
+    }
+
+    @Test
+    @DisplayName("Porta de entrada: exceção verificada é propagada e contada como ERROR")
+    void deveMedirErrosDaPortaDeEntrada() throws UsuarioNaoEncontradoException {
+        UsuarioInboundPort delegate = mock(UsuarioInboundPort.class);
+        UsuarioNaoEncontradoException erro = new UsuarioNaoEncontradoException(99L);
+        when(delegate.buscarUsuarioPorId(99L)).thenThrow(erro);
+        MeteredUsuarioInboundPort porta = new MeteredUsuarioInboundPort(delegate, registry);
+
+        assertSame(erro, assertThrows(UsuarioNaoEncontradoException.class, () -> porta.buscarUsuarioPorId(99L)));
+
+        assertEquals(1, timer("UsuarioInboundPort", "buscarUsuarioPorId", "ERROR", "UsuarioNaoEncontradoException").count());
+        assertTrue(registry.find("usuarios.port").tag("outcome", "SUCCESS").timers().isEmpty());
+    }
+}
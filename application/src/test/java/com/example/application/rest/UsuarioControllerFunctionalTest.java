@@ -1,26 +1,59 @@
 package com.example.application.rest;
 
 import com.example.application.config.AutoMockRepositoryConfiguration;
+import com.example.application.rest.dto.UsuarioLoteItemResponse;
+import com.example.application.rest.dto.UsuarioLoteResponse;
+import com.example.application.rest.dto.UsuarioRemocaoLoteResponse;
 import com.example.application.rest.dto.UsuarioRequest;
 import com.example.application.rest.dto.UsuarioResponse;
+import com.example.application.service.query.UsuarioQueryService;
+import com.example.application.service.query.dto.UsuarioBuscaResponse;
+import com.example.application.service.query.dto.UsuarioDeltaResponse;
+import com.example.application.service.query.dto.UsuarioListResponse;
+import com.example.application.service.query.dto.UsuarioPageResponse;
 import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioMudancaProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioRemocaoProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioResumoProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioVersaoProjection;
 import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
+import com.example.infrastructure.databases.oracle.repository.UsuarioRemovidoJpaRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -33,9 +66,10 @@ import static org.mockito.Mockito.when;
  * - Testa via HTTP usando TestRestTemplate
  * - Valida serialização/deserialização JSON e status HTTP
  */
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "app.usuarios.search.enabled=true")
 @ActiveProfiles("test")
 @Import(AutoMockRepositoryConfiguration.class)
+@AutoConfigureObservability(tracing = false) // registro Prometheus real (testes desligam exportação por padrão)
 class UsuarioControllerFunctionalTest {
 
     @Autowired
@@ -48,6 +82,9 @@ class UsuarioControllerFunctionalTest {
     @Autowired
     private UsuarioJpaRepository usuarioJpaRepository;
 
+    @Autowired
+    private UsuarioRemovidoJpaRepository usuarioRemovidoJpaRepository;
+
     @Test
     @DisplayName("Deve carregar o contexto Spring com WebMvc e repositórios mockados automaticamente")
     void contextLoads() {
@@ -64,7 +101,7 @@ class UsuarioControllerFunctionalTest {
                 1L, "Teste HTTP", "teste.http@example.com", "80333508068"
             );
 
-        when(usuarioJpaRepository.save(any())).thenReturn(entity);
+        when(usuarioJpaRepository.saveAndFlush(any())).thenReturn(entity);
 
         // Request HTTP
         UsuarioRequest request = new UsuarioRequest();
@@ -87,15 +124,104 @@ class UsuarioControllerFunctionalTest {
         assertEquals("80333508068", response.getBody().getCpf());
     }
 
+    @Test
+    @DisplayName("Deve encontrar usuário recém-criado via GET /api/usuarios/search por parte do nome")
+    void deveBuscarUsuarioCriadoPorParteDoNome() {
+        when(usuarioJpaRepository.saveAndFlush(any())).thenReturn(
+                new UsuarioEntity(77L, "Gertrudes Busca", "gertrudes.busca@example.com", "80333508068"));
+        restTemplate.postForEntity("/api/usuarios",
+                new UsuarioRequest("Gertrudes Busca", "gertrudes.busca@example.com", "80333508068"),
+                UsuarioResponse.class);
+
+        ResponseEntity<UsuarioBuscaResponse> response = restTemplate.getForEntity(
+                "/api/usuarios/search?q=GERTRU&limit=5", UsuarioBuscaResponse.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(5, response.getBody().getLimite());
+        assertEquals(List.of(77L), response.getBody().getUsuarios().stream().map(UsuarioListResponse::getId).toList());
+
+        ResponseEntity<String> semConsulta = restTemplate.getForEntity("/api/usuarios/search", String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, semConsulta.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Deve criar usuários em lote via POST /api/usuarios/lote com resultado por item")
+    void deveCriarUsuariosEmLoteViaHttp() {
+        when(usuarioJpaRepository.findEmailsExistentes(any())).thenReturn(List.of("existente@example.com"));
+        when(usuarioJpaRepository.saveAllAndFlush(any())).thenReturn(List.of(
+                new UsuarioEntity(1L, "Lote 1", "lote1@example.com", "80333508068")
+        ));
+
+        List<UsuarioRequest> requests = List.of(
+                new UsuarioRequest("Lote 1", "lote1@example.com", "80333508068"),
+                new UsuarioRequest("Invalido", "email-invalido", "80333508068"),
+                new UsuarioRequest("Existente", "existente@example.com", "00554295059")
+        );
+
+        ResponseEntity<UsuarioLoteResponse> response = restTemplate.postForEntity(
+                "/api/usuarios/lote",
+                requests,
+                UsuarioLoteResponse.class
+        );
+
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(3, response.getBody().getTotal());
+        assertEquals(1, response.getBody().getCriados());
+        assertEquals(2, response.getBody().getFalhas());
+
+        List<UsuarioLoteItemResponse> itens = response.getBody().getItens();
+        assertTrue(itens.get(0).isCriado());
+        assertEquals(1L, itens.get(0).getId());
+        assertFalse(itens.get(1).isCriado());
+        assertEquals("Email inválido: email-invalido", itens.get(1).getErro());
+        assertEquals("Já existe um usuário com o email: existente@example.com", itens.get(2).getErro());
+    }
+
+    @Test
+    @DisplayName("Item nulo ou sem nome no lote vira falha do item, sem abortar o lote")
+    void deveRecusarItemNuloOuSemNomeNoLote() {
+        List<UsuarioRequest> requests = Arrays.asList(
+                null,
+                new UsuarioRequest(null, "sem.nome@example.com", "80333508068")
+        );
+
+        ResponseEntity<UsuarioLoteResponse> response = restTemplate.postForEntity(
+                "/api/usuarios/lote",
+                requests,
+                UsuarioLoteResponse.class
+        );
+
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(2, response.getBody().getFalhas());
+        List<UsuarioLoteItemResponse> itens = response.getBody().getItens();
+        assertEquals("Item do lote não pode ser nulo", itens.get(0).getErro());
+        assertEquals("Nome não pode ser vazio", itens.get(1).getErro());
+        assertEquals("sem.nome@example.com", itens.get(1).getEmail());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 Bad Request para lote vazio")
+    void deveRetornar400ParaLoteVazio() {
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                "/api/usuarios/lote",
+                List.of(),
+                String.class
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
     @Test
     @DisplayName("Deve buscar usuário por ID via GET /api/usuarios/{id} e retornar 200 OK")
     void deveBuscarUsuarioPorIdViaHttp() {
-        // Mock explícito do repositório
-        UsuarioEntity entity = new UsuarioEntity(
+        // Mock explícito do repositório (projeção de leitura)
+        UsuarioDetalheProjection detalhe = new UsuarioDetalheProjection(
                 1L, "Usuario Busca", "busca@test.com", "80333508068"
             );
         
-        when(usuarioJpaRepository.findById(1L)).thenReturn(Optional.of(entity));
+        when(usuarioJpaRepository.findDetalheById(1L)).thenReturn(Optional.of(detalhe));
 
         // Chamada HTTP GET
         ResponseEntity<UsuarioResponse> response = restTemplate.getForEntity(
@@ -111,41 +237,241 @@ class UsuarioControllerFunctionalTest {
     }
 
     @Test
-    @DisplayName("Deve listar todos usuários via GET /api/usuarios e retornar 200 OK")
+    @DisplayName("Deve responder 304 ao GET /api/usuarios/{id} com If-None-Match da versão atual, sem buscar o usuário")
+    void deveResponder304ParaUsuarioNaoModificado() {
+        when(usuarioJpaRepository.findDetalheById(40L)).thenReturn(Optional.of(
+                new UsuarioDetalheProjection(40L, "Versionado", "versionado@test.com", null, 3L)));
+        when(usuarioJpaRepository.findVersaoById(40L)).thenReturn(Optional.of(3L));
+
+        ResponseEntity<UsuarioResponse> primeira = restTemplate.getForEntity("/api/usuarios/40", UsuarioResponse.class);
+        assertEquals(HttpStatus.OK, primeira.getStatusCode());
+        assertEquals("\"40-3\"", primeira.getHeaders().getETag());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(primeira.getHeaders().getETag());
+        ResponseEntity<String> condicional = restTemplate.exchange(
+                "/api/usuarios/40", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, condicional.getStatusCode());
+        assertEquals("\"40-3\"", condicional.getHeaders().getETag());
+        assertNull(condicional.getBody());
+        verify(usuarioJpaRepository).findDetalheById(40L);
+
+        headers.setIfNoneMatch("\"40-2\"");
+        ResponseEntity<UsuarioResponse> alterado = restTemplate.exchange(
+                "/api/usuarios/40", HttpMethod.GET, new HttpEntity<>(headers), UsuarioResponse.class);
+        assertEquals(HttpStatus.OK, alterado.getStatusCode());
+        assertEquals(3L, alterado.getBody().getVersao());
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 à página com If-None-Match, consultando só ids e versões")
+    void deveResponder304ParaPaginaNaoModificada() {
+        when(usuarioJpaRepository.findResumosAfter(eq(500L), eq(Limit.of(3)))).thenReturn(List.of(
+                new UsuarioResumoProjection(501L, "Quinhentos e Um", "q501@test.com", 0L),
+                new UsuarioResumoProjection(502L, "Quinhentos e Dois", "q502@test.com", 4L)));
+        when(usuarioJpaRepository.findVersoesAfter(eq(500L), eq(Limit.of(3)))).thenReturn(List.of(
+                new UsuarioVersaoProjection(501L, 0L),
+                new UsuarioVersaoProjection(502L, 4L)));
+
+        ResponseEntity<UsuarioPageResponse> primeira = restTemplate.getForEntity(
+                "/api/usuarios?after=500&limit=2", UsuarioPageResponse.class);
+        String etag = primeira.getHeaders().getETag();
+        assertNotNull(etag);
+        assertEquals(4L, primeira.getBody().getUsuarios().get(1).getVersao());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<String> condicional = restTemplate.exchange(
+                "/api/usuarios?after=500&limit=2", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, condicional.getStatusCode());
+        assertNull(condicional.getBody());
+        verify(usuarioJpaRepository).findResumosAfter(500L, Limit.of(3));
+
+        // Usuário 502 alterado: a página muda de versão
+        when(usuarioJpaRepository.findVersoesAfter(eq(500L), eq(Limit.of(3)))).thenReturn(List.of(
+                new UsuarioVersaoProjection(501L, 0L),
+                new UsuarioVersaoProjection(502L, 5L)));
+        when(usuarioJpaRepository.findResumosAfter(eq(500L), eq(Limit.of(3)))).thenReturn(List.of(
+                new UsuarioResumoProjection(501L, "Quinhentos e Um", "q501@test.com", 0L),
+                new UsuarioResumoProjection(502L, "Quinhentos e Dois", "q502@test.com", 5L)));
+        ResponseEntity<String> alterada = restTemplate.exchange(
+                "/api/usuarios?after=500&limit=2", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertEquals(HttpStatus.OK, alterada.getStatusCode());
+        assertNotEquals(etag, alterada.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Deve devolver no 200 só o ETag do usuário carregado quando a versão prévia não corresponde")
+    void deveUsarEtagDoUsuarioServido() {
+        // Versão prévia (4) mais nova que a linha carregada em seguida (3): o ETag é o do corpo
+        when(usuarioJpaRepository.findVersaoById(43L)).thenReturn(Optional.of(4L));
+        when(usuarioJpaRepository.findDetalheById(43L)).thenReturn(Optional.of(
+                new UsuarioDetalheProjection(43L, "Corrida", "corrida@test.com", null, 3L)));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch("\"43-2\"");
+        ResponseEntity<UsuarioResponse> response = restTemplate.exchange(
+                "/api/usuarios/43", HttpMethod.GET, new HttpEntity<>(headers), UsuarioResponse.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(3L, response.getBody().getVersao());
+        assertEquals(List.of("\"43-3\""), response.getHeaders().get(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("Deve responder 200 ao GET /api/usuarios/email/{email} com o ETag de um usuário anterior com o mesmo email")
+    void naoDeveResponder304ParaUsuarioRecriadoComMesmoEmail() {
+        // Usuário 45 (versão 0) removido e recriado como 46 (também versão 0) com o mesmo email
+        when(usuarioJpaRepository.findDetalheByEmail("recriado@test.com")).thenReturn(Optional.of(
+                new UsuarioDetalheProjection(46L, "Recriado", "recriado@test.com", null, 0L)));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch("\"45-0\"");
+        ResponseEntity<UsuarioResponse> response = restTemplate.exchange(
+                "/api/usuarios/email/recriado@test.com", HttpMethod.GET, new HttpEntity<>(headers), UsuarioResponse.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(46L, response.getBody().getId());
+        assertEquals("\"46-0\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Deve devolver no 200 só o ETag da página listada quando a versão prévia não corresponde")
+    void deveUsarEtagDaPaginaServida() {
+        when(usuarioJpaRepository.findVersoesAfter(eq(700L), eq(Limit.of(2)))).thenReturn(List.of(
+                new UsuarioVersaoProjection(701L, 2L)));
+        when(usuarioJpaRepository.findResumosAfter(eq(700L), eq(Limit.of(2)))).thenReturn(List.of(
+                new UsuarioResumoProjection(701L, "Setecentos e Um", "q701@test.com", 1L)));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch("\"outra\"");
+        ResponseEntity<UsuarioPageResponse> response = restTemplate.exchange(
+                "/api/usuarios?after=700&limit=1", HttpMethod.GET, new HttpEntity<>(headers), UsuarioPageResponse.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of("\"" + UsuarioQueryService.versaoPagina(response.getBody()) + "\""),
+                response.getHeaders().get(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("Deve listar usuários paginados via GET /api/usuarios e retornar 200 OK")
     void deveListarTodosUsuariosViaHttp() {
         // Mock explícito para listagem
-        UsuarioEntity entity1 = new UsuarioEntity(
-                1L, "Usuario 1", "usuario1@test.com", "80333508068"
+        UsuarioResumoProjection resumo1 = new UsuarioResumoProjection(
+                1L, "Usuario 1", "usuario1@test.com"
             );
-        UsuarioEntity entity2 = new UsuarioEntity(
-                2L, "Usuario 2", "usuario2@test.com", "00554295059"
+        UsuarioResumoProjection resumo2 = new UsuarioResumoProjection(
+                2L, "Usuario 2", "usuario2@test.com"
             );
         
-        when(usuarioJpaRepository.findAll()).thenReturn(List.of(entity1, entity2));
+        when(usuarioJpaRepository.findResumosAfter(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(resumo1, resumo2));
 
         // Chamada HTTP GET
-        ResponseEntity<UsuarioResponse[]> response = restTemplate.getForEntity(
+        ResponseEntity<UsuarioPageResponse> response = restTemplate.getForEntity(
                 "/api/usuarios", 
-                UsuarioResponse[].class
+                UsuarioPageResponse.class
         );
 
         // Verificações
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(2, response.getBody().length);
-        assertEquals("Usuario 1", response.getBody()[0].getNome());
-        assertEquals("Usuario 2", response.getBody()[1].getNome());
+        assertEquals(2, response.getBody().getUsuarios().size());
+        assertEquals("Usuario 1", response.getBody().getUsuarios().get(0).getNome());
+        assertEquals("Usuario 2", response.getBody().getUsuarios().get(1).getNome());
+        assertNull(response.getBody().getProximoCursor());
+    }
+
+    @Test
+    @DisplayName("Deve retornar próximo cursor e limitar a página ao máximo do servidor")
+    void deveRetornarProximoCursorViaHttp() {
+        // Repositório devolve limite + 1 linhas: indica que existe próxima página
+        when(usuarioJpaRepository.findResumosAfter(eq(10L), eq(Limit.of(3))))
+                .thenReturn(List.of(
+                        new UsuarioResumoProjection(11L, "Usuario 11", "usuario11@test.com"),
+                        new UsuarioResumoProjection(12L, "Usuario 12", "usuario12@test.com"),
+                        new UsuarioResumoProjection(13L, "Usuario 13", "usuario13@test.com")
+                ));
+
+        ResponseEntity<UsuarioPageResponse> response = restTemplate.getForEntity(
+                "/api/usuarios?after=10&limit=2",
+                UsuarioPageResponse.class
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(2, response.getBody().getUsuarios().size());
+        assertEquals(12L, response.getBody().getProximoCursor());
+
+        // Limite acima do máximo é reduzido pelo servidor
+        restTemplate.getForEntity("/api/usuarios?limit=100000", UsuarioPageResponse.class);
+        verify(usuarioJpaRepository).findResumosAfter(0L, Limit.of(UsuarioQueryService.LIMITE_MAXIMO + 1));
+    }
+
+    @Test
+    @DisplayName("Deve listar só as mudanças após o token via GET /api/usuarios/delta, intercaladas pela posição")
+    void deveListarMudancasViaHttp() {
+        when(usuarioRemovidoJpaRepository.limiteVisivel()).thenReturn(1000L);
+        when(usuarioJpaRepository.findMudancasBetween(eq(900L), eq(1000L), any(Limit.class))).thenReturn(List.of(
+                new UsuarioMudancaProjection(50L, "Alterado", "alterado@test.com", 2L, 901L),
+                new UsuarioMudancaProjection(51L, "Criado", "criado@test.com", 0L, 904L)));
+        when(usuarioRemovidoJpaRepository.findRemocoesBetween(eq(900L), eq(1000L), any(Limit.class))).thenReturn(List.of(
+                new UsuarioRemocaoProjection(52L, 902L)));
+
+        ResponseEntity<UsuarioDeltaResponse> response = restTemplate.getForEntity(
+                "/api/usuarios/delta?since=900&limit=2", UsuarioDeltaResponse.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        UsuarioDeltaResponse delta = response.getBody();
+        assertNotNull(delta);
+        assertEquals(List.of(50L), delta.getAlterados().stream().map(UsuarioListResponse::getId).toList());
+        assertEquals(2L, delta.getAlterados().get(0).getVersao());
+        assertEquals(List.of(52L), delta.getRemovidos());
+        assertEquals(902L, delta.getToken());
+        assertTrue(delta.isTemMais());
+        assertEquals(2, delta.getLimite());
+
+        ResponseEntity<UsuarioDeltaResponse> semMudancas = restTemplate.getForEntity(
+                "/api/usuarios/delta?since=5000", UsuarioDeltaResponse.class);
+        assertEquals(5000L, semMudancas.getBody().getToken());
+        assertFalse(semMudancas.getBody().isTemMais());
+        assertTrue(semMudancas.getBody().getAlterados().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve exportar usuários em NDJSON via GET /api/usuarios/export")
+    void deveExportarUsuariosEmNdjsonViaHttp() {
+        when(usuarioJpaRepository.streamDetalhes()).thenReturn(Stream.of(
+                new UsuarioDetalheProjection(1L, "Usuario 1", "usuario1@test.com", "80333508068"),
+                new UsuarioDetalheProjection(2L, "Usuario 2", "usuario2@test.com", null)
+        ));
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "/api/usuarios/export",
+                String.class
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertNotNull(response.getBody());
+
+        assertTrue(response.getBody().endsWith("}\n"));
+        String[] linhas = response.getBody().split("\n");
+        assertEquals(2, linhas.length);
+        for (String linha : linhas) {
+            assertTrue(linha.startsWith("{"), () -> "Linha NDJSON deve começar com '{': [" + linha + "]");
+        }
+        assertTrue(linhas[0].contains("\"email\":\"usuario1@test.com\""));
+        assertTrue(linhas[1].contains("\"email\":\"usuario2@test.com\""));
     }
 
     @Test
     @DisplayName("Deve remover usuário via DELETE /api/usuarios/{id} e retornar 204 No Content")
     void deveRemoverUsuarioViaHttp() {
-        // Mock explícito para remoção
-        UsuarioEntity entity = new UsuarioEntity(
-                1L, "Usuario Delete", "delete@test.com", "80333508068"
-            );
-        
-        when(usuarioJpaRepository.findById(1L)).thenReturn(Optional.of(entity));
+        // Mock explícito para remoção: um DELETE, uma linha afetada
+        when(usuarioJpaRepository.deletarPorId(1L)).thenReturn(1);
 
         // Chamada HTTP DELETE
         ResponseEntity<Void> response = restTemplate.exchange(
@@ -159,11 +485,202 @@ class UsuarioControllerFunctionalTest {
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
     }
 
+    @Test
+    @DisplayName("Deve retornar 404 ao remover usuário inexistente via DELETE /api/usuarios/{id}")
+    void deveRetornar404AoRemoverUsuarioInexistente() {
+        // Mock padrão: nenhuma linha afetada pelo DELETE
+        ResponseEntity<String> response = restTemplate.exchange(
+                "/api/usuarios/404", HttpMethod.DELETE, null, String.class);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Deve enviar a remoção no feed SSE GET /api/usuarios/changes e retomar pelo Last-Event-ID")
+    void deveAcompanharMudancasViaSse() {
+        when(usuarioJpaRepository.deletarPorId(41L)).thenReturn(1);
+        HttpClient cliente = HttpClient.newHttpClient();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            String idRemocao;
+            try (Stream<String> aoVivo = assinarMudancas(cliente, null)) {
+                restTemplate.delete("/api/usuarios/41");
+                idRemocao = proximoEvento(aoVivo.iterator(), "usuario.removido", "\"usuarioId\":41");
+            }
+
+            // Reconexão com o evento anterior: a remoção é reenviada
+            String epoca = idRemocao.substring(0, idRemocao.lastIndexOf('-'));
+            long offset = Long.parseLong(idRemocao.substring(idRemocao.lastIndexOf('-') + 1));
+            try (Stream<String> retomada = assinarMudancas(cliente, epoca + "-" + (offset - 1))) {
+                assertEquals(idRemocao, proximoEvento(retomada.iterator(), "usuario.removido", "\"usuarioId\":41"));
+            }
+
+            // Id de outra execução: não há como saber o que foi perdido
+            try (Stream<String> outraExecucao = assinarMudancas(cliente, "outra-1")) {
+                Iterator<String> linhas = outraExecucao.iterator();
+                proximoEvento(linhas, "resync", "motivo");
+            }
+        });
+    }
+
+    /**
+     * Conecta no feed e devolve as linhas do stream (headers já recebidos: assinatura registrada)
+     */
+    private Stream<String> assinarMudancas(HttpClient cliente, String ultimoEventoId) throws Exception {
+        HttpRequest.Builder requisicao = HttpRequest.newBuilder(URI.create(restTemplate.getRootUri() + "/api/usuarios/changes"))
+                .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE);
+        if (ultimoEventoId != null) {
+            requisicao.header("Last-Event-ID", ultimoEventoId);
+        }
+        HttpResponse<Stream<String>> resposta = cliente.send(requisicao.build(), HttpResponse.BodyHandlers.ofLines());
+        assertEquals(HttpStatus.OK.value(), resposta.statusCode());
+        return resposta.body();
+    }
+
+    /**
+     * Lê até o evento do tipo informado cujo data contém o trecho; devolve o id do evento
+     */
+    private static String proximoEvento(Iterator<String> linhas, String tipo, String trechoDados) {
+        String id = null;
+        String evento = null;
+        while (linhas.hasNext()) {
+            String linha = linhas.next();
+            if (linha.startsWith("id:")) {
+                id = linha.substring(3);
+            } else if (linha.startsWith("event:")) {
+                evento = linha.substring(6);
+            } else if (linha.startsWith("data:") && tipo.equals(evento) && linha.contains(trechoDados)) {
+                return id;
+            } else if (linha.isEmpty()) {
+                id = null;
+                evento = null;
+            }
+        }
+        return fail("Feed encerrado antes do evento " + tipo);
+    }
+
+    @Test
+    @DisplayName("Deve remover usuários em lote via DELETE /api/usuarios/lote e informar os não encontrados")
+    void deveRemoverUsuariosEmLoteViaHttp() {
+        when(usuarioJpaRepository.findDetalhesParaRemocao(List.of(10L, 11L, 12L))).thenReturn(List.of(
+                new UsuarioDetalheProjection(10L, "Dez", "dez@test.com", null),
+                new UsuarioDetalheProjection(12L, "Doze", "doze@test.com", null)));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<UsuarioRemocaoLoteResponse> response = restTemplate.exchange(
+                "/api/usuarios/lote", HttpMethod.DELETE,
+                new HttpEntity<>(List.of(10L, 11L, 12L, 10L), headers), UsuarioRemocaoLoteResponse.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(List.of(10L, 12L), response.getBody().getRemovidos());
+        assertEquals(List.of(11L), response.getBody().getNaoEncontrados());
+        verify(usuarioJpaRepository).deletarPorIds(List.of(10L, 12L));
+
+        ResponseEntity<String> vazio = restTemplate.exchange("/api/usuarios/lote", HttpMethod.DELETE,
+                new HttpEntity<>(List.of(), headers), String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, vazio.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar usuário via PUT /api/usuarios/{id} e devolver a versão no ETag")
+    void deveAtualizarUsuarioViaHttp() {
+        when(usuarioJpaRepository.findById(30L)).thenReturn(Optional.of(
+                new UsuarioEntity(30L, "Antigo", "antigo.put@example.com", "80333508068", 5L)));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch("\"30-5\"");
+        ResponseEntity<UsuarioResponse> response = restTemplate.exchange(
+                "/api/usuarios/30", HttpMethod.PUT,
+                new HttpEntity<>(new UsuarioRequest("Novo", "novo.put@example.com", null), headers),
+                UsuarioResponse.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"30-5\"", response.getHeaders().getETag());
+        assertEquals("Novo", response.getBody().getNome());
+        assertEquals("novo.put@example.com", response.getBody().getEmail());
+        assertNull(response.getBody().getCpf());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar só os campos informados via PATCH /api/usuarios/{id}")
+    void deveAtualizarUsuarioParcialmenteViaHttp() {
+        when(usuarioJpaRepository.findById(31L)).thenReturn(Optional.of(
+                new UsuarioEntity(31L, "Antigo", "antigo.patch@example.com", "80333508068", 2L)));
+
+        // HttpURLConnection (padrão do TestRestTemplate) não envia PATCH
+        RestTemplate patch = new RestTemplateBuilder()
+                .rootUri(restTemplate.getRootUri())
+                .requestFactory(JdkClientHttpRequestFactory.class)
+                .build();
+        ResponseEntity<UsuarioResponse> response = patch.exchange("/api/usuarios/31", HttpMethod.PATCH,
+                new HttpEntity<>(new UsuarioRequest("Só o Nome", null, null)), UsuarioResponse.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Só o Nome", response.getBody().getNome());
+        assertEquals("antigo.patch@example.com", response.getBody().getEmail());
+        assertEquals("80333508068", response.getBody().getCpf());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 409 ao atualizar com If-Match de uma versão antiga")
+    void deveRetornar409ParaVersaoAntiga() {
+        when(usuarioJpaRepository.findById(32L)).thenReturn(Optional.of(
+                new UsuarioEntity(32L, "Atual", "atual@example.com", null, 7L)));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch("\"32-6\"");
+        ResponseEntity<String> response = restTemplate.exchange("/api/usuarios/32", HttpMethod.PUT,
+                new HttpEntity<>(new UsuarioRequest("Outro", "atual@example.com", null), headers), String.class);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+
+        ResponseEntity<String> inexistente = restTemplate.exchange("/api/usuarios/404", HttpMethod.PUT,
+                new HttpEntity<>(new UsuarioRequest("Outro", "outro@example.com", null)), String.class);
+        assertEquals(HttpStatus.NOT_FOUND, inexistente.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 412 ao atualizar com If-Match fraco (comparação forte) ou de outro usuário")
+    void deveRetornar412ParaIfMatchFraco() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch("W/\"33-5\"");
+        ResponseEntity<String> response = restTemplate.exchange("/api/usuarios/33", HttpMethod.PUT,
+                new HttpEntity<>(new UsuarioRequest("Outro", "fraco@example.com", null), headers), String.class);
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+
+        headers.setIfMatch("\"34-5\"");
+        ResponseEntity<String> outro = restTemplate.exchange("/api/usuarios/33", HttpMethod.PUT,
+                new HttpEntity<>(new UsuarioRequest("Outro", "fraco@example.com", null), headers), String.class);
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, outro.getStatusCode());
+        verify(usuarioJpaRepository, never()).findById(33L);
+    }
+
+    @Test
+    @DisplayName("Deve publicar histogramas das portas e dos endpoints em /actuator/prometheus")
+    void devePublicarMetricasNoPrometheus() {
+        when(usuarioJpaRepository.deletarPorId(2L)).thenReturn(1);
+        restTemplate.exchange("/api/usuarios/2", HttpMethod.DELETE, null, Void.class);
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String metricas = response.getBody();
+        assertNotNull(metricas);
+        assertTrue(metricas.contains("usuarios_port_seconds_bucket{exception=\"none\",method=\"removerUsuario\",outcome=\"SUCCESS\",port=\"UsuarioInboundPort\""));
+        assertTrue(metricas.contains("usuarios_port_seconds_bucket{exception=\"none\",method=\"deletar\",outcome=\"SUCCESS\",port=\"UsuarioOutboundPort\""));
+        assertTrue(metricas.contains("http_server_requests_seconds_bucket"));
+        assertTrue(metricas.contains("uri=\"/api/usuarios/{id}\""));
+    }
+
     @Test
     @DisplayName("Deve retornar 404 Not Found quando buscar usuário inexistente via GET /api/usuarios/{id}")
     void deveRetornar404ParaUsuarioInexistente() {
         // Mock: usuário não encontrado
-        when(usuarioJpaRepository.findById(999L)).thenReturn(Optional.empty());
+        when(usuarioJpaRepository.findDetalheById(999L)).thenReturn(Optional.empty());
 
         // Chamada HTTP GET para usuário inexistente
         ResponseEntity<UsuarioResponse> response = restTemplate.getForEntity(
@@ -0,0 +1,144 @@
+package com.example.application.service.command.async;
+
+import com.example.application.exception.ApiException;
+import com.example.application.exception.ResponseErrorCode;
+import com.example.application.rest.dto.ComandoCriacaoResponse;
+import com.example.application.rest.dto.UsuarioRequest;
+import com.example.application.service.query.cache.UsuarioQueryCache;
+import com.example.domain.exception.UsuarioInvalidoException;
+import com.example.domain.model.ResultadoCriacaoUsuario;
+import com.example.domain.model.Usuario;
+import com.example.domain.ports.in.UsuarioInboundPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes da criação assíncrona de usuários - sem Spring
+ * O escritor só é iniciado nos testes que gravam: os demais enxergam a fila parada
+ */
+class CriacaoUsuarioAssincronaTest {
+    
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final UsuarioInboundPort inboundPort = mock(UsuarioInboundPort.class);
+    private CriacaoUsuarioAssincrona criacao;
+    
+    private CriacaoUsuarioAssincrona criar(int capacidade, int tamanhoLote, Duration esperaMaxima) {
+        criacao = new CriacaoUsuarioAssincrona(inboundPort, mock(UsuarioQueryCache.class),
+                mock(PlatformTransactionManager.class), registry,
+                capacidade, tamanhoLote, esperaMaxima, Duration.ofMinutes(1), 1_000);
+        return criacao;
+    }
+    
+    @AfterEach
+    void encerrar() throws InterruptedException {
+        criacao.encerrar();
+    }
+    
+    private static UsuarioRequest request(int i) {
+        return new UsuarioRequest("Usuário " + i, "usuario" + i + "@example.com", "123.456.789-09");
+    }
+    
+    private ComandoCriacaoResponse aguardarConclusao(UUID id) throws InterruptedException {
+        long prazo = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < prazo) {
+            ComandoCriacaoResponse situacao = criacao.buscarSituacao(id).orElseThrow();
+            if (situacao.getStatus() != ComandoCriacaoResponse.Status.PENDENTE) {
+                return situacao;
+            }
+            Thread.sleep(10);
+        }
+        return fail("comando " + id + " não foi gravado");
+    }
+    
+    @Test
+    @DisplayName("Dados inválidos falham na própria requisição, sem enfileirar")
+    void deveValidarAntesDeEnfileirar() {
+        criar(10, 10, Duration.ofMillis(10));
+        
+        ApiException ex = assertThrows(ApiException.class,
+                () -> criacao.enfileirar(new UsuarioRequest("João", "invalido", "123.456.789-09")));
+        
+        assertEquals(ResponseErrorCode.INVALID_REQUEST, ex.getCode());
+        assertEquals(0, registry.get("usuarios.comandos.fila").gauge().value());
+    }
+    
+    @Test
+    @DisplayName("Fila cheia: 429 e contador de rejeições")
+    void deveRecusarComFilaCheia() {
+        criar(2, 10, Duration.ofMillis(10));
+        
+        assertEquals(ComandoCriacaoResponse.Status.PENDENTE, criacao.enfileirar(request(1)).getStatus());
+        criacao.enfileirar(request(2));
+        ApiException ex = assertThrows(ApiException.class, () -> criacao.enfileirar(request(3)));
+        
+        assertEquals(ResponseErrorCode.TOO_MANY_REQUESTS, ex.getCode());
+        assertEquals(2, registry.get("usuarios.comandos.fila").gauge().value());
+        assertEquals(1, registry.get("usuarios.comandos.rejeitados").counter().count());
+    }
+    
+    @Test
+    @DisplayName("Comandos enfileirados juntos são gravados em um único lote")
+    void deveGravarComandosEmLote() throws Exception {
+        when(inboundPort.criarUsuarios(anyList())).thenAnswer(invocacao -> {
+            List<Usuario> usuarios = invocacao.getArgument(0);
+            List<ResultadoCriacaoUsuario> resultados = new ArrayList<>();
+            for (int i = 0; i < usuarios.size(); i++) {
+                Usuario usuario = usuarios.get(i);
+                resultados.add(ResultadoCriacaoUsuario.sucesso(Usuario.reconstituir(
+                        100L + i, usuario.getNome(), usuario.getEmailAsString(), usuario.getCpfAsString())));
+            }
+            return resultados;
+        });
+        criar(10, 3, Duration.ofSeconds(5));
+        
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(criacao.enfileirar(request(i)).getId());
+        }
+        criacao.iniciar();
+        
+        for (int i = 0; i < 3; i++) {
+            ComandoCriacaoResponse situacao = aguardarConclusao(ids.get(i));
+            assertEquals(ComandoCriacaoResponse.Status.CRIADO, situacao.getStatus());
+            assertEquals(100L + i, situacao.getUsuarioId());
+        }
+        verify(inboundPort, times(1)).criarUsuarios(anyList());
+        assertEquals(1, registry.get("usuarios.comandos.lote").summary().count());
+        assertEquals(3, registry.get("usuarios.comandos.lote").summary().totalAmount());
+    }
+    
+    @Test
+    @DisplayName("Conflito de email no lote: refaz um a um e só o conflitante falha")
+    void deveRefazerUmAUmQuandoLoteConflita() throws Exception {
+        when(inboundPort.criarUsuarios(anyList())).thenThrow(new DataIntegrityViolationException("uk_email"));
+        when(inboundPort.criarUsuario(any(), any(), any()))
+                .thenReturn(Usuario.reconstituir(7L, "Usuário 1", "usuario1@example.com", "12345678909"))
+                .thenThrow(new UsuarioInvalidoException(
+                        "Já existe um usuário com o email: usuario2@example.com"));
+        criar(10, 2, Duration.ofSeconds(5));
+        
+        UUID primeiro = criacao.enfileirar(request(1)).getId();
+        UUID segundo = criacao.enfileirar(request(2)).getId();
+        criacao.iniciar();
+        
+        assertEquals(7L, aguardarConclusao(primeiro).getUsuarioId());
+        ComandoCriacaoResponse falha = aguardarConclusao(segundo);
+        assertEquals(ComandoCriacaoResponse.Status.FALHOU, falha.getStatus());
+        assertEquals("Já existe um usuário com o email: usuario2@example.com", falha.getErro());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.application.service.outbox;
+
+import com.example.infrastructure.databases.oracle.entity.UsuarioOutboxEntity;
+import com.example.infrastructure.databases.oracle.repository.UsuarioOutboxJpaRepository;
+import com.example.infrastructure.outbox.EventoPublicavel;
+import com.example.infrastructure.outbox.MemoriaPublicadorEventos;
+import com.example.infrastructure.outbox.PublicadorEventos;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do relay do outbox - sem Spring, repositório mockado
+ */
+class UsuarioOutboxRelayTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final UsuarioOutboxJpaRepository repository = mock(UsuarioOutboxJpaRepository.class);
+
+    private UsuarioOutboxRelay relay(PublicadorEventos publicador, int tamanhoLote) {
+        return new UsuarioOutboxRelay(repository, publicador, mock(PlatformTransactionManager.class), registry, tamanhoLote);
+    }
+
+    private static UsuarioOutboxEntity evento(long id, Instant criadoEm) {
+        return new UsuarioOutboxEntity(id, "usuario.criado", id, "{\"usuarioId\":" + id + "}", criadoEm);
+    }
+
+    @Test
+    @DisplayName("Publica em ordem, apaga os publicados e continua enquanto os lotes vêm cheios")
+    void devePublicarLotesAteEsvaziar() {
+        Instant agora = Instant.now();
+        List<UsuarioOutboxEntity> primeiroLote = List.of(evento(1, agora), evento(2, agora));
+        List<UsuarioOutboxEntity> segundoLote = List.of(evento(3, agora));
+        when(repository.reivindicarLote(2)).thenReturn(primeiroLote).thenReturn(segundoLote);
+        when(repository.findCriadoEmMaisAntigo()).thenReturn(Optional.empty());
+        MemoriaPublicadorEventos publicador = new MemoriaPublicadorEventos(100);
+
+        relay(publicador, 2).drenar();
+
+        assertEquals(List.of(1L, 2L, 3L), publicador.publicados().stream().map(EventoPublicavel::id).toList());
+        verify(repository).deleteAllInBatch(primeiroLote);
+        verify(repository).deleteAllInBatch(segundoLote);
+        verify(repository, times(2)).reivindicarLote(2);
+        assertEquals(3, registry.get("usuarios.outbox.publicados").counter().count());
+        assertEquals(3, registry.get("usuarios.outbox.atraso").timer().count());
+        assertEquals(0, registry.get("usuarios.outbox.lag").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Falha ao publicar: apaga só os já publicados e deixa o resto para o próximo ciclo")
+    void devePararNaPrimeiraFalha() throws Exception {
+        Instant criadoEm = Instant.now().minusSeconds(30);
+        UsuarioOutboxEntity primeiro = evento(1, criadoEm);
+        UsuarioOutboxEntity segundo = evento(2, criadoEm);
+        when(repository.reivindicarLote(10)).thenReturn(List.of(primeiro, segundo, evento(3, criadoEm)));
+        when(repository.findCriadoEmMaisAntigo()).thenReturn(Optional.of(criadoEm));
+        PublicadorEventos publicador = mock(PublicadorEventos.class);
+        doNothing().doThrow(new IllegalStateException("broker fora")).when(publicador).publicar(any());
+
+        relay(publicador, 10).drenar();
+
+        verify(repository).deleteAllInBatch(List.of(primeiro));
+        verify(publicador, times(2)).publicar(any());
+        assertEquals(1, registry.get("usuarios.outbox.falhas").counter().count());
+        assertTrue(registry.get("usuarios.outbox.lag").gauge().value() >= 30);
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.application.service.query;
+
+import com.example.application.service.query.dto.UsuarioDeltaResponse;
+import com.example.application.service.query.dto.UsuarioListResponse;
+import com.example.application.service.query.cache.UsuarioQueryCache;
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Delta sync com JPA real e transações concorrentes
+ *
+ * Sem a transação do @DataJpaTest: cada escrita abre a sua (TransactionTemplate), em threads diferentes
+ * quando precisam ficar abertas ao mesmo tempo.
+ */
+@DataJpaTest(properties = "app.usuarios.query-cache.enabled=false")
+@Import({UsuarioQueryService.class, UsuarioQueryCache.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UsuarioQueryServiceDeltaTest {
+
+    @Autowired
+    private UsuarioQueryService queryService;
+
+    @Autowired
+    private UsuarioJpaRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transacao;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        transacao = new TransactionTemplate(transactionManager);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Transação aberta com posição menor segura o token: a sua linha é entregue depois do commit")
+    void deveEntregarMudancaDaTransacaoMaisAntiga() throws Exception {
+        CountDownLatch gravou = new CountDownLatch(1);
+        CountDownLatch confirmar = new CountDownLatch(1);
+        Future<Long> longa = executor.submit(() -> transacao.execute(status -> {
+            Long id = repository.saveAndFlush(new UsuarioEntity(null, "Longa", "longa@test.com", null)).getId();
+            gravou.countDown();
+            aguardar(confirmar);
+            return id;
+        }));
+        assertTrue(gravou.await(5, TimeUnit.SECONDS));
+
+        // Posição maior que a da transação longa, confirmada antes dela
+        Long curta = transacao.execute(status ->
+                repository.save(new UsuarioEntity(null, "Curta", "curta@test.com", null)).getId());
+
+        UsuarioDeltaResponse comLongaAberta = queryService.listarMudancas(null, null);
+        assertTrue(comLongaAberta.getAlterados().isEmpty());
+        assertEquals(0L, comLongaAberta.getToken());
+
+        confirmar.countDown();
+        Long idLonga = longa.get(5, TimeUnit.SECONDS);
+
+        UsuarioDeltaResponse depois = queryService.listarMudancas(comLongaAberta.getToken(), null);
+        assertEquals(List.of(idLonga, curta), ids(depois));
+        assertFalse(depois.isTemMais());
+    }
+
+    @Test
+    @DisplayName("Rollback também libera o limite")
+    void deveLiberarLimiteAposRollback() {
+        transacao.executeWithoutResult(status -> {
+            repository.saveAndFlush(new UsuarioEntity(null, "Descartado", "descartado@test.com", null));
+            status.setRollbackOnly();
+        });
+        Long confirmado = transacao.execute(status ->
+                repository.save(new UsuarioEntity(null, "Confirmado", "confirmado@test.com", null)).getId());
+
+        assertEquals(List.of(confirmado), ids(queryService.listarMudancas(null, null)));
+    }
+
+    private static List<Long> ids(UsuarioDeltaResponse delta) {
+        return delta.getAlterados().stream().map(UsuarioListResponse::getId).toList();
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
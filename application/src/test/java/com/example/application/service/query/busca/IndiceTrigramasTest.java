@@ -0,0 +1,117 @@
+package com.example.application.service.query.busca;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do índice de trigramas - sem Spring
+ */
+class IndiceTrigramasTest {
+
+    private final IndiceTrigramas indice = new IndiceTrigramas();
+
+    private List<Long> ids(String consulta, int limite) {
+        return indice.buscar(consulta, limite).stream().map(IndiceTrigramas.Resultado::id).toList();
+    }
+
+    @Test
+    @DisplayName("Substring do nome ou do email, sem acentos e sem diferenciar caixa")
+    void deveBuscarPorSubstring() {
+        indice.adicionar(1, "João da Conceição", "joao@empresa.com");
+        indice.adicionar(2, "Maria Silva", "maria@conceito.com.br");
+        indice.adicionar(3, "Pedro Souza", "pedro@outra.com");
+
+        assertEquals(List.of(1L), ids("CONCEIÇÃO", 10));
+        assertEquals(List.of(1L, 2L), ids("conce", 10));
+        assertEquals(List.of(2L), ids("ilv", 10));
+        assertEquals(List.of(3L), ids("outra.c", 10));
+        assertTrue(ids("xyz", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Trigramas presentes fora de ordem não contam como resultado")
+    void deveConferirCandidatosNoTexto() {
+        // "abc" e "bcd" existem no nome, mas não "abcd"
+        indice.adicionar(1, "abc xbcd", "x@y.com");
+
+        assertTrue(ids("abcd", 10).isEmpty());
+        assertEquals(List.of(1L), ids("bcd", 10));
+    }
+
+    @Test
+    @DisplayName("Consultas de 1 e 2 caracteres casam só com início de palavra")
+    void deveBuscarPrefixoDePalavraComConsultaCurta() {
+        indice.adicionar(1, "Ana Lima", "ana@test.com");
+        indice.adicionar(2, "Bruno Alves", "bruno@test.com");
+
+        assertEquals(List.of(1L, 2L), ids("a", 10));
+        assertEquals(List.of(1L), ids("li", 10));
+        assertTrue(ids("im", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Ranking: nome igual > prefixo do nome > prefixo de palavra > email > substring; top-K")
+    void deveRanquearPorRelevancia() {
+        indice.adicionar(1, "Rosamaria Lopes", "c1@test.com");   // substring do nome
+        indice.adicionar(2, "Joana Maria", "c2@test.com");       // prefixo de palavra
+        indice.adicionar(3, "Maria", "c3@test.com");             // nome igual
+        indice.adicionar(4, "Mariana Costa", "c4@test.com");     // prefixo do nome
+        indice.adicionar(5, "Beatriz", "maria.b@test.com");      // prefixo do email
+        indice.adicionar(6, "Ana Mariah Souza", "c6@test.com");  // prefixo de palavra, nome mais longo
+
+        assertEquals(List.of(3L, 4L, 2L, 6L, 5L, 1L), ids("maria", 10));
+        assertEquals(List.of(3L, 4L), ids("maria", 2));
+    }
+
+    @Test
+    @DisplayName("Consulta ampla: nome igual e prefixo entram no ranking mesmo depois de MAXIMO_CONFERIDOS substrings")
+    void deveConferirInicioDePalavraAntesDoLimite() {
+        int substrings = IndiceTrigramas.MAXIMO_CONFERIDOS + 100;
+        for (int i = 0; i < substrings; i++) {
+            indice.adicionar(i, "Rosilva " + i, "r" + i + "@test.com");
+        }
+        indice.adicionar(substrings, "Silva Santos", "s1@test.com");
+        indice.adicionar(substrings + 1, "Silva", "s2@test.com");
+
+        assertEquals(List.of(substrings + 1L, (long) substrings), ids("silva", 2));
+        assertEquals(List.of(0L), ids("rosilva 0", 10));
+    }
+
+    @Test
+    @DisplayName("Remoção e reindexação pelo mesmo id")
+    void deveRemoverEReindexar() {
+        indice.adicionar(1, "Helena", "helena@test.com");
+        indice.adicionar(2, "Heitor", "heitor@test.com");
+
+        assertTrue(indice.remover(1));
+        assertFalse(indice.remover(1));
+        assertEquals(List.of(2L), ids("he", 10));
+
+        indice.adicionar(2, "Otávio", "otavio@test.com");
+        assertTrue(ids("heitor", 10).isEmpty());
+        assertEquals(List.of(2L), ids("otav", 10));
+        assertEquals(1, indice.tamanho());
+    }
+
+    @Test
+    @DisplayName("Compactação após muitas remoções mantém os usuários ativos pesquisáveis")
+    void deveCompactarAposRemocoes() {
+        for (int i = 0; i < 5_000; i++) {
+            indice.adicionar(i, "Usuario " + i, "usuario" + i + "@test.com");
+        }
+        long memoriaCheia = indice.memoriaEstimadaBytes();
+        for (int i = 0; i < 4_000; i++) {
+            indice.remover(i);
+        }
+
+        assertEquals(1_000, indice.tamanho());
+        assertTrue(indice.memoriaEstimadaBytes() < memoriaCheia);
+        assertEquals(List.of(4_321L), ids("usuario 4321", 10));
+        assertTrue(ids("usuario 1234", 10).isEmpty());
+        assertEquals(10, ids("usuario", 10).size());
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.application.service.query.cache;
+
+import com.example.application.rest.dto.UsuarioResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do cache local de consultas - sem Spring, loader contando idas ao "banco"
+ */
+class UsuarioQueryCacheTest {
+
+    private static final UsuarioResponse JOAO = new UsuarioResponse(1L, "João", "joao@example.com", null);
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger idasAoBanco = new AtomicInteger();
+
+    private UsuarioQueryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = criar(true, Duration.ofMinutes(5));
+    }
+
+    private UsuarioQueryCache criar(boolean habilitado, Duration ttlNegativo) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("registry", registry));
+        return new UsuarioQueryCache(habilitado, 100, Duration.ofMinutes(5), ttlNegativo,
+                beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    private Optional<UsuarioResponse> banco(Optional<UsuarioResponse> resultado) {
+        idasAoBanco.incrementAndGet();
+        return resultado;
+    }
+
+    @Test
+    @DisplayName("Segunda busca pelo mesmo id não vai ao banco")
+    void deveGuardarBuscaPorId() {
+        assertEquals(Optional.of(JOAO), cache.buscarPorId(1L, id -> banco(Optional.of(JOAO))));
+        assertEquals(Optional.of(JOAO), cache.buscarPorId(1L, id -> banco(Optional.empty())));
+
+        assertEquals(1, idasAoBanco.get());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "usuarios.por-id").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Resultado negativo é guardado e expira pelo TTL negativo")
+    void deveGuardarResultadoNegativoComTtlProprio() throws InterruptedException {
+        cache = criar(true, Duration.ofMillis(50));
+
+        assertTrue(cache.buscarPorEmail("novo@example.com", email -> banco(Optional.empty())).isEmpty());
+        assertTrue(cache.buscarPorEmail("novo@example.com", email -> banco(Optional.empty())).isEmpty());
+        assertEquals(1, idasAoBanco.get());
+
+        Thread.sleep(100);
+        cache.buscarPorEmail("novo@example.com", email -> banco(Optional.empty()));
+        assertEquals(2, idasAoBanco.get());
+    }
+
+    @Test
+    @DisplayName("Criação descarta o negativo guardado para o id e o email")
+    void deveInvalidarNaCriacao() {
+        cache.buscarPorId(1L, id -> banco(Optional.empty()));
+        cache.buscarPorEmail("joao@example.com", email -> banco(Optional.empty()));
+
+        cache.invalidarCriado(1L, " JOAO@example.com");
+
+        assertEquals(Optional.of(JOAO), cache.buscarPorId(1L, id -> banco(Optional.of(JOAO))));
+        assertEquals(Optional.of(JOAO), cache.buscarPorEmail("joao@example.com", email -> banco(Optional.of(JOAO))));
+        assertEquals(4, idasAoBanco.get());
+    }
+
+    @Test
+    @DisplayName("Remoção descarta entradas por id e por email do usuário")
+    void deveInvalidarNaRemocao() {
+        cache.buscarPorId(1L, id -> banco(Optional.of(JOAO)));
+        cache.buscarPorEmail("joao@example.com", email -> banco(Optional.of(JOAO)));
+
+        cache.invalidarRemovido(1L, "joao@example.com");
+
+        assertTrue(cache.buscarPorId(1L, id -> banco(Optional.empty())).isEmpty());
+        assertTrue(cache.buscarPorEmail("joao@example.com", email -> banco(Optional.empty())).isEmpty());
+        assertEquals(4, idasAoBanco.get());
+    }
+
+    @Test
+    @DisplayName("Remoção só pelo id descarta também o email em que o usuário foi encontrado, sem tocar em outros usuários")
+    void deveInvalidarEmailNaRemocaoSoPeloId() {
+        UsuarioResponse maria = new UsuarioResponse(2L, "Maria", "maria@example.com", null);
+        cache.buscarPorEmail("joao@example.com", email -> banco(Optional.of(JOAO)));
+        cache.buscarPorEmail("maria@example.com", email -> banco(Optional.of(maria)));
+
+        cache.invalidarRemovido(1L);
+
+        assertTrue(cache.buscarPorEmail("joao@example.com", email -> banco(Optional.empty())).isEmpty());
+        assertEquals(Optional.of(maria), cache.buscarPorEmail("maria@example.com", email -> banco(Optional.empty())));
+        assertEquals(3, idasAoBanco.get());
+    }
+
+    @Test
+    @DisplayName("Troca de email descarta o email anterior e o negativo do novo, sem tocar em outros usuários")
+    void deveInvalidarEmailAnteriorNaAtualizacao() {
+        UsuarioResponse maria = new UsuarioResponse(2L, "Maria", "maria@example.com", null);
+        cache.buscarPorEmail("joao@example.com", email -> banco(Optional.of(JOAO)));
+        cache.buscarPorEmail("joao.novo@example.com", email -> banco(Optional.empty()));
+        cache.buscarPorEmail("maria@example.com", email -> banco(Optional.of(maria)));
+
+        cache.invalidarAtualizado(1L, "joao@example.com", "Joao.Novo@example.com");
+
+        assertTrue(cache.buscarPorEmail("joao@example.com", email -> banco(Optional.empty())).isEmpty());
+        assertTrue(cache.buscarPorEmail("joao.novo@example.com", email -> banco(Optional.of(JOAO))).isPresent());
+        assertEquals(Optional.of(maria), cache.buscarPorEmail("maria@example.com", email -> banco(Optional.empty())));
+        assertEquals(5, idasAoBanco.get());
+    }
+
+    @Test
+    @DisplayName("Versão em cache é lida sem loader; ausente, negativo ou atualizado não é")
+    void deveInformarVersaoEmCache() {
+        UsuarioResponse comVersao = new UsuarioResponse(1L, "João", "joao@example.com", null, 3L);
+        assertTrue(cache.versaoEmCache(1L).isEmpty());
+
+        cache.buscarPorId(1L, id -> banco(Optional.of(comVersao)));
+        cache.buscarPorId(2L, id -> banco(Optional.empty()));
+
+        assertEquals(Optional.of(3L), cache.versaoEmCache(1L));
+        assertTrue(cache.versaoEmCache(2L).isEmpty());
+        cache.invalidarAtualizado(1L, "joao@example.com", "joao@example.com");
+        assertTrue(cache.versaoEmCache(1L).isEmpty());
+        assertEquals(2, idasAoBanco.get());
+    }
+
+    @Test
+    @DisplayName("Desabilitado: toda busca vai ao banco")
+    void deveIrSempreAoBancoQuandoDesabilitado() {
+        cache = criar(false, Duration.ofMinutes(5));
+
+        cache.buscarPorId(1L, id -> banco(Optional.of(JOAO)));
+        cache.buscarPorId(1L, id -> banco(Optional.of(JOAO)));
+        cache.invalidarRemovido(1L, "joao@example.com");
+
+        assertEquals(2, idasAoBanco.get());
+    }
+
+    @Test
+    void deveNormalizarEmailComoGravadoNoBanco() {
+        assertEquals("joao@example.com", UsuarioQueryCache.normalizarEmail("  Joao@Example.COM "));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.application.service.query.feed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do buffer circular do feed de mudanças - sem Spring
+ */
+class BufferMudancasTest {
+
+    private final BufferMudancas buffer = new BufferMudancas(3);
+
+    private List<Long> offsets(long depoisDe, int maximo) {
+        return buffer.depoisDe(depoisDe, maximo).orElseThrow().stream()
+                .map(BufferMudancas.Mudanca::offset)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Offsets crescentes a partir de 1, lidos em ordem e em lotes")
+    void deveLerMudancasEmOrdem() {
+        assertEquals(0, buffer.ultimo());
+        assertEquals(1, buffer.adicionar("usuario.criado", "{\"usuarioId\":1}"));
+        assertEquals(2, buffer.adicionar("usuario.removido", "{\"usuarioId\":1}"));
+
+        assertEquals(List.of(1L, 2L), offsets(0, 10));
+        assertEquals(List.of(1L), offsets(0, 1));
+        assertEquals(List.of(2L), offsets(1, 10));
+        assertTrue(offsets(2, 10).isEmpty());
+
+        BufferMudancas.Mudanca mudanca = buffer.depoisDe(1, 1).orElseThrow().get(0);
+        assertEquals("usuario.removido", mudanca.tipo());
+        assertEquals("{\"usuarioId\":1}", mudanca.json());
+    }
+
+    @Test
+    @DisplayName("Offset que já saiu do buffer não pode ser retomado")
+    void deveRecusarOffsetForaDoBuffer() {
+        for (int i = 0; i < 5; i++) {
+            buffer.adicionar("usuario.criado", "{}");
+        }
+
+        // Guarda 3, 4 e 5: retomar depois de 2 ainda é completo, depois de 1 teria buraco
+        assertEquals(List.of(3L, 4L, 5L), offsets(2, 10));
+        assertEquals(Optional.empty(), buffer.depoisDe(1, 10));
+        assertEquals(Optional.empty(), buffer.depoisDe(0, 10));
+    }
+
+    @Test
+    @DisplayName("Offset negativo ou à frente do último emitido não pode ser retomado")
+    void deveRecusarOffsetDesconhecido() {
+        buffer.adicionar("usuario.criado", "{}");
+
+        assertEquals(Optional.empty(), buffer.depoisDe(-1, 10));
+        assertEquals(Optional.empty(), buffer.depoisDe(2, 10));
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.application.service.query.feed;
+
+import com.example.domain.event.UsuarioRemovidoEvento;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Isolamento entre assinantes do feed de mudanças - sem Spring
+ *
+ * Emitters no lugar da resposta HTTP: um que para no envio (como um socket cheio) e outro que só registra
+ */
+class UsuarioFeedMudancasTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private UsuarioFeedMudancas feed;
+    private EmitterTravado lento;
+
+    @AfterEach
+    void tearDown() {
+        if (lento != null) {
+            lento.liberar.countDown();
+        }
+        if (feed != null) {
+            feed.encerrar();
+        }
+    }
+
+    private UsuarioFeedMudancas criar(int threads, Duration heartbeat, Duration limiteEnvio, SseEmitter... emitters) {
+        Deque<SseEmitter> proximos = new ArrayDeque<>(List.of(emitters));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("registry", registry));
+        return new UsuarioFeedMudancas(new ObjectMapper().findAndRegisterModules(), 100, 10, threads, heartbeat,
+                Duration.ofMinutes(1), limiteEnvio, beanFactory.getBeanProvider(MeterRegistry.class)) {
+            @Override
+            SseEmitter novoEmitter(long timeoutMillis) {
+                return proximos.removeFirst();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Envio parado não segura os demais: o assinante é descartado após o send-timeout e a thread reposta")
+    void deveDescartarAssinanteTravado() throws Exception {
+        lento = new EmitterTravado();
+        EmitterRegistrando rapido = new EmitterRegistrando();
+        feed = criar(1, Duration.ofMinutes(1), Duration.ofMillis(200), lento, rapido);
+
+        feed.assinar(null);
+        feed.registrar(removido(1L));
+        assertTrue(lento.parado.await(5, TimeUnit.SECONDS)); // a única thread de envio está presa
+
+        feed.assinar(null);
+        feed.registrar(removido(2L));
+        aguardarEvento(rapido, "\"usuarioId\":2");
+
+        assertEquals(1.0, registry.get("usuarios.feed.assinantes").gauge().value());
+        assertEquals(1.0, registry.get("usuarios.feed.travados").counter().count());
+
+        // A escrita presa retorna (timeout do container): o feed segue com o pool original
+        lento.liberar.countDown();
+        feed.registrar(removido(3L));
+        aguardarEvento(rapido, "\"usuarioId\":3");
+    }
+
+    @Test
+    @DisplayName("Heartbeat não enfileira outra tarefa para assinante com envio pendente")
+    void deveIgnorarHeartbeatComEnvioPendente() throws Exception {
+        lento = new EmitterTravado();
+        feed = criar(1, Duration.ofMillis(10), Duration.ofMinutes(1), lento, new EmitterRegistrando());
+
+        feed.assinar(null);
+        feed.assinar(null);
+        assertTrue(lento.parado.await(5, TimeUnit.SECONDS));
+
+        Thread.sleep(200); // ~20 heartbeats com a única thread presa
+
+        // Só o heartbeat do outro assinante, uma vez
+        assertEquals(1.0, registry.get("usuarios.feed.fila").gauge().value());
+    }
+
+    private static UsuarioRemovidoEvento removido(Long id) {
+        return new UsuarioRemovidoEvento(id, "removido" + id + "@test.com", Instant.now());
+    }
+
+    private static void aguardarEvento(EmitterRegistrando emitter, String trecho) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String evento;
+        while ((evento = emitter.eventos.poll(limite - System.nanoTime(), TimeUnit.NANOSECONDS)) != null) {
+            if (evento.contains(trecho)) {
+                return;
+            }
+        }
+        fail("Evento com " + trecho + " não chegou ao assinante");
+    }
+
+    /**
+     * Aceita o comentário de conexão; o envio seguinte fica parado até liberar e então falha
+     */
+    private static final class EmitterTravado extends SseEmitter {
+
+        private final AtomicInteger envios = new AtomicInteger();
+        private final CountDownLatch parado = new CountDownLatch(1);
+        private final CountDownLatch liberar = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder evento) throws IOException {
+            if (envios.incrementAndGet() == 1) {
+                return;
+            }
+            parado.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("Broken pipe");
+        }
+    }
+
+    private static final class EmitterRegistrando extends SseEmitter {
+
+        private final BlockingQueue<String> eventos = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder evento) {
+            eventos.add(evento.build().stream()
+                    .map(dados -> String.valueOf(dados.getData()))
+                    .collect(Collectors.joining()));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.benchmarks.application;
+
+import com.example.application.service.query.busca.IndiceTrigramas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca no índice de trigramas do GET /api/usuarios/search, sem Spring e sem HTTP
+ *
+ * Nomes sintéticos "Prenome Sobrenome Sobrenome" (40 × 60 × 60 combinações) e emails únicos:
+ * - buscarSeletivo: parte local do email de um usuário (um resultado)
+ * - buscarPrefixoCurto: 2 letras (prefixo de palavra, muitos candidatos)
+ * - buscarSobrenome: sobrenome inteiro (~1/30 dos usuários casam)
+ *
+ * Executar: ./gradlew :benchmarks:jmh -Pjmh.includes=IndiceTrigramasBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Benchmark)
+public class IndiceTrigramasBenchmark {
+
+    private static final int LIMITE = 10;
+
+    private static final String[] PRENOMES = {
+            "Ana", "Bruno", "Carla", "Daniel", "Eduarda", "Felipe", "Gabriela", "Heitor", "Isabela", "João",
+            "Karina", "Lucas", "Mariana", "Nicolas", "Olivia", "Pedro", "Quitéria", "Rafael", "Sofia", "Thiago",
+            "Úrsula", "Vitor", "Wesley", "Xavier", "Yasmin", "Zeca", "Alice", "Bernardo", "Cecília", "Davi",
+            "Elisa", "Fábio", "Giovana", "Hugo", "Irene", "Júlia", "Leonardo", "Manuela", "Otávio", "Helena"};
+
+    private static final String[] SOBRENOMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+            "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa",
+            "Rocha", "Dias", "Nascimento", "Andrade", "Moreira", "Nunes", "Marques", "Machado", "Mendes", "Freitas",
+            "Cardoso", "Ramos", "Gonçalves", "Santana", "Teixeira", "Correia", "Araújo", "Pinto", "Moura", "Cavalcanti",
+            "Monteiro", "Batista", "Campos", "Rezende", "Farias", "Duarte", "Castro", "Azevedo", "Barros", "Pires",
+            "Guimarães", "Brito", "Tavares", "Coelho", "Cunha", "Sales", "Macedo", "Borges", "Leite", "Siqueira"};
+
+    @Param({"1000000"})
+    public int usuarios;
+
+    private IndiceTrigramas indice;
+    private String[] nomes;
+
+    @Setup(Level.Trial)
+    public void indexar() {
+        Random random = new Random(42);
+        indice = new IndiceTrigramas();
+        nomes = new String[usuarios];
+        for (int i = 0; i < usuarios; i++) {
+            nomes[i] = PRENOMES[random.nextInt(PRENOMES.length)] + " "
+                    + SOBRENOMES[random.nextInt(SOBRENOMES.length)] + " "
+                    + SOBRENOMES[random.nextInt(SOBRENOMES.length)];
+            indice.adicionar(i + 1, nomes[i], "usuario" + i + "@bench.com");
+        }
+        System.out.printf("%nÍndice: %d usuários, %d trigramas, ~%d MB (%d bytes/usuário)%n",
+                indice.tamanho(), indice.quantidadeTrigramas(), indice.memoriaEstimadaBytes() / (1024 * 1024),
+                indice.memoriaEstimadaBytes() / usuarios);
+    }
+
+    @Benchmark
+    public List<IndiceTrigramas.Resultado> buscarSeletivo() {
+        int n = ThreadLocalRandom.current().nextInt(usuarios);
+        return indice.buscar("usuario" + n + "@", LIMITE);
+    }
+
+    @Benchmark
+    public List<IndiceTrigramas.Resultado> buscarPrefixoCurto() {
+        String nome = nomes[ThreadLocalRandom.current().nextInt(usuarios)];
+        return indice.buscar(nome.substring(0, 2), LIMITE);
+    }
+
+    @Benchmark
+    public List<IndiceTrigramas.Resultado> buscarSobrenome() {
+        return indice.buscar(SOBRENOMES[ThreadLocalRandom.current().nextInt(SOBRENOMES.length)], LIMITE);
+    }
+}
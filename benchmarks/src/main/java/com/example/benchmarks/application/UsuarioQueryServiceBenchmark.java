@@ -0,0 +1,111 @@
+package com.example.benchmarks.application;
+
+import com.example.application.Application;
+import com.example.application.service.query.UsuarioQueryService;
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UsuarioQueryService com o contexto Spring real sobre H2 em memória
+ *
+ * - listarPagina: página de 50 em posição aleatória (keyset)
+ * - buscarPorId / buscarPorEmail: usuário aleatório, com e sem UsuarioQueryCache
+ *
+ * Sem servidor web: mede o service, não o HTTP.
+ *
+ * Executar: ./gradlew :benchmarks:jmh -Pjmh.includes=UsuarioQueryServiceBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UsuarioQueryServiceBenchmark {
+
+    private static final int TAMANHO_PAGINA = 50;
+    private static final int LOTE_CARGA = 1_000;
+
+    @Param({"10000"})
+    public int usuarios;
+
+    @Param({"false", "true"})
+    public boolean cache;
+
+    private ConfigurableApplicationContext context;
+    private UsuarioQueryService queryService;
+    private long primeiroId;
+
+    @Setup(Level.Trial)
+    public void iniciarAplicacao() {
+        SpringApplication aplicacao = new SpringApplication(Application.class);
+        aplicacao.setWebApplicationType(WebApplicationType.NONE);
+        // Argumentos têm precedência sobre o application.yml do módulo Application
+        context = aplicacao.run(
+                "--spring.datasource.url=jdbc:h2:mem:bench-query-" + cache + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.com.example=WARN",
+                "--logging.level.org.springframework=WARN",
+                "--app.usuarios.query-cache.enabled=" + cache);
+
+        UsuarioJpaRepository repository = context.getBean(UsuarioJpaRepository.class);
+        List<UsuarioEntity> lote = new ArrayList<>(LOTE_CARGA);
+        for (int i = 0; i < usuarios; i++) {
+            lote.add(new UsuarioEntity(null, "Usuario " + i, "usuario" + i + "@bench.com", "12345678909"));
+            if (lote.size() == LOTE_CARGA) {
+                repository.saveAll(lote);
+                lote.clear();
+            }
+        }
+        repository.saveAll(lote);
+
+        queryService = context.getBean(UsuarioQueryService.class);
+        primeiroId = queryService.listarUsuarios(null, 1).getUsuarios().get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrarAplicacao() {
+        context.close();
+    }
+
+    @Benchmark
+    public void listarPagina(Blackhole blackhole) {
+        long after = primeiroId - 1 + ThreadLocalRandom.current().nextInt(usuarios - TAMANHO_PAGINA);
+        blackhole.consume(queryService.listarUsuarios(after, TAMANHO_PAGINA));
+    }
+
+    @Benchmark
+    public void buscarPorId(Blackhole blackhole) {
+        long id = primeiroId + ThreadLocalRandom.current().nextInt(usuarios);
+        blackhole.consume(queryService.buscarPorId(id));
+    }
+
+    @Benchmark
+    public void buscarPorEmail(Blackhole blackhole) {
+        int n = ThreadLocalRandom.current().nextInt(usuarios);
+        blackhole.consume(queryService.buscarPorEmail("usuario" + n + "@bench.com"));
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.benchmarks.carga;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Teste de carga HTTP (closed loop) contra uma aplicação já em execução
+ *
+ * N clientes concorrentes repetem a requisição sem pausa durante o tempo configurado;
+ * ao final, imprime throughput e latências (p50, p99, máx) de cada cenário:
+ * - POST /api/usuarios (email único por requisição: SELECT de unicidade + INSERT)
+ * - GET /api/usuarios/{id} (ids criados na carga inicial)
+ *
+ * Comparação com e sem virtual threads (mesma máquina, mesmo banco):
+ *   ./gradlew :application:bootRun                                                  (threads de plataforma)
+ *   SPRING_PROFILES_ACTIVE=virtual-threads ./gradlew -PjavaVersion=21 :application:bootRun
+ *   ./gradlew :benchmarks:cargaHttp -Pcarga.args="--concorrencia=400 --duracao=30"
+ *
+ * Para o GET medir o banco e não o cache local, suba a aplicação com USUARIOS_QUERY_CACHE=false.
+ *
+ * Argumentos (--nome=valor): url (http://localhost:8080), concorrencia (200),
+ * duracao em segundos (30), aquecimento em segundos (5), usuarios criados para o GET (1000)
+ */
+public final class CargaHttp {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String url;
+    private final int concorrencia;
+    private final int duracao;
+    private final int aquecimento;
+    private final AtomicLong sequencial = new AtomicLong(System.currentTimeMillis());
+
+    private CargaHttp(Map<String, String> args) {
+        this.url = args.getOrDefault("url", "http://localhost:8080");
+        this.concorrencia = Integer.parseInt(args.getOrDefault("concorrencia", "200"));
+        this.duracao = Integer.parseInt(args.getOrDefault("duracao", "30"));
+        this.aquecimento = Integer.parseInt(args.getOrDefault("aquecimento", "5"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> argumentos = new HashMap<>();
+        for (String arg : args) {
+            String[] chaveValor = arg.replaceFirst("^--", "").split("=", 2);
+            argumentos.put(chaveValor[0], chaveValor.length > 1 ? chaveValor[1] : "true");
+        }
+
+        CargaHttp carga = new CargaHttp(argumentos);
+        List<Long> ids = carga.criarUsuarios(Integer.parseInt(argumentos.getOrDefault("usuarios", "1000")));
+
+        carga.executar("POST /api/usuarios", carga::criarUsuario);
+        carga.executar("GET /api/usuarios/{id}", () ->
+                carga.buscarUsuario(ids.get(ThreadLocalRandom.current().nextInt(ids.size()))));
+    }
+
+    /**
+     * Uma requisição; devolve o status HTTP
+     */
+    @FunctionalInterface
+    private interface Requisicao {
+        int enviar() throws IOException, InterruptedException;
+    }
+
+    private int criarUsuario() throws IOException, InterruptedException {
+        String corpo = "{\"nome\":\"Carga\",\"email\":\"carga" + sequencial.incrementAndGet()
+                + "@carga.com\",\"cpf\":\"12345678909\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url + "/api/usuarios"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int buscarUsuario(long id) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url + "/api/usuarios/" + id)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private List<Long> criarUsuarios(int quantidade) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            String corpo = "{\"nome\":\"Carga GET\",\"email\":\"carga-get" + sequencial.incrementAndGet()
+                    + "@carga.com\",\"cpf\":\"12345678909\"}";
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url + "/api/usuarios"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                    .build();
+            Matcher matcher = ID.matcher(client.send(request, HttpResponse.BodyHandlers.ofString()).body());
+            if (matcher.find()) {
+                ids.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("Nenhum usuário criado em " + url);
+        }
+        return ids;
+    }
+
+    private void executar(String cenario, Requisicao requisicao) throws InterruptedException {
+        medir(requisicao, aquecimento);
+        Resultado resultado = medir(requisicao, duracao);
+        System.out.printf("%-24s concorrência=%d  %,.0f req/s  p50=%.1f ms  p99=%.1f ms  máx=%.1f ms  erros=%d%n",
+                cenario, concorrencia, resultado.total / (double) duracao,
+                resultado.percentil(0.50), resultado.percentil(0.99), resultado.percentil(1.0), resultado.erros);
+    }
+
+    private Resultado medir(Requisicao requisicao, int segundos) throws InterruptedException {
+        long fim = System.nanoTime() + TimeUnit.SECONDS.toNanos(segundos);
+        ExecutorService clientes = Executors.newFixedThreadPool(concorrencia);
+        List<long[]> latenciasPorCliente = new ArrayList<>();
+        AtomicLong erros = new AtomicLong();
+        AtomicLong total = new AtomicLong();
+
+        for (int c = 0; c < concorrencia; c++) {
+            long[][] latencias = {new long[1024]};
+            int[] quantidade = {0};
+            clientes.execute(() -> {
+                while (System.nanoTime() < fim) {
+                    long inicio = System.nanoTime();
+                    try {
+                        int status = requisicao.enviar();
+                        if (status >= 400) {
+                            erros.incrementAndGet();
+                        }
+                    } catch (IOException ex) {
+                        erros.incrementAndGet();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (quantidade[0] == latencias[0].length) {
+                        latencias[0] = Arrays.copyOf(latencias[0], quantidade[0] * 2);
+                    }
+                    latencias[0][quantidade[0]++] = System.nanoTime() - inicio;
+                }
+                synchronized (latenciasPorCliente) {
+                    latenciasPorCliente.add(Arrays.copyOf(latencias[0], quantidade[0]));
+                }
+                total.addAndGet(quantidade[0]);
+            });
+        }
+        clientes.shutdown();
+        clientes.awaitTermination(segundos + 60L, TimeUnit.SECONDS);
+
+        long[] todas = latenciasPorCliente.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Resultado(todas, total.get(), erros.get());
+    }
+
+    private record Resultado(long[] latenciasOrdenadas, long total, long erros) {
+
+        double percentil(double p) {
+            if (latenciasOrdenadas.length == 0) {
+                return 0;
+            }
+            int indice = (int) Math.ceil(p * latenciasOrdenadas.length) - 1;
+            return latenciasOrdenadas[Math.max(0, indice)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.benchmarks.domain;
+
+import com.example.domain.valueobject.CPF;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPF.of: validação antiga (regex) x passada única sem regex
+ *
+ * Entradas:
+ * - FORMATADO: "123.456.789-09" (caso comum vindo da API)
+ * - SEM_FORMATACAO: "12345678909" (caso comum vindo do banco)
+ * - INVALIDO: dígito verificador errado (inclui o custo da exceção nos dois casos)
+ *
+ * Executar: ./gradlew :benchmarks:jmh -Pjmh.includes=CpfBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CpfBenchmark {
+
+    @Param({"FORMATADO", "SEM_FORMATACAO", "INVALIDO"})
+    public String entrada;
+
+    private String cpf;
+
+    @Setup
+    public void setUp() {
+        cpf = switch (entrada) {
+            case "FORMATADO" -> "123.456.789-09";
+            case "SEM_FORMATACAO" -> "12345678909";
+            default -> "123.456.789-00";
+        };
+    }
+
+    @Benchmark
+    public void legado(Blackhole blackhole) {
+        try {
+            blackhole.consume(LegacyCPF.of(cpf));
+        } catch (IllegalArgumentException ex) {
+            blackhole.consume(ex);
+        }
+    }
+
+    @Benchmark
+    public void atual(Blackhole blackhole) {
+        try {
+            blackhole.consume(CPF.of(cpf));
+        } catch (IllegalArgumentException ex) {
+            blackhole.consume(ex);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.benchmarks.domain;
+
+import com.example.domain.valueobject.Email;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Email.of e Email.isFromDomain: validação antiga (regex) x passada única sem regex
+ *
+ * Entradas:
+ * - NORMALIZADO: "joao.silva@example.com" (caso comum vindo do banco)
+ * - MAIUSCULAS: "  Joao.Silva@Example.COM " (caso comum vindo da API)
+ * - INVALIDO: sem TLD (inclui o custo da exceção nos dois casos)
+ *
+ * Executar: ./gradlew :benchmarks:jmh -Pjmh.includes=EmailBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailBenchmark {
+
+    @Param({"NORMALIZADO", "MAIUSCULAS", "INVALIDO"})
+    public String entrada;
+
+    private String email;
+
+    private String valorLegado;
+
+    private Email valorAtual;
+
+    @Setup
+    public void setUp() {
+        email = switch (entrada) {
+            case "NORMALIZADO" -> "joao.silva@example.com";
+            case "MAIUSCULAS" -> "  Joao.Silva@Example.COM ";
+            default -> "joao.silva@example";
+        };
+        valorLegado = LegacyEmail.of("joao.silva@example.com");
+        valorAtual = Email.of("joao.silva@example.com");
+    }
+
+    @Benchmark
+    public void legado(Blackhole blackhole) {
+        try {
+            blackhole.consume(LegacyEmail.of(email));
+        } catch (IllegalArgumentException ex) {
+            blackhole.consume(ex);
+        }
+    }
+
+    @Benchmark
+    public void atual(Blackhole blackhole) {
+        try {
+            blackhole.consume(Email.of(email));
+        } catch (IllegalArgumentException ex) {
+            blackhole.consume(ex);
+        }
+    }
+
+    @Benchmark
+    public boolean dominioLegado() {
+        return LegacyEmail.isFromDomain(valorLegado, "EXAMPLE.com");
+    }
+
+    @Benchmark
+    public boolean dominioAtual() {
+        return valorAtual.isFromDomain("EXAMPLE.com");
+    }
+}
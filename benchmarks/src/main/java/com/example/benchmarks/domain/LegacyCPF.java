@@ -0,0 +1,60 @@
+package com.example.benchmarks.domain;
+
+/**
+ * Cópia da validação antiga de CPF.of (regex + Character.getNumericValue)
+ * Mantida apenas como linha de base no CpfBenchmark
+ */
+final class LegacyCPF {
+
+    private LegacyCPF() {
+    }
+
+    static String of(String cpf) {
+        if (cpf == null || cpf.isBlank()) {
+            throw new IllegalArgumentException("CPF não pode ser nulo ou vazio");
+        }
+
+        String cleanCpf = cpf.replaceAll("[^0-9]", "");
+
+        if (cleanCpf.length() != 11) {
+            throw new IllegalArgumentException("CPF deve ter 11 dígitos");
+        }
+
+        if (cleanCpf.matches("(\\d)\\1{10}")) {
+            throw new IllegalArgumentException("CPF inválido: todos os dígitos são iguais");
+        }
+
+        if (!isValidCPF(cleanCpf)) {
+            throw new IllegalArgumentException("CPF inválido: " + cpf);
+        }
+
+        return cleanCpf;
+    }
+
+    private static boolean isValidCPF(String cpf) {
+        try {
+            int sum = 0;
+            for (int i = 0; i < 9; i++) {
+                sum += Character.getNumericValue(cpf.charAt(i)) * (10 - i);
+            }
+            int firstDigit = 11 - (sum % 11);
+            firstDigit = (firstDigit >= 10) ? 0 : firstDigit;
+
+            if (firstDigit != Character.getNumericValue(cpf.charAt(9))) {
+                return false;
+            }
+
+            sum = 0;
+            for (int i = 0; i < 10; i++) {
+                sum += Character.getNumericValue(cpf.charAt(i)) * (11 - i);
+            }
+            int secondDigit = 11 - (sum % 11);
+            secondDigit = (secondDigit >= 10) ? 0 : secondDigit;
+
+            return secondDigit == Character.getNumericValue(cpf.charAt(10));
+
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
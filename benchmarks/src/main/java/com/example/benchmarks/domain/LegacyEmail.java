@@ -0,0 +1,36 @@
+package com.example.benchmarks.domain;
+
+import java.util.regex.Pattern;
+
+/**
+ * Cópia da validação antiga de Email.of (trim + toLowerCase + regex)
+ * e dos acessores que procuravam o '@' a cada chamada
+ * Mantida apenas como linha de base no EmailBenchmark
+ */
+final class LegacyEmail {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+        "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$"
+    );
+
+    private LegacyEmail() {
+    }
+
+    static String of(String email) {
+        if (email == null || email.isBlank()) {
+            throw new IllegalArgumentException("Email não pode ser nulo ou vazio");
+        }
+
+        String normalizedEmail = email.trim().toLowerCase();
+
+        if (!EMAIL_PATTERN.matcher(normalizedEmail).matches()) {
+            throw new IllegalArgumentException("Email inválido: " + email);
+        }
+
+        return normalizedEmail;
+    }
+
+    static boolean isFromDomain(String value, String domain) {
+        return value.substring(value.indexOf('@') + 1).equalsIgnoreCase(domain);
+    }
+}
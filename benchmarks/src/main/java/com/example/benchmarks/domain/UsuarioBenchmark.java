@@ -0,0 +1,49 @@
+package com.example.benchmarks.domain;
+
+import com.example.domain.model.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Usuario.criar (validação de Email e CPF) x Usuario.reconstituir (sem validação)
+ *
+ * Executar: ./gradlew :benchmarks:jmh -Pjmh.includes=UsuarioBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UsuarioBenchmark {
+
+    public String nome = "João Silva";
+    public String email = "Joao.Silva@Example.com";
+    public String emailNormalizado = "joao.silva@example.com";
+    public String cpfFormatado = "123.456.789-09";
+    public String cpf = "12345678909";
+
+    @Benchmark
+    public Usuario criarComCpf() {
+        return Usuario.criar(nome, email, cpfFormatado);
+    }
+
+    @Benchmark
+    public Usuario criarSemCpf() {
+        return Usuario.criar(nome, email);
+    }
+
+    @Benchmark
+    public Usuario reconstituir() {
+        return Usuario.reconstituir(1L, nome, emailNormalizado, cpf);
+    }
+}
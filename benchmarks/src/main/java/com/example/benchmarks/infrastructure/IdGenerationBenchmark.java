@@ -0,0 +1,111 @@
+package com.example.benchmarks.infrastructure;
+
+import com.example.benchmarks.infrastructure.entity.UsuarioIdentityEntity;
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.entity.UsuarioRemovidoEntity;
+import com.example.infrastructure.databases.oracle.id.PooledSequenceIdGenerator;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * INSERTs/segundo: IDENTITY x sequence com otimizador pooled-lo (H2 em memória)
+ *
+ * Mesmo cenário da criação em lote: N usuários persistidos em uma transação,
+ * com hibernate.jdbc.batch_size ativo.
+ * - IDENTITY: o ID só existe depois do INSERT, então cada persist vai ao banco na hora (sem batch)
+ * - pooled-lo: IDs saem da memória em blocos, INSERTs são agrupados em batch JDBC
+ *
+ * Executar: ./gradlew :benchmarks:jmh -Pjmh.includes=IdGenerationBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGenerationBenchmark {
+
+    private static final int USUARIOS_POR_TRANSACAO = 1_000;
+
+    @Param({"IDENTITY", "POOLED_LO"})
+    public String estrategia;
+
+    @Param({"50"})
+    public int allocationSize;
+
+    private SessionFactory sessionFactory;
+    private long sequencial;
+
+    @Setup(Level.Trial)
+    public void iniciarHibernate() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_DRIVER, "org.h2.Driver")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:bench-ids-" + estrategia + ";DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .applySetting(AvailableSettings.ORDER_INSERTS, "true")
+                .applySetting(PooledSequenceIdGenerator.ALLOCATION_SIZE_SETTING, String.valueOf(allocationSize))
+                .build();
+
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(UsuarioEntity.class)
+                // Dona do gerador de seq_mudanca de UsuarioEntity (SequenciaMudancaGenerator)
+                .addAnnotatedClass(UsuarioRemovidoEntity.class)
+                .addAnnotatedClass(UsuarioIdentityEntity.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @Setup(Level.Iteration)
+    public void limparTabelas() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("delete from UsuarioEntity").executeUpdate();
+            session.createMutationQuery("delete from UsuarioIdentityEntity").executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrarHibernate() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USUARIOS_POR_TRANSACAO)
+    public void inserirUsuarios() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < USUARIOS_POR_TRANSACAO; i++) {
+                long n = sequencial++;
+                String email = "usuario" + n + "@bench.com";
+                if ("IDENTITY".equals(estrategia)) {
+                    session.persist(new UsuarioIdentityEntity(null, "Usuario " + n, email, null));
+                } else {
+                    session.persist(new UsuarioEntity(null, "Usuario " + n, email, null));
+                }
+            }
+            session.getTransaction().commit();
+        }
+    }
+}
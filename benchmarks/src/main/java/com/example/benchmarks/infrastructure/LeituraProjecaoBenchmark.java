@@ -0,0 +1,100 @@
+package com.example.benchmarks.infrastructure;
+
+import com.example.application.Application;
+import com.example.domain.model.Usuario;
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.projection.UsuarioResumoProjection;
+import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Leitura do lado Query: projeção x entidade completa, sobre H2 em memória
+ *
+ * - projecao: findResumosAfter (só id, nome, email e versão; nenhuma entidade gerenciada)
+ * - entidade: findAll + toDomain (todas as colunas, entidades no persistence context com snapshot
+ *   para dirty-check), como era a listagem antes das projeções
+ *
+ * Mesmas linhas nos dois casos: a tabela inteira.
+ *
+ * Executar: ./gradlew :benchmarks:jmh -Pjmh.includes=LeituraProjecaoBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LeituraProjecaoBenchmark {
+
+    private static final int LOTE_CARGA = 1_000;
+
+    @Param({"10000", "50000"})
+    public int usuarios;
+
+    private ConfigurableApplicationContext context;
+    private UsuarioJpaRepository repository;
+
+    @Setup(Level.Trial)
+    public void iniciarAplicacao() {
+        SpringApplication aplicacao = new SpringApplication(Application.class);
+        aplicacao.setWebApplicationType(WebApplicationType.NONE);
+        // Argumentos têm precedência sobre o application.yml do módulo Application
+        context = aplicacao.run(
+                "--spring.datasource.url=jdbc:h2:mem:bench-leitura-" + usuarios + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.com.example=WARN",
+                "--logging.level.org.springframework=WARN",
+                "--app.usuarios.search.enabled=false");
+
+        repository = context.getBean(UsuarioJpaRepository.class);
+        List<UsuarioEntity> lote = new ArrayList<>(LOTE_CARGA);
+        for (int i = 0; i < usuarios; i++) {
+            lote.add(new UsuarioEntity(null, "Usuario " + i, "usuario" + i + "@bench.com", "12345678909"));
+            if (lote.size() == LOTE_CARGA) {
+                repository.saveAll(lote);
+                lote.clear();
+            }
+        }
+        repository.saveAll(lote);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrarAplicacao() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<UsuarioResumoProjection> projecao() {
+        return repository.findResumosAfter(0L, Limit.of(usuarios));
+    }
+
+    @Benchmark
+    public List<Usuario> entidade() {
+        return repository.findAll().stream()
+                .map(entity -> Usuario.reconstituir(entity.getId(), entity.getNome(), entity.getEmail(),
+                        entity.getCpf(), entity.getVersao()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.benchmarks.infrastructure;
+
+import com.example.domain.model.Usuario;
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de UsuarioRepositoryAdapter.toDomain por lote de linhas lidas do banco
+ *
+ * - revalidando: mapeamento antigo (Usuario.criar revalida Email/CPF e o
+ *   resultado é descartado para montar um segundo Usuario com o ID)
+ * - reconstituindo: Usuario.reconstituir, sem validação e com um único Usuario
+ *
+ * Metade das linhas tem CPF, como na base real.
+ *
+ * Executar: ./gradlew :benchmarks:jmh -Pjmh.includes=MapeamentoUsuarioBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapeamentoUsuarioBenchmark {
+
+    private static final String CPF_VALIDO = "12345678909";
+
+    @Param({"100000"})
+    public int linhas;
+
+    private List<UsuarioEntity> entidades;
+
+    @Setup
+    public void setUp() {
+        entidades = new ArrayList<>(linhas);
+        for (int i = 0; i < linhas; i++) {
+            entidades.add(new UsuarioEntity(
+                    (long) i,
+                    "Usuario " + i,
+                    "usuario" + i + "@bench.com",
+                    i % 2 == 0 ? CPF_VALIDO : null));
+        }
+    }
+
+    @Benchmark
+    public void revalidando(Blackhole blackhole) {
+        for (UsuarioEntity entity : entidades) {
+            Usuario usuario = Usuario.criar(entity.getNome(), entity.getEmail(), entity.getCpf());
+            blackhole.consume(new Usuario(entity.getId(), entity.getNome(), usuario.getEmail(), usuario.getCpf()));
+        }
+    }
+
+    @Benchmark
+    public void reconstituindo(Blackhole blackhole) {
+        for (UsuarioEntity entity : entidades) {
+            blackhole.consume(Usuario.reconstituir(entity.getId(), entity.getNome(), entity.getEmail(), entity.getCpf()));
+        }
+    }
+}
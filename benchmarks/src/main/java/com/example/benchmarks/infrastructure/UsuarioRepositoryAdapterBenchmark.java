@@ -0,0 +1,90 @@
+package com.example.benchmarks.infrastructure;
+
+import com.example.domain.model.Usuario;
+import com.example.infrastructure.adapter.UsuarioRepositoryAdapter;
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
+import com.example.infrastructure.databases.oracle.repository.UsuarioRemovidoJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversões do UsuarioRepositoryAdapter (toDomain/toEntity) em lotes grandes, sem banco
+ *
+ * O repositório JPA e o EntityManager são substituídos por proxies que devolvem
+ * as entidades prontas, então só o código do adapter é medido:
+ * - buscarTodos: N x toDomain
+ * - salvarTodos: N x toEntity + N x toDomain, em chunks de TAMANHO_CHUNK_INSERT
+ *
+ * Executar: ./gradlew :benchmarks:jmh -Pjmh.includes=UsuarioRepositoryAdapterBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UsuarioRepositoryAdapterBenchmark {
+
+    @Param({"100000"})
+    public int linhas;
+
+    private UsuarioRepositoryAdapter adapter;
+    private List<Usuario> usuarios;
+
+    @Setup
+    public void setUp() {
+        List<UsuarioEntity> entidades = new ArrayList<>(linhas);
+        usuarios = new ArrayList<>(linhas);
+        for (int i = 0; i < linhas; i++) {
+            String cpf = i % 2 == 0 ? "12345678909" : null;
+            entidades.add(new UsuarioEntity((long) i, "Usuario " + i, "usuario" + i + "@bench.com", cpf));
+            usuarios.add(Usuario.reconstituir((long) i, "Usuario " + i, "usuario" + i + "@bench.com", cpf));
+        }
+
+        UsuarioJpaRepository repository = proxy(UsuarioJpaRepository.class, (metodo, args) -> switch (metodo) {
+            case "findAll" -> entidades;
+            case "saveAllAndFlush" -> args[0];
+            default -> throw new UnsupportedOperationException(metodo);
+        });
+        EntityManager entityManager = proxy(EntityManager.class, (metodo, args) -> null);
+        UsuarioRemovidoJpaRepository removidoRepository = proxy(UsuarioRemovidoJpaRepository.class, (metodo, args) -> {
+            throw new UnsupportedOperationException(metodo);
+        });
+        adapter = new UsuarioRepositoryAdapter(repository, removidoRepository, entityManager);
+    }
+
+    @Benchmark
+    public List<Usuario> buscarTodos() {
+        return adapter.buscarTodos();
+    }
+
+    @Benchmark
+    public List<Usuario> salvarTodos() {
+        return adapter.salvarTodos(usuarios);
+    }
+
+    private interface Resposta {
+        Object responder(String metodo, Object[] args);
+    }
+
+    private static <T> T proxy(Class<T> tipo, Resposta resposta) {
+        return tipo.cast(Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo},
+                (instancia, metodo, args) -> resposta.responder(metodo.getName(), args)));
+    }
+}
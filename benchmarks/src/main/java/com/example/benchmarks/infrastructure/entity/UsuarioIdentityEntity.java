@@ -0,0 +1,36 @@
+package com.example.benchmarks.infrastructure.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cópia de UsuarioEntity com a estratégia antiga (IDENTITY)
+ * Usada apenas como linha de base no IdGenerationBenchmark
+ */
+@Entity
+@Table(name = "usuarios_identity")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioIdentityEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String nome;
+
+    @Column(nullable = false, unique = true)
+    private String email;
+
+    @Column(nullable = true, length = 11)
+    private String cpf;
+}
@@ -0,0 +1,24 @@
+package com.example.domain.event;
+
+import com.example.domain.model.Usuario;
+
+import java.time.Instant;
+
+/**
+ * Usuário atualizado (estado após a atualização, com a nova versão)
+ */
+public record UsuarioAtualizadoEvento(Long usuarioId, String nome, String email, Long versao, Instant ocorridoEm)
+        implements UsuarioEvento {
+    
+    public static final String TIPO = "usuario.atualizado";
+    
+    public static UsuarioAtualizadoEvento de(Usuario usuario) {
+        return new UsuarioAtualizadoEvento(usuario.getId(), usuario.getNome(), usuario.getEmailAsString(),
+                usuario.getVersao(), Instant.now());
+    }
+    
+    @Override
+    public String tipo() {
+        return TIPO;
+    }
+}
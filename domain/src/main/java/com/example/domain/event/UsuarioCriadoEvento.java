@@ -0,0 +1,22 @@
+package com.example.domain.event;
+
+import com.example.domain.model.Usuario;
+
+import java.time.Instant;
+
+/**
+ * Usuário criado (já com ID)
+ */
+public record UsuarioCriadoEvento(Long usuarioId, String nome, String email, Instant ocorridoEm) implements UsuarioEvento {
+    
+    public static final String TIPO = "usuario.criado";
+    
+    public static UsuarioCriadoEvento de(Usuario usuario) {
+        return new UsuarioCriadoEvento(usuario.getId(), usuario.getNome(), usuario.getEmailAsString(), Instant.now());
+    }
+    
+    @Override
+    public String tipo() {
+        return TIPO;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.domain.event;
+
+import java.time.Instant;
+
+/**
+ * Evento de Domínio do ciclo de vida do Usuário
+ * 
+ * Fato que já aconteceu (nome no passado), levantado pela lógica de negócio
+ * e entregue à porta UsuarioEventoOutboundPort
+ */
+public sealed interface UsuarioEvento permits UsuarioCriadoEvento, UsuarioAtualizadoEvento, UsuarioRemovidoEvento {
+    
+    /**
+     * Nome estável do tipo do evento (contrato com os consumidores)
+     */
+    String tipo();
+    
+    Long usuarioId();
+    
+    Instant ocorridoEm();
+}
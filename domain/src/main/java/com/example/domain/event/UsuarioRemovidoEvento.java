@@ -0,0 +1,28 @@
+package com.example.domain.event;
+
+import com.example.domain.model.Usuario;
+
+import java.time.Instant;
+
+/**
+ * Usuário removido
+ * 
+ * email é null quando a remoção foi feita só pelo id, sem ler o usuário (UsuarioInboundPort.removerUsuario)
+ */
+public record UsuarioRemovidoEvento(Long usuarioId, String email, Instant ocorridoEm) implements UsuarioEvento {
+    
+    public static final String TIPO = "usuario.removido";
+    
+    public static UsuarioRemovidoEvento de(Usuario usuario) {
+        return new UsuarioRemovidoEvento(usuario.getId(), usuario.getEmailAsString(), Instant.now());
+    }
+    
+    public static UsuarioRemovidoEvento de(Long usuarioId) {
+        return new UsuarioRemovidoEvento(usuarioId, null, Instant.now());
+    }
+    
+    @Override
+    public String tipo() {
+        return TIPO;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.domain.exception;
+
+/**
+ * Exceção de Domínio: o usuário foi alterado (ou removido) por outra operação
+ * depois de lido, então a atualização não foi aplicada
+ * 
+ * Não verificada: lançada pela porta de saída (controle otimista na persistência)
+ * ou pelo caso de uso (versão informada pelo cliente diferente da atual)
+ */
+public class ConflitoVersaoException extends RuntimeException {
+    public ConflitoVersaoException(Long id, Long versaoEsperada) {
+        this(id, versaoEsperada, null);
+    }
+    
+    public ConflitoVersaoException(Long id, Long versaoEsperada, Throwable cause) {
+        super("Usuário " + id + " foi alterado por outra operação (versão esperada: " + versaoEsperada + ")", cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.domain.exception;
+
+/**
+ * Exceção de Domínio lançada pela porta de saída quando a persistência
+ * recusa um email que já existe (restrição de unicidade)
+ * 
+ * Não verificada: a porta não declara exceções, e o caso de uso a traduz
+ * para UsuarioInvalidoException
+ */
+public class EmailJaCadastradoException extends RuntimeException {
+    public EmailJaCadastradoException(String email, Throwable cause) {
+        super("Já existe um usuário com o email: " + email, cause);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.domain.model;
+
+import com.example.domain.valueobject.CPF;
+import com.example.domain.valueobject.Email;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * Alterações pedidas para um usuário existente
+ *
+ * - Substituição (PUT): nome e email obrigatórios; CPF null remove o CPF
+ * - Parcial (PATCH): campo null mantém o valor atual
+ *
+ * versaoEsperada: versão que o cliente leu (null = sem verificação)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AtualizacaoUsuario {
+
+    private final String nome;
+    private final Email email;
+    private final CPF cpf;
+    private final boolean substituirCpf;
+    private final Long versaoEsperada;
+
+    public static AtualizacaoUsuario substituicao(String nome, Email email, CPF cpf, Long versaoEsperada) {
+        Objects.requireNonNull(nome, "nome null");
+        Objects.requireNonNull(email, "email null");
+        return new AtualizacaoUsuario(nome, email, cpf, true, versaoEsperada);
+    }
+
+    public static AtualizacaoUsuario parcial(String nome, Email email, CPF cpf, Long versaoEsperada) {
+        return new AtualizacaoUsuario(nome, email, cpf, cpf != null, versaoEsperada);
+    }
+
+    /**
+     * Aplica as alterações ao usuário, campo a campo
+     *
+     * @return true se algum campo mudou de valor
+     * @throws IllegalArgumentException se o novo nome for vazio
+     */
+    public boolean aplicarEm(Usuario usuario) {
+        boolean alterado = false;
+        if (nome != null && !nome.equals(usuario.getNome())) {
+            usuario.atualizarNome(nome);
+            alterado = true;
+        }
+        if (email != null && !email.equals(usuario.getEmail())) {
+            usuario.atualizarEmail(email);
+            alterado = true;
+        }
+        if (substituirCpf && !Objects.equals(cpf, usuario.getCpf())) {
+            usuario.atualizarCpf(cpf);
+            alterado = true;
+        }
+        return alterado;
+    }
+}
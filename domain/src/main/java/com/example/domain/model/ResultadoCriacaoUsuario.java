@@ -0,0 +1,32 @@
+package com.example.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resultado da criação de um usuário dentro de um lote
+ *
+ * Cada resultado corresponde, na mesma posição, a um usuário da entrada:
+ * - Sucesso: contém o usuário persistido (com ID)
+ * - Falha: contém o usuário recebido e o motivo da rejeição
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ResultadoCriacaoUsuario {
+
+    private final Usuario usuario;
+    private final String erro;
+
+    public static ResultadoCriacaoUsuario sucesso(Usuario usuarioCriado) {
+        return new ResultadoCriacaoUsuario(usuarioCriado, null);
+    }
+
+    public static ResultadoCriacaoUsuario falha(Usuario usuarioRecebido, String erro) {
+        return new ResultadoCriacaoUsuario(usuarioRecebido, erro);
+    }
+
+    public boolean isSucesso() {
+        return erro == null;
+    }
+}
@@ -13,6 +13,7 @@ import lombok.NoArgsConstructor;
  * - Identidade (id)
  * - Atributos mutáveis (nome)
  * - Value Objects (email, cpf) - imutáveis e auto-validáveis
+ * - Versão (versao) para controle otimista de concorrência, atribuída pela persistência
  */
 @Getter
 @NoArgsConstructor
@@ -23,6 +24,11 @@ public class Usuario {
     private String nome;
     private Email email;  // Value Object - sempre válido
     private CPF cpf;      // Value Object - sempre válido (pode ser null)
+    private Long versao;  // null antes de persistir; muda a cada atualização gravada
+    
+    public Usuario(Long id, String nome, Email email, CPF cpf) {
+        this(id, nome, email, cpf, null);
+    }
     
     /**
      * Construtor para criação sem ID (antes de persistir)
@@ -60,6 +66,26 @@ public class Usuario {
         return new Usuario(nome, email, null);
     }
     
+    /**
+     * Factory method para reconstituir um usuário já persistido
+     * Os valores foram validados quando o usuário foi gravado, então Email e CPF
+     * são reconstituídos sem passar pela validação de novo
+     * Uso exclusivo de adaptadores de persistência (entrada externa usa criar)
+     */
+    public static Usuario reconstituir(Long id, String nome, String emailValidado, String cpfValidado) {
+        return reconstituir(id, nome, emailValidado, cpfValidado, null);
+    }
+    
+    /**
+     * Reconstitui com a versão gravada (controle otimista de concorrência)
+     */
+    public static Usuario reconstituir(Long id, String nome, String emailValidado, String cpfValidado, Long versao) {
+        CPF cpf = cpfValidado != null && !cpfValidado.isBlank()
+            ? CPF.reconstituir(cpfValidado)
+            : null;
+        return new Usuario(id, nome, Email.reconstituir(emailValidado), cpf, versao);
+    }
+    
     /**
      * Valida a entidade Usuario
      * Value Objects (email, cpf) já são válidos por construção
@@ -0,0 +1,42 @@
+package com.example.domain.ports.in;
+
+import com.example.domain.model.Usuario;
+import com.example.domain.valueobject.CPF;
+import com.example.domain.valueobject.Email;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Porta de Entrada não bloqueante - variante reativa de UsuarioInboundPort
+ * 
+ * Mesmas regras de negócio, com resultado assíncrono (tipos do JDK, sem frameworks).
+ * Exceções de domínio chegam como falha do CompletionStage:
+ * - UsuarioInvalidoException
+ * - UsuarioNaoEncontradoException
+ */
+public interface ReactiveUsuarioInboundPort {
+    
+    /**
+     * Cria um novo usuário
+     * @return Usuário criado; falha com UsuarioInvalidoException se inválido ou email duplicado
+     */
+    CompletionStage<Usuario> criarUsuario(String nome, Email email, CPF cpf);
+    
+    /**
+     * Busca um usuário por ID
+     * @return Usuário encontrado; falha com UsuarioNaoEncontradoException se não existir
+     */
+    CompletionStage<Usuario> buscarUsuarioPorId(Long id);
+    
+    /**
+     * Lista todos os usuários
+     * @return Publisher de usuários
+     */
+    Flow.Publisher<Usuario> listarTodosUsuarios();
+    
+    /**
+     * Remove um usuário
+     * @return conclusão; falha com UsuarioNaoEncontradoException se não existir
+     */
+    CompletionStage<Void> removerUsuario(Long id);
+}
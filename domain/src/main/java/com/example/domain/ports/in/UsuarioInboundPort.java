@@ -2,6 +2,8 @@ package com.example.domain.ports.in;
 
 import com.example.domain.exception.UsuarioInvalidoException;
 import com.example.domain.exception.UsuarioNaoEncontradoException;
+import com.example.domain.model.AtualizacaoUsuario;
+import com.example.domain.model.ResultadoCriacaoUsuario;
 import com.example.domain.model.Usuario;
 import com.example.domain.valueobject.CPF;
 import com.example.domain.valueobject.Email;
@@ -38,6 +40,19 @@ public interface UsuarioInboundPort {
      */
     Usuario criarUsuario(String nome, Email email, CPF cpf) throws UsuarioInvalidoException;
     
+    /**
+     * Cria vários usuários de uma vez (importação em lote)
+     * 
+     * Itens inválidos não interrompem o lote: cada um recebe seu próprio resultado.
+     * A unicidade de email é verificada com uma única consulta para o lote inteiro.
+     * 
+     * @param novosUsuarios Usuários a criar (sem ID), com Value Objects já validados
+     * @return Um resultado por usuário, na mesma ordem da entrada
+     *
+     * @throws NullPointerException Se a lista for passada como null
+     */
+    List<ResultadoCriacaoUsuario> criarUsuarios(List<Usuario> novosUsuarios);
+    
     /**
      * Busca um usuário por ID
      * @param id ID do usuário
@@ -51,10 +66,38 @@ public interface UsuarioInboundPort {
      */
     List<Usuario> listarTodosUsuarios();
     
+    /**
+     * Atualiza um usuário existente (substituição ou parcial, ver AtualizacaoUsuario)
+     * 
+     * Sem alterações efetivas, nada é gravado e o usuário é retornado como está.
+     * 
+     * @param id ID do usuário
+     * @param atualizacao Alterações, com Value Objects já validados
+     * @return Usuário atualizado, com a nova versão
+     *
+     * @throws UsuarioNaoEncontradoException Se o usuário não existir
+     * @throws UsuarioInvalidoException Se o resultado for inválido ou o novo email já existir
+     * @throws com.example.domain.exception.ConflitoVersaoException Se o usuário foi alterado por outra operação
+     */
+    Usuario atualizarUsuario(Long id, AtualizacaoUsuario atualizacao)
+            throws UsuarioNaoEncontradoException, UsuarioInvalidoException;
+    
     /**
      * Remove um usuário
      * @param id ID do usuário a ser removido
      */
     void removerUsuario(Long id) throws UsuarioNaoEncontradoException;
+    
+    /**
+     * Remove vários usuários de uma vez
+     * 
+     * IDs inexistentes não interrompem o lote: ficam de fora do retorno.
+     * 
+     * @param ids IDs dos usuários a remover (repetidos são considerados uma vez)
+     * @return Usuários removidos
+     *
+     * @throws NullPointerException Se a lista ou algum ID for passado como null
+     */
+    List<Usuario> removerUsuarios(List<Long> ids);
 }
 
@@ -0,0 +1,52 @@
+package com.example.domain.ports.out;
+
+import com.example.domain.model.Usuario;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Porta de Saída não bloqueante - variante reativa de UsuarioOutboundPort
+ * 
+ * Usa apenas tipos do JDK (CompletionStage e Flow.Publisher) para o Domain
+ * continuar sem frameworks: o adapter decide a biblioteca reativa (ex: Reactor/R2DBC)
+ * 
+ * Nenhum método bloqueia a thread chamadora: o resultado (ou o erro) chega
+ * pelo CompletionStage/Publisher devolvido
+ */
+public interface ReactiveUsuarioOutboundPort {
+    
+    /**
+     * Persiste um usuário
+     * @param usuario Usuário a ser persistido
+     * @return Usuário persistido; falha com EmailJaCadastradoException se o email já existir
+     */
+    CompletionStage<Usuario> salvar(Usuario usuario);
+    
+    /**
+     * Busca um usuário por ID
+     * @param id ID do usuário
+     * @return Optional contendo o usuário se encontrado
+     */
+    CompletionStage<Optional<Usuario>> buscarPorId(Long id);
+    
+    /**
+     * Busca todos os usuários, emitidos conforme chegam do banco (com backpressure)
+     * @return Publisher de usuários
+     */
+    Flow.Publisher<Usuario> buscarTodos();
+    
+    /**
+     * Remove um usuário em um único round-trip
+     * @param id ID do usuário a ser removido
+     * @return true se o usuário existia e foi removido
+     */
+    CompletionStage<Boolean> deletar(Long id);
+    
+    /**
+     * Busca um usuário por email
+     * @param email Email do usuário (string para compatibilidade com banco)
+     * @return Optional contendo o usuário se encontrado
+     */
+    CompletionStage<Optional<Usuario>> buscarPorEmail(String email);
+}
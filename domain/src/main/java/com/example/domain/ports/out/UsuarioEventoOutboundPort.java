@@ -0,0 +1,26 @@
+package com.example.domain.ports.out;
+
+import com.example.domain.event.UsuarioEvento;
+
+/**
+ * Porta de Saída para os eventos de domínio do Usuário
+ * 
+ * O Domain só registra o evento; como e quando ele chega a outros sistemas
+ * é decisão da implementação (ex: outbox na mesma transação da escrita + relay)
+ * 
+ * ⚠️ Chamada na mesma unidade de trabalho da escrita do usuário:
+ * a implementação não deve publicar para fora antes do commit
+ */
+public interface UsuarioEventoOutboundPort {
+    
+    /**
+     * Porta que descarta os eventos (quando ninguém consome)
+     */
+    UsuarioEventoOutboundPort NENHUM = evento -> { };
+    
+    /**
+     * Registra um evento ocorrido
+     * @param evento Evento de domínio
+     */
+    void registrar(UsuarioEvento evento);
+}
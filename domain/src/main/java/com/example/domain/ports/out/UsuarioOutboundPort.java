@@ -1,8 +1,10 @@
 package com.example.domain.ports.out;
 
 import com.example.domain.model.Usuario;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Porta de Saída (Outbound Port) - Define operações que o Domain precisa de infraestrutura
@@ -26,9 +28,26 @@ public interface UsuarioOutboundPort {
      * Persiste um usuário
      * @param usuario Usuário a ser persistido
      * @return Usuário persistido
+     * @throws com.example.domain.exception.EmailJaCadastradoException se o email já existir
      */
     Usuario salvar(Usuario usuario);
     
+    /**
+     * Persiste vários usuários de uma vez (escrita em lote)
+     * @param usuarios Usuários a serem persistidos
+     * @return Usuários persistidos, na mesma ordem da entrada
+     */
+    List<Usuario> salvarTodos(List<Usuario> usuarios);
+    
+    /**
+     * Grava as alterações de um usuário existente (controle otimista de concorrência)
+     * @param usuario Usuário com as alterações, na versão em que foi lido
+     * @return Usuário atualizado, com a nova versão
+     * @throws com.example.domain.exception.ConflitoVersaoException se a versão gravada não é mais a do usuário
+     * @throws com.example.domain.exception.EmailJaCadastradoException se o novo email já existir
+     */
+    Usuario atualizar(Usuario usuario);
+    
     /**
      * Busca um usuário por ID
      * @param id ID do usuário
@@ -43,10 +62,18 @@ public interface UsuarioOutboundPort {
     List<Usuario> buscarTodos();
     
     /**
-     * Remove um usuário
+     * Remove um usuário em uma única operação, sem ler o usuário antes
      * @param id ID do usuário a ser removido
+     * @return Quantidade de usuários removidos (0 se o ID não existia)
      */
-    void deletar(Long id);
+    int deletar(Long id);
+    
+    /**
+     * Remove vários usuários de uma vez (remoção em lote)
+     * @param ids IDs dos usuários a remover, sem repetição
+     * @return Usuários que existiam e foram removidos
+     */
+    List<Usuario> deletarTodos(Collection<Long> ids);
     
     /**
      * Busca um usuário por email
@@ -54,4 +81,11 @@ public interface UsuarioOutboundPort {
      * @return Optional contendo o usuário se encontrado
      */
     Optional<Usuario> buscarPorEmail(String email);
+    
+    /**
+     * Verifica, em uma operação só, quais emails já estão cadastrados
+     * @param emails Emails a verificar
+     * @return Subconjunto dos emails informados que já existem
+     */
+    Set<String> buscarEmailsExistentes(Collection<String> emails);
 }
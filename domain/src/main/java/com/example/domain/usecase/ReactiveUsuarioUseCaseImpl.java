@@ -0,0 +1,82 @@
+package com.example.domain.usecase;
+
+import com.example.domain.exception.EmailJaCadastradoException;
+import com.example.domain.exception.UsuarioInvalidoException;
+import com.example.domain.exception.UsuarioNaoEncontradoException;
+import com.example.domain.model.Usuario;
+import com.example.domain.ports.in.ReactiveUsuarioInboundPort;
+import com.example.domain.ports.out.ReactiveUsuarioOutboundPort;
+import com.example.domain.valueobject.CPF;
+import com.example.domain.valueobject.Email;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Implementação não bloqueante da lógica de negócio de Usuário
+ * 
+ * Mesmas regras de UsuarioUseCaseImpl, encadeadas sobre CompletionStage:
+ * nenhuma etapa espera o banco bloqueando a thread
+ * 
+ * PURA - Sem dependências de frameworks
+ */
+public class ReactiveUsuarioUseCaseImpl implements ReactiveUsuarioInboundPort {
+    
+    private final ReactiveUsuarioOutboundPort usuarioOutboundPort;
+    
+    public ReactiveUsuarioUseCaseImpl(ReactiveUsuarioOutboundPort usuarioOutboundPort) {
+        this.usuarioOutboundPort = usuarioOutboundPort;
+    }
+    
+    @Override
+    public CompletionStage<Usuario> criarUsuario(String nome, Email email, CPF cpf) {
+        Objects.requireNonNull(nome, "nome null");
+        Objects.requireNonNull(email, "email null");
+        Objects.requireNonNull(cpf, "cpf null");
+        
+        Usuario usuario = new Usuario(nome, email, cpf);
+        if (!usuario.isValid()) {
+            return CompletableFuture.failedFuture(new UsuarioInvalidoException("Dados do usuário são inválidos"));
+        }
+        
+        return usuarioOutboundPort.buscarPorEmail(email.getValue())
+                .thenCompose(existente -> existente.isPresent()
+                        ? CompletableFuture.failedFuture(
+                                new UsuarioInvalidoException("Já existe um usuário com o email: " + email.getValue()))
+                        : usuarioOutboundPort.salvar(usuario))
+                // A restrição de unicidade do banco é a palavra final (ex: corrida com outra escrita)
+                .exceptionallyCompose(ex -> {
+                    Throwable causa = ex instanceof CompletionException ? ex.getCause() : ex;
+                    return CompletableFuture.failedFuture(causa instanceof EmailJaCadastradoException
+                            ? new UsuarioInvalidoException(causa.getMessage())
+                            : causa);
+                });
+    }
+    
+    @Override
+    public CompletionStage<Usuario> buscarUsuarioPorId(Long id) {
+        return usuarioOutboundPort.buscarPorId(id)
+                .thenCompose(usuario -> usuario
+                        .map(CompletableFuture::completedFuture)
+                        .orElseGet(() -> CompletableFuture.failedFuture(new UsuarioNaoEncontradoException(id))));
+    }
+    
+    @Override
+    public Flow.Publisher<Usuario> listarTodosUsuarios() {
+        return usuarioOutboundPort.buscarTodos();
+    }
+    
+    /**
+     * Um único round-trip: o DELETE informa se a linha existia
+     */
+    @Override
+    public CompletionStage<Void> removerUsuario(Long id) {
+        return usuarioOutboundPort.deletar(id)
+                .thenCompose(removido -> removido
+                        ? CompletableFuture.<Void>completedFuture(null)
+                        : CompletableFuture.failedFuture(new UsuarioNaoEncontradoException(id)));
+    }
+}
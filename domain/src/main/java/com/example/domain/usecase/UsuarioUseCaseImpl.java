@@ -1,15 +1,28 @@
 package com.example.domain.usecase;
 
+import com.example.domain.event.UsuarioAtualizadoEvento;
+import com.example.domain.event.UsuarioCriadoEvento;
+import com.example.domain.event.UsuarioRemovidoEvento;
+import com.example.domain.exception.ConflitoVersaoException;
+import com.example.domain.exception.EmailJaCadastradoException;
 import com.example.domain.exception.UsuarioInvalidoException;
 import com.example.domain.exception.UsuarioNaoEncontradoException;
+import com.example.domain.model.AtualizacaoUsuario;
+import com.example.domain.model.ResultadoCriacaoUsuario;
 import com.example.domain.model.Usuario;
 import com.example.domain.ports.in.UsuarioInboundPort;
+import com.example.domain.ports.out.UsuarioEventoOutboundPort;
 import com.example.domain.ports.out.UsuarioOutboundPort;
 import com.example.domain.valueobject.CPF;
 import com.example.domain.valueobject.Email;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Implementação da lógica de negócio de Usuário
@@ -22,9 +35,18 @@ import java.util.Objects;
 public class UsuarioUseCaseImpl implements UsuarioInboundPort {
     
     private final UsuarioOutboundPort usuarioOutboundPort;
+    private final UsuarioEventoOutboundPort eventoOutboundPort;
     
     public UsuarioUseCaseImpl(UsuarioOutboundPort usuarioOutboundPort) {
+        this(usuarioOutboundPort, UsuarioEventoOutboundPort.NENHUM);
+    }
+    
+    /**
+     * @param eventoOutboundPort recebe UsuarioCriadoEvento/UsuarioAtualizadoEvento/UsuarioRemovidoEvento logo após cada escrita
+     */
+    public UsuarioUseCaseImpl(UsuarioOutboundPort usuarioOutboundPort, UsuarioEventoOutboundPort eventoOutboundPort) {
         this.usuarioOutboundPort = usuarioOutboundPort;
+        this.eventoOutboundPort = eventoOutboundPort;
     }
     
     @Override
@@ -51,7 +73,66 @@ public class UsuarioUseCaseImpl implements UsuarioInboundPort {
         }
         
         // Salva o usuário
-        return usuarioOutboundPort.salvar(usuario);
+        // A restrição de unicidade do banco é a palavra final (ex: corrida com outra escrita)
+        Usuario criado;
+        try {
+            criado = usuarioOutboundPort.salvar(usuario);
+        } catch (EmailJaCadastradoException ex) {
+            throw new UsuarioInvalidoException(ex.getMessage());
+        }
+        
+        eventoOutboundPort.registrar(UsuarioCriadoEvento.de(criado));
+        return criado;
+    }
+    
+    @Override
+    public List<ResultadoCriacaoUsuario> criarUsuarios(List<Usuario> novosUsuarios) {
+        Objects.requireNonNull(novosUsuarios, "usuarios null");
+        
+        ResultadoCriacaoUsuario[] resultados = new ResultadoCriacaoUsuario[novosUsuarios.size()];
+        
+        // 1. Validação de negócio item a item (sem acessar a infraestrutura)
+        //    Emails repetidos dentro do próprio lote: só o primeiro segue
+        List<Integer> posicoesValidas = new ArrayList<>();
+        Set<String> emailsDoLote = new HashSet<>();
+        for (int i = 0; i < novosUsuarios.size(); i++) {
+            Usuario usuario = novosUsuarios.get(i);
+            if (usuario == null || !usuario.isValid() || !usuario.temCpf()) {
+                resultados[i] = ResultadoCriacaoUsuario.falha(usuario, "Dados do usuário são inválidos");
+            } else if (!emailsDoLote.add(usuario.getEmailAsString())) {
+                resultados[i] = ResultadoCriacaoUsuario.falha(usuario, "Email repetido no lote: " + usuario.getEmailAsString());
+            } else {
+                posicoesValidas.add(i);
+            }
+        }
+        
+        // 2. Unicidade de email: uma única verificação para o lote inteiro
+        Set<String> emailsExistentes = emailsDoLote.isEmpty()
+                ? Set.of()
+                : usuarioOutboundPort.buscarEmailsExistentes(emailsDoLote);
+        
+        List<Integer> posicoesParaSalvar = new ArrayList<>();
+        List<Usuario> paraSalvar = new ArrayList<>();
+        for (Integer posicao : posicoesValidas) {
+            Usuario usuario = novosUsuarios.get(posicao);
+            if (emailsExistentes.contains(usuario.getEmailAsString())) {
+                resultados[posicao] = ResultadoCriacaoUsuario.falha(usuario, "Já existe um usuário com o email: " + usuario.getEmailAsString());
+            } else {
+                posicoesParaSalvar.add(posicao);
+                paraSalvar.add(usuario);
+            }
+        }
+        
+        // 3. Persistência em lote
+        if (!paraSalvar.isEmpty()) {
+            List<Usuario> salvos = usuarioOutboundPort.salvarTodos(paraSalvar);
+            for (int i = 0; i < salvos.size(); i++) {
+                resultados[posicoesParaSalvar.get(i)] = ResultadoCriacaoUsuario.sucesso(salvos.get(i));
+                eventoOutboundPort.registrar(UsuarioCriadoEvento.de(salvos.get(i)));
+            }
+        }
+        
+        return Arrays.asList(resultados);
     }
     
     @Override
@@ -65,11 +146,76 @@ public class UsuarioUseCaseImpl implements UsuarioInboundPort {
         return usuarioOutboundPort.buscarTodos();
     }
     
+    /**
+     * Concorrência otimista, sem lock no banco: a gravação só é aplicada se a versão
+     * ainda é a lida aqui (e a que o cliente informou, quando informou)
+     */
+    @Override
+    public Usuario atualizarUsuario(Long id, AtualizacaoUsuario atualizacao)
+            throws UsuarioNaoEncontradoException, UsuarioInvalidoException {
+        Objects.requireNonNull(atualizacao, "atualizacao null");
+        
+        Usuario usuario = buscarUsuarioPorId(id);
+        Long versaoEsperada = atualizacao.getVersaoEsperada();
+        if (versaoEsperada != null && !versaoEsperada.equals(usuario.getVersao())) {
+            throw new ConflitoVersaoException(id, versaoEsperada);
+        }
+        
+        String emailAtual = usuario.getEmailAsString();
+        boolean alterado;
+        try {
+            alterado = atualizacao.aplicarEm(usuario);
+        } catch (IllegalArgumentException ex) {
+            throw new UsuarioInvalidoException(ex.getMessage());
+        }
+        if (!alterado) {
+            return usuario;
+        }
+        
+        String novoEmail = usuario.getEmailAsString();
+        if (!novoEmail.equals(emailAtual) && usuarioOutboundPort.buscarPorEmail(novoEmail).isPresent()) {
+            throw new UsuarioInvalidoException("Já existe um usuário com o email: " + novoEmail);
+        }
+        
+        Usuario atualizado;
+        try {
+            atualizado = usuarioOutboundPort.atualizar(usuario);
+        } catch (EmailJaCadastradoException ex) {
+            throw new UsuarioInvalidoException(ex.getMessage());
+        }
+        
+        eventoOutboundPort.registrar(UsuarioAtualizadoEvento.de(atualizado));
+        return atualizado;
+    }
+    
+    /**
+     * Um único round-trip: o DELETE informa se o usuário existia
+     * (sem SELECT antes, o evento sai só com o id)
+     */
     @Override
     public void removerUsuario(Long id) throws UsuarioNaoEncontradoException {
-        // Verifica se o usuário existe antes de remover
-        buscarUsuarioPorId(id);
-        usuarioOutboundPort.deletar(id);
+        Objects.requireNonNull(id, "id null");
+        
+        if (usuarioOutboundPort.deletar(id) == 0) {
+            throw new UsuarioNaoEncontradoException(id);
+        }
+        eventoOutboundPort.registrar(UsuarioRemovidoEvento.de(id));
+    }
+    
+    @Override
+    public List<Usuario> removerUsuarios(List<Long> ids) {
+        Objects.requireNonNull(ids, "ids null");
+        Set<Long> distintos = new LinkedHashSet<>();
+        for (Long id : ids) {
+            distintos.add(Objects.requireNonNull(id, "id null"));
+        }
+        if (distintos.isEmpty()) {
+            return List.of();
+        }
+        
+        List<Usuario> removidos = usuarioOutboundPort.deletarTodos(distintos);
+        removidos.forEach(usuario -> eventoOutboundPort.registrar(UsuarioRemovidoEvento.de(usuario)));
+        return removidos;
     }
 }
 
@@ -16,6 +16,8 @@ import java.util.Objects;
  */
 public final class CPF {
     
+    private static final int TAMANHO = 11;
+    
     private final String value;
     
     /**
@@ -28,62 +30,104 @@ public final class CPF {
     /**
      * Factory method para criar CPF
      * Valida e normaliza o CPF
+     * 
+     * Validação em passada única, sem regex e sem Strings intermediárias:
+     * - Ignora qualquer caractere que não seja dígito 0-9 (pontos, hífen, espaços...)
+     * - Acumula as somas dos dois dígitos verificadores enquanto percorre
+     * - Só aloca a String normalizada se a entrada for válida e vier formatada
+     *   (entrada com exatamente 11 dígitos é reaproveitada)
      */
     public static CPF of(String cpf) {
         if (cpf == null || cpf.isBlank()) {
             throw new IllegalArgumentException("CPF não pode ser nulo ou vazio");
         }
         
-        // Remove formatação (pontos, hífen, espaços)
-        String cleanCpf = cpf.replaceAll("[^0-9]", "");
+        int quantidade = 0;
+        int primeiroDigito = -1;
+        boolean todosIguais = true;
+        int somaPrimeiroVerificador = 0;
+        int somaSegundoVerificador = 0;
+        int decimoDigito = 0;
+        int decimoPrimeiroDigito = 0;
+        
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c < '0' || c > '9') {
+                continue; // formatação
+            }
+            
+            int digito = c - '0';
+            if (quantidade < TAMANHO) {
+                if (primeiroDigito < 0) {
+                    primeiroDigito = digito;
+                } else if (digito != primeiroDigito) {
+                    todosIguais = false;
+                }
+                
+                if (quantidade < 9) {
+                    somaPrimeiroVerificador += digito * (10 - quantidade);
+                }
+                if (quantidade < 10) {
+                    somaSegundoVerificador += digito * (11 - quantidade);
+                }
+                if (quantidade == 9) {
+                    decimoDigito = digito;
+                } else if (quantidade == 10) {
+                    decimoPrimeiroDigito = digito;
+                }
+            }
+            quantidade++;
+        }
         
-        if (cleanCpf.length() != 11) {
+        if (quantidade != TAMANHO) {
             throw new IllegalArgumentException("CPF deve ter 11 dígitos");
         }
         
         // Verifica se todos os dígitos são iguais (ex: 111.111.111-11)
-        if (cleanCpf.matches("(\\d)\\1{10}")) {
+        if (todosIguais) {
             throw new IllegalArgumentException("CPF inválido: todos os dígitos são iguais");
         }
         
         // Valida dígitos verificadores
-        if (!isValidCPF(cleanCpf)) {
+        if (digitoVerificador(somaPrimeiroVerificador) != decimoDigito
+                || digitoVerificador(somaSegundoVerificador) != decimoPrimeiroDigito) {
             throw new IllegalArgumentException("CPF inválido: " + cpf);
         }
         
-        return new CPF(cleanCpf);
+        // Sem formatação: todos os 11 caracteres são dígitos, reaproveita a String recebida
+        return new CPF(cpf.length() == TAMANHO ? cpf : apenasDigitos(cpf));
     }
     
     /**
-     * Algoritmo de validação do CPF
+     * Reconstitui um CPF já validado na escrita (ex: lido do banco, só dígitos)
+     * NÃO valida: uso exclusivo de adaptadores de persistência
      */
-    private static boolean isValidCPF(String cpf) {
-        try {
-            // Calcula o primeiro dígito verificador
-            int sum = 0;
-            for (int i = 0; i < 9; i++) {
-                sum += Character.getNumericValue(cpf.charAt(i)) * (10 - i);
-            }
-            int firstDigit = 11 - (sum % 11);
-            firstDigit = (firstDigit >= 10) ? 0 : firstDigit;
-            
-            if (firstDigit != Character.getNumericValue(cpf.charAt(9))) {
-                return false;
-            }
-            
-            // Calcula o segundo dígito verificador
-            sum = 0;
-            for (int i = 0; i < 10; i++) {
-                sum += Character.getNumericValue(cpf.charAt(i)) * (11 - i);
+    public static CPF reconstituir(String cpfValidado) {
+        Objects.requireNonNull(cpfValidado, "CPF não pode ser nulo");
+        return new CPF(cpfValidado);
+    }
+    
+    /**
+     * Algoritmo do dígito verificador do CPF (módulo 11)
+     */
+    private static int digitoVerificador(int soma) {
+        int digito = 11 - (soma % 11);
+        return digito >= 10 ? 0 : digito;
+    }
+    
+    /**
+     * Remove a formatação de um CPF já validado (exatamente 11 dígitos)
+     */
+    private static String apenasDigitos(String cpf) {
+        char[] digitos = new char[TAMANHO];
+        int quantidade = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digitos[quantidade++] = c;
             }
-            int secondDigit = 11 - (sum % 11);
-            secondDigit = (secondDigit >= 10) ? 0 : secondDigit;
-            
-            return secondDigit == Character.getNumericValue(cpf.charAt(10));
-            
-        } catch (Exception e) {
-            return false;
         }
+        return new String(digitos);
     }
     
     /**
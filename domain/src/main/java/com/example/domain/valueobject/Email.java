@@ -1,7 +1,6 @@
 package com.example.domain.valueobject;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Value Object - Email
@@ -15,35 +14,134 @@ import java.util.regex.Pattern;
  */
 public final class Email {
     
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-        "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$"
-    );
+    /**
+     * KELVIN SIGN: único caractere não-ASCII cujo minúsculo é ASCII ('k')
+     */
+    private static final char KELVIN = '\u212A';
     
     private final String value;
     
+    /**
+     * Posição do '@' em value, calculada uma única vez na validação
+     */
+    private final int arroba;
+    
     /**
      * Construtor privado - força uso do factory method
      */
-    private Email(String value) {
+    private Email(String value, int arroba) {
         this.value = value;
+        this.arroba = arroba;
     }
     
     /**
      * Factory method para criar Email
      * Contém validação de regra de negócio
+     * 
+     * Regra (equivalente a ^[a-z0-9+_.-]+@[a-z0-9.-]+\.[a-z]{2,}$ após trim e minúsculas):
+     * - parte local: um ou mais de [a-z0-9+_.-]
+     * - exatamente um '@'
+     * - domínio: [a-z0-9.-], com ao menos um caractere antes do último '.'
+     * - após o último '.': duas ou mais letras
+     * 
+     * Validação em passada única, sem regex. A String só é copiada quando
+     * há espaços nas pontas ou letras maiúsculas para normalizar.
      */
     public static Email of(String email) {
         if (email == null || email.isBlank()) {
             throw new IllegalArgumentException("Email não pode ser nulo ou vazio");
         }
         
-        String normalizedEmail = email.trim().toLowerCase();
+        // Mesmos limites de String.trim()
+        int inicio = 0;
+        int fim = email.length();
+        while (inicio < fim && email.charAt(inicio) <= ' ') {
+            inicio++;
+        }
+        while (fim > inicio && email.charAt(fim - 1) <= ' ') {
+            fim--;
+        }
+        
+        int arroba = -1;
+        int ultimoPonto = -1;
+        boolean sufixoSoLetras = false;
+        boolean precisaMinusculas = false;
         
-        if (!EMAIL_PATTERN.matcher(normalizedEmail).matches()) {
-            throw new IllegalArgumentException("Email inválido: " + email);
+        for (int i = inicio; i < fim; i++) {
+            char c = email.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+                precisaMinusculas = true;
+            } else if (c == KELVIN) {
+                c = 'k';
+                precisaMinusculas = true;
+            }
+            
+            boolean letra = c >= 'a' && c <= 'z';
+            boolean letraOuDigito = letra || (c >= '0' && c <= '9');
+            
+            if (c == '@') {
+                if (arroba >= 0) {
+                    throw invalido(email);
+                }
+                arroba = i;
+            } else if (arroba < 0) {
+                // Parte local
+                if (!letraOuDigito && c != '+' && c != '_' && c != '.' && c != '-') {
+                    throw invalido(email);
+                }
+            } else if (c == '.') {
+                ultimoPonto = i;
+                sufixoSoLetras = true;
+            } else if (letraOuDigito || c == '-') {
+                sufixoSoLetras &= letra;
+            } else {
+                throw invalido(email);
+            }
         }
         
-        return new Email(normalizedEmail);
+        boolean valido = arroba > inicio
+                && ultimoPonto > arroba + 1
+                && fim - ultimoPonto - 1 >= 2
+                && sufixoSoLetras;
+        if (!valido) {
+            throw invalido(email);
+        }
+        
+        return new Email(normalizar(email, inicio, fim, precisaMinusculas), arroba - inicio);
+    }
+    
+    /**
+     * Reconstitui um Email já validado na escrita (ex: lido do banco)
+     * NÃO valida nem normaliza: uso exclusivo de adaptadores de persistência
+     */
+    public static Email reconstituir(String emailValidado) {
+        Objects.requireNonNull(emailValidado, "Email não pode ser nulo");
+        return new Email(emailValidado, emailValidado.indexOf('@'));
+    }
+    
+    private static IllegalArgumentException invalido(String email) {
+        return new IllegalArgumentException("Email inválido: " + email);
+    }
+    
+    /**
+     * Aplica trim e minúsculas (já validado: só ASCII ou KELVIN SIGN)
+     */
+    private static String normalizar(String email, int inicio, int fim, boolean precisaMinusculas) {
+        if (!precisaMinusculas) {
+            return inicio == 0 && fim == email.length() ? email : email.substring(inicio, fim);
+        }
+        char[] normalizado = new char[fim - inicio];
+        for (int i = inicio; i < fim; i++) {
+            char c = email.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            } else if (c == KELVIN) {
+                c = 'k';
+            }
+            normalizado[i - inicio] = c;
+        }
+        return new String(normalizado);
     }
     
     /**
@@ -57,21 +155,25 @@ public final class Email {
      * Retorna o domínio do email (ex: "example.com" de "user@example.com")
      */
     public String getDomain() {
-        return value.substring(value.indexOf('@') + 1);
+        return value.substring(arroba + 1);
     }
     
     /**
      * Retorna o usuário do email (ex: "user" de "user@example.com")
      */
     public String getLocalPart() {
-        return value.substring(0, value.indexOf('@'));
+        return value.substring(0, arroba);
     }
     
     /**
      * Verifica se é um email de um domínio específico
+     * Compara a região após o '@' diretamente, sem criar substring
      */
     public boolean isFromDomain(String domain) {
-        return getDomain().equalsIgnoreCase(domain);
+        int tamanhoDominio = value.length() - arroba - 1;
+        return domain != null
+                && domain.length() == tamanhoDominio
+                && value.regionMatches(true, arroba + 1, domain, 0, tamanhoDominio);
     }
     
     /**
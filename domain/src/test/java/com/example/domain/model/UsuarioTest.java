@@ -124,5 +124,24 @@ class UsuarioTest {
         assertTrue(usuarioComCpf.temCpf());
         assertFalse(usuarioSemCpf.temCpf());
     }
+    
+    @Test
+    void deveReconstituirUsuarioPersistido() {
+        Usuario usuario = Usuario.reconstituir(10L, "João Silva", "joao.silva@example.com", "12345678909");
+        
+        assertEquals(10L, usuario.getId());
+        assertEquals("João Silva", usuario.getNome());
+        assertEquals(Email.of("joao.silva@example.com"), usuario.getEmail());
+        assertEquals("joao.silva", usuario.getEmail().getLocalPart());
+        assertEquals("example.com", usuario.getEmail().getDomain());
+        assertEquals(CPF.of("123.456.789-09"), usuario.getCpf());
+    }
+    
+    @Test
+    void deveReconstituirUsuarioSemCpf() {
+        Usuario usuario = Usuario.reconstituir(10L, "João Silva", "joao@example.com", null);
+        
+        assertTrue(usuario.isValid());
+        assertFalse(usuario.temCpf());
+    }
 }
-
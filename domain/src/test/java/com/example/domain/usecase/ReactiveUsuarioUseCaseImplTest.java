@@ -0,0 +1,156 @@
+package com.example.domain.usecase;
+
+import com.example.domain.exception.EmailJaCadastradoException;
+import com.example.domain.exception.UsuarioInvalidoException;
+import com.example.domain.exception.UsuarioNaoEncontradoException;
+import com.example.domain.model.Usuario;
+import com.example.domain.ports.out.ReactiveUsuarioOutboundPort;
+import com.example.domain.valueobject.CPF;
+import com.example.domain.valueobject.Email;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes para ReactiveUsuarioUseCaseImpl - PUROS, sem dependências de Spring
+ * As portas devolvem CompletableFuture já concluídos: os testes só verificam o encadeamento
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveUsuarioUseCaseImplTest {
+    
+    @Mock
+    private ReactiveUsuarioOutboundPort usuarioOutboundPort;
+    
+    private ReactiveUsuarioUseCaseImpl usuarioUseCase;
+    
+    private Usuario usuarioValido;
+    
+    private static final Email EMAIL = Email.of("joao@example.com");
+    private static final CPF CPF_USER = CPF.of("123.456.789-09");
+    
+    @BeforeEach
+    void setUp() {
+        usuarioUseCase = new ReactiveUsuarioUseCaseImpl(usuarioOutboundPort);
+        usuarioValido = new Usuario(1L, "João Silva", EMAIL, CPF_USER);
+    }
+    
+    @Test
+    @DisplayName("Usuário criado com sucesso")
+    void deveCriarUsuarioComSucesso() throws Exception {
+        when(usuarioOutboundPort.buscarPorEmail(anyString())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(usuarioOutboundPort.salvar(any(Usuario.class))).thenReturn(CompletableFuture.completedFuture(usuarioValido));
+        
+        Usuario resultado = aguardar(usuarioUseCase.criarUsuario("João Silva", EMAIL, CPF_USER));
+        
+        assertEquals(1L, resultado.getId());
+        verify(usuarioOutboundPort).salvar(any(Usuario.class));
+    }
+    
+    @Test
+    void deveLancarExcecaoSeNomeNull() {
+        NullPointerException exceptionResult = assertThrows(NullPointerException.class,
+                () -> usuarioUseCase.criarUsuario(null, EMAIL, CPF_USER));
+        
+        assertEquals("nome null", exceptionResult.getMessage());
+        verifyNoInteractions(usuarioOutboundPort);
+    }
+    
+    @Test
+    void deveFalharSemAcessarInfraestruturaQuandoUsuarioInvalido() {
+        UsuarioInvalidoException exceptionResult = falha(UsuarioInvalidoException.class,
+                usuarioUseCase.criarUsuario("", EMAIL, CPF_USER));
+        
+        assertEquals("Dados do usuário são inválidos", exceptionResult.getMessage());
+        verifyNoInteractions(usuarioOutboundPort);
+    }
+    
+    @Test
+    void deveFalharAoCriarUsuarioComEmailDuplicado() {
+        when(usuarioOutboundPort.buscarPorEmail(anyString())).thenReturn(CompletableFuture.completedFuture(Optional.of(usuarioValido)));
+        
+        UsuarioInvalidoException exceptionResult = falha(UsuarioInvalidoException.class,
+                usuarioUseCase.criarUsuario("Outro Usuário", EMAIL, CPF_USER));
+        
+        assertEquals("Já existe um usuário com o email: joao@example.com", exceptionResult.getMessage());
+        verify(usuarioOutboundPort, never()).salvar(any(Usuario.class));
+    }
+    
+    @Test
+    @DisplayName("Restrição de unicidade da persistência vira UsuarioInvalidoException")
+    void deveTraduzirEmailJaCadastradoNaPersistencia() {
+        when(usuarioOutboundPort.buscarPorEmail(anyString())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(usuarioOutboundPort.salvar(any(Usuario.class)))
+                .thenReturn(CompletableFuture.failedFuture(new EmailJaCadastradoException("joao@example.com", null)));
+        
+        UsuarioInvalidoException exceptionResult = falha(UsuarioInvalidoException.class,
+                usuarioUseCase.criarUsuario("João Silva", EMAIL, CPF_USER));
+        
+        assertEquals("Já existe um usuário com o email: joao@example.com", exceptionResult.getMessage());
+    }
+    
+    @Test
+    void deveBuscarUsuarioPorId() throws Exception {
+        when(usuarioOutboundPort.buscarPorId(1L)).thenReturn(CompletableFuture.completedFuture(Optional.of(usuarioValido)));
+        
+        assertSame(usuarioValido, aguardar(usuarioUseCase.buscarUsuarioPorId(1L)));
+    }
+    
+    @Test
+    void deveFalharQuandoUsuarioNaoEncontrado() {
+        when(usuarioOutboundPort.buscarPorId(99L)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        
+        UsuarioNaoEncontradoException exceptionResult = falha(UsuarioNaoEncontradoException.class,
+                usuarioUseCase.buscarUsuarioPorId(99L));
+        
+        assertEquals("Usuário não encontrado com id: 99", exceptionResult.getMessage());
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveListarTodosPeloPublisherDaPorta() {
+        Flow.Publisher<Usuario> publisher = mock(Flow.Publisher.class);
+        when(usuarioOutboundPort.buscarTodos()).thenReturn(publisher);
+        
+        assertSame(publisher, usuarioUseCase.listarTodosUsuarios());
+    }
+    
+    @Test
+    @DisplayName("Remoção usa só o DELETE: sem SELECT antes")
+    void deveRemoverUsuarioComSucesso() throws Exception {
+        when(usuarioOutboundPort.deletar(1L)).thenReturn(CompletableFuture.completedFuture(true));
+        
+        aguardar(usuarioUseCase.removerUsuario(1L));
+        
+        verify(usuarioOutboundPort, never()).buscarPorId(any());
+    }
+    
+    @Test
+    void deveFalharAoRemoverUsuarioInexistente() {
+        when(usuarioOutboundPort.deletar(99L)).thenReturn(CompletableFuture.completedFuture(false));
+        
+        falha(UsuarioNaoEncontradoException.class, usuarioUseCase.removerUsuario(99L));
+    }
+    
+    private static <T> T aguardar(CompletionStage<T> stage) throws Exception {
+        return stage.toCompletableFuture().get();
+    }
+    
+    private static <E extends Throwable> E falha(Class<E> tipo, CompletionStage<?> stage) {
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> stage.toCompletableFuture().get());
+        return assertInstanceOf(tipo, ex.getCause());
+    }
+}
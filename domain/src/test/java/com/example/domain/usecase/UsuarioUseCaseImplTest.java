@@ -1,8 +1,17 @@
 package com.example.domain.usecase;
 
+import com.example.domain.event.UsuarioAtualizadoEvento;
+import com.example.domain.event.UsuarioCriadoEvento;
+import com.example.domain.event.UsuarioEvento;
+import com.example.domain.event.UsuarioRemovidoEvento;
+import com.example.domain.exception.ConflitoVersaoException;
+import com.example.domain.exception.EmailJaCadastradoException;
 import com.example.domain.exception.UsuarioInvalidoException;
 import com.example.domain.exception.UsuarioNaoEncontradoException;
+import com.example.domain.model.AtualizacaoUsuario;
+import com.example.domain.model.ResultadoCriacaoUsuario;
 import com.example.domain.model.Usuario;
+import com.example.domain.ports.out.UsuarioEventoOutboundPort;
 import com.example.domain.ports.out.UsuarioOutboundPort;
 import com.example.domain.valueobject.CPF;
 import com.example.domain.valueobject.Email;
@@ -11,15 +20,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -165,6 +180,83 @@ class UsuarioUseCaseImplTest {
             verify(usuarioOutboundPort, never()).salvar(any(Usuario.class));
         }
 
+        @Test
+        @DisplayName("Restrição de unicidade da persistência vira UsuarioInvalidoException")
+        void deveTraduzirEmailJaCadastradoNaPersistencia() {
+            when(usuarioOutboundPort.buscarPorEmail(anyString())).thenReturn(Optional.empty());
+            when(usuarioOutboundPort.salvar(any(Usuario.class)))
+                    .thenThrow(new EmailJaCadastradoException("joao@example.com", null));
+
+            UsuarioInvalidoException exceptionResult = assertThrows(UsuarioInvalidoException.class, () -> {
+                usuarioUseCase.criarUsuario("João Silva", EMAIL, CPF_USER);
+            });
+
+            assertEquals("Já existe um usuário com o email: joao@example.com", exceptionResult.getMessage());
+        }
+
+    }
+
+    @DisplayName("Teste de Criação de Usuários em Lote")
+    @Nested
+    public class CriarUsuariosEmLote {
+
+        private final Usuario maria = new Usuario("Maria Santos", Email.of("maria@example.com"), CPF.of("987.654.321-00"));
+
+        @Test
+        void deveLancarExcecaoSeListaNull() {
+            assertThrows(NullPointerException.class, () -> usuarioUseCase.criarUsuarios(null));
+
+            verifyNoInteractions(usuarioOutboundPort);
+        }
+
+        @Test
+        @DisplayName("Verifica emails com uma única consulta e salva todos em lote")
+        void deveCriarTodosComUmaConsultaDeEmails() {
+            Usuario joao = new Usuario("João Silva", EMAIL, CPF_USER);
+            when(usuarioOutboundPort.buscarEmailsExistentes(anyCollection())).thenReturn(Set.of());
+            when(usuarioOutboundPort.salvarTodos(anyList())).thenReturn(List.of(
+                    new Usuario(1L, "João Silva", EMAIL, CPF_USER),
+                    new Usuario(2L, "Maria Santos", maria.getEmail(), maria.getCpf())
+            ));
+
+            List<ResultadoCriacaoUsuario> resultados = usuarioUseCase.criarUsuarios(List.of(joao, maria));
+
+            assertEquals(2, resultados.size());
+            assertTrue(resultados.get(0).isSucesso());
+            assertEquals(1L, resultados.get(0).getUsuario().getId());
+            assertEquals(2L, resultados.get(1).getUsuario().getId());
+            verify(usuarioOutboundPort, times(1)).buscarEmailsExistentes(Set.of("joao@example.com", "maria@example.com"));
+            verify(usuarioOutboundPort, never()).buscarPorEmail(anyString());
+            verify(usuarioOutboundPort, never()).salvar(any(Usuario.class));
+        }
+
+        @Test
+        @DisplayName("Itens inválidos, repetidos ou já existentes falham sem interromper o lote")
+        void deveReportarFalhasPorItem() {
+            Usuario semNome = new Usuario("", EMAIL, CPF_USER);
+            Usuario joao = new Usuario("João Silva", EMAIL, CPF_USER);
+            Usuario joaoRepetido = new Usuario("João de Novo", EMAIL, CPF_USER);
+            Usuario existente = new Usuario("Existente", Email.of("existente@example.com"), CPF_USER);
+
+            when(usuarioOutboundPort.buscarEmailsExistentes(anyCollection())).thenReturn(Set.of("existente@example.com"));
+            when(usuarioOutboundPort.salvarTodos(List.of(joao))).thenReturn(List.of(new Usuario(10L, "João Silva", EMAIL, CPF_USER)));
+
+            List<ResultadoCriacaoUsuario> resultados = usuarioUseCase.criarUsuarios(List.of(semNome, joao, joaoRepetido, existente));
+
+            assertEquals("Dados do usuário são inválidos", resultados.get(0).getErro());
+            assertTrue(resultados.get(1).isSucesso());
+            assertEquals(10L, resultados.get(1).getUsuario().getId());
+            assertEquals("Email repetido no lote: joao@example.com", resultados.get(2).getErro());
+            assertEquals("Já existe um usuário com o email: existente@example.com", resultados.get(3).getErro());
+        }
+
+        @Test
+        void naoDeveAcessarInfraestruturaQuandoNenhumItemEValido() {
+            List<ResultadoCriacaoUsuario> resultados = usuarioUseCase.criarUsuarios(List.of(new Usuario("", EMAIL, CPF_USER)));
+
+            assertFalse(resultados.get(0).isSucesso());
+            verifyNoInteractions(usuarioOutboundPort);
+        }
     }
 
     @DisplayName("Teste de Buscar por Id um Usuário")
@@ -226,24 +318,240 @@ class UsuarioUseCaseImplTest {
 
         @Test
         void deveRemoverUsuarioComSucesso() {
-            when(usuarioOutboundPort.buscarPorId(1L)).thenReturn(Optional.of(usuarioValido));
-            doNothing().when(usuarioOutboundPort).deletar(1L);
+            when(usuarioOutboundPort.deletar(1L)).thenReturn(1);
 
             assertDoesNotThrow(() -> usuarioUseCase.removerUsuario(1L));
 
-            verify(usuarioOutboundPort).buscarPorId(1L);
             verify(usuarioOutboundPort).deletar(1L);
+            verify(usuarioOutboundPort, never()).buscarPorId(anyLong());
         }
 
         @Test
         void deveLancarExcecaoAoRemoverUsuarioInexistente() {
-            when(usuarioOutboundPort.buscarPorId(1L)).thenReturn(Optional.empty());
+            when(usuarioOutboundPort.deletar(1L)).thenReturn(0);
 
             assertThrows(UsuarioNaoEncontradoException.class, () -> {
                 usuarioUseCase.removerUsuario(1L);
             });
 
-            verify(usuarioOutboundPort, never()).deletar(anyLong());
+            verify(usuarioOutboundPort, never()).buscarPorId(anyLong());
+        }
+
+        @Test
+        void deveRemoverLoteSemIdsRepetidos() {
+            when(usuarioOutboundPort.deletarTodos(anyCollection())).thenReturn(List.of(usuarioValido));
+
+            List<Usuario> removidos = usuarioUseCase.removerUsuarios(List.of(1L, 2L, 1L));
+
+            assertEquals(List.of(usuarioValido), removidos);
+            verify(usuarioOutboundPort).deletarTodos(new LinkedHashSet<>(List.of(1L, 2L)));
+        }
+
+        @Test
+        void naoDeveAcessarInfraestruturaComLoteVazio() {
+            assertTrue(usuarioUseCase.removerUsuarios(List.of()).isEmpty());
+
+            verifyNoInteractions(usuarioOutboundPort);
+        }
+
+        @Test
+        void deveRejeitarIdNuloNoLote() {
+            assertThrows(NullPointerException.class, () -> usuarioUseCase.removerUsuarios(Arrays.asList(1L, null)));
+
+            verifyNoInteractions(usuarioOutboundPort);
+        }
+    }
+
+    @DisplayName("Teste para atualizar um usuário")
+    @Nested
+    public class AtualizarUsuario {
+
+        private Usuario persistido;
+
+        @BeforeEach
+        void setUp() {
+            persistido = new Usuario(1L, "João Silva", EMAIL, CPF_USER, 3L);
+        }
+
+        @Test
+        void deveAtualizarSoOsCamposInformadosNoPatch() throws Exception {
+            when(usuarioOutboundPort.buscarPorId(1L)).thenReturn(Optional.of(persistido));
+            when(usuarioOutboundPort.atualizar(any(Usuario.class))).thenAnswer(invocacao -> {
+                Usuario usuario = invocacao.getArgument(0);
+                return new Usuario(usuario.getId(), usuario.getNome(), usuario.getEmail(), usuario.getCpf(), 4L);
+            });
+
+            Usuario atualizado = usuarioUseCase.atualizarUsuario(1L, AtualizacaoUsuario.parcial("João Souza", null, null, 3L));
+
+            assertEquals("João Souza", atualizado.getNome());
+            assertEquals(EMAIL, atualizado.getEmail());
+            assertEquals(CPF_USER, atualizado.getCpf());
+            assertEquals(4L, atualizado.getVersao());
+        }
+
+        @Test
+        void deveRemoverCpfNaSubstituicaoSemCpf() throws Exception {
+            when(usuarioOutboundPort.buscarPorId(1L)).thenReturn(Optional.of(persistido));
+            when(usuarioOutboundPort.atualizar(any(Usuario.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+            Usuario atualizado = usuarioUseCase.atualizarUsuario(1L, AtualizacaoUsuario.substituicao("João Silva", EMAIL, null, null));
+
+            assertNull(atualizado.getCpf());
+        }
+
+        @Test
+        void naoDeveGravarQuandoNadaMuda() throws Exception {
+            when(usuarioOutboundPort.buscarPorId(1L)).thenReturn(Optional.of(persistido));
+
+            Usuario atualizado = usuarioUseCase.atualizarUsuario(1L, AtualizacaoUsuario.parcial("João Silva", EMAIL, null, null));
+
+            assertSame(persistido, atualizado);
+            verify(usuarioOutboundPort, never()).atualizar(any());
+        }
+
+        @Test
+        void deveLancarConflitoQuandoVersaoEsperadaDifere() {
+            when(usuarioOutboundPort.buscarPorId(1L)).thenReturn(Optional.of(persistido));
+
+            assertThrows(ConflitoVersaoException.class,
+                    () -> usuarioUseCase.atualizarUsuario(1L, AtualizacaoUsuario.parcial("Outro", null, null, 2L)));
+
+            verify(usuarioOutboundPort, never()).atualizar(any());
+        }
+
+        @Test
+        void deveLancarExcecaoQuandoUsuarioNaoEncontrado() {
+            when(usuarioOutboundPort.buscarPorId(1L)).thenReturn(Optional.empty());
+
+            assertThrows(UsuarioNaoEncontradoException.class,
+                    () -> usuarioUseCase.atualizarUsuario(1L, AtualizacaoUsuario.parcial("Outro", null, null, null)));
+        }
+
+        @Test
+        void deveLancarExcecaoComNomeVazio() {
+            when(usuarioOutboundPort.buscarPorId(1L)).thenReturn(Optional.of(persistido));
+
+            assertThrows(UsuarioInvalidoException.class,
+                    () -> usuarioUseCase.atualizarUsuario(1L, AtualizacaoUsuario.parcial(" ", null, null, null)));
+        }
+
+        @Test
+        void deveLancarExcecaoQuandoNovoEmailJaExiste() {
+            Email outroEmail = Email.of("maria@example.com");
+            when(usuarioOutboundPort.buscarPorId(1L)).thenReturn(Optional.of(persistido));
+            when(usuarioOutboundPort.buscarPorEmail("maria@example.com"))
+                    .thenReturn(Optional.of(new Usuario(2L, "Maria", outroEmail, null)));
+
+            assertThrows(UsuarioInvalidoException.class,
+                    () -> usuarioUseCase.atualizarUsuario(1L, AtualizacaoUsuario.parcial(null, outroEmail, null, null)));
+
+            verify(usuarioOutboundPort, never()).atualizar(any());
+        }
+
+        @Test
+        void deveTraduzirEmailJaCadastradoNaPersistencia() {
+            Email outroEmail = Email.of("maria@example.com");
+            when(usuarioOutboundPort.buscarPorId(1L)).thenReturn(Optional.of(persistido));
+            when(usuarioOutboundPort.buscarPorEmail("maria@example.com")).thenReturn(Optional.empty());
+            when(usuarioOutboundPort.atualizar(any(Usuario.class)))
+                    .thenThrow(new EmailJaCadastradoException("maria@example.com", null));
+
+            assertThrows(UsuarioInvalidoException.class,
+                    () -> usuarioUseCase.atualizarUsuario(1L, AtualizacaoUsuario.parcial(null, outroEmail, null, null)));
+        }
+    }
+
+    @DisplayName("Eventos de domínio")
+    @Nested
+    public class Eventos {
+
+        @Mock
+        private UsuarioEventoOutboundPort eventoOutboundPort;
+
+        @BeforeEach
+        void setUp() {
+            usuarioUseCase = new UsuarioUseCaseImpl(usuarioOutboundPort, eventoOutboundPort);
+        }
+
+        @Test
+        void deveRegistrarUsuarioCriadoAposSalvar() throws UsuarioInvalidoException {
+            when(usuarioOutboundPort.buscarPorEmail(anyString())).thenReturn(Optional.empty());
+            when(usuarioOutboundPort.salvar(any(Usuario.class))).thenReturn(usuarioValido);
+
+            usuarioUseCase.criarUsuario("João Silva", EMAIL, CPF_USER);
+
+            ArgumentCaptor<UsuarioEvento> evento = ArgumentCaptor.forClass(UsuarioEvento.class);
+            InOrder ordem = inOrder(usuarioOutboundPort, eventoOutboundPort);
+            ordem.verify(usuarioOutboundPort).salvar(any(Usuario.class));
+            ordem.verify(eventoOutboundPort).registrar(evento.capture());
+            UsuarioCriadoEvento criado = assertInstanceOf(UsuarioCriadoEvento.class, evento.getValue());
+            assertEquals(1L, criado.usuarioId());
+            assertEquals("joao@example.com", criado.email());
+        }
+
+        @Test
+        void naoDeveRegistrarEventoQuandoCriacaoFalha() {
+            when(usuarioOutboundPort.buscarPorEmail(anyString())).thenReturn(Optional.of(usuarioValido));
+
+            assertThrows(UsuarioInvalidoException.class, () -> usuarioUseCase.criarUsuario("Outro", EMAIL, CPF_USER));
+
+            verifyNoInteractions(eventoOutboundPort);
+        }
+
+        @Test
+        void deveRegistrarUmEventoPorUsuarioCriadoNoLote() {
+            Usuario repetido = new Usuario("Repetido", EMAIL, CPF_USER);
+            when(usuarioOutboundPort.buscarEmailsExistentes(anyCollection())).thenReturn(Set.of());
+            when(usuarioOutboundPort.salvarTodos(anyList())).thenReturn(List.of(usuarioValido));
+
+            usuarioUseCase.criarUsuarios(List.of(new Usuario("João Silva", EMAIL, CPF_USER), repetido));
+
+            verify(eventoOutboundPort, times(1)).registrar(any(UsuarioCriadoEvento.class));
+        }
+
+        @Test
+        void deveRegistrarUsuarioAtualizadoComNovaVersao() throws Exception {
+            when(usuarioOutboundPort.buscarPorId(1L)).thenReturn(Optional.of(new Usuario(1L, "João Silva", EMAIL, CPF_USER, 0L)));
+            when(usuarioOutboundPort.atualizar(any(Usuario.class)))
+                    .thenReturn(new Usuario(1L, "João Souza", EMAIL, CPF_USER, 1L));
+
+            usuarioUseCase.atualizarUsuario(1L, AtualizacaoUsuario.parcial("João Souza", null, null, null));
+
+            ArgumentCaptor<UsuarioEvento> evento = ArgumentCaptor.forClass(UsuarioEvento.class);
+            verify(eventoOutboundPort).registrar(evento.capture());
+            assertEquals(new UsuarioAtualizadoEvento(1L, "João Souza", "joao@example.com", 1L, evento.getValue().ocorridoEm()),
+                    evento.getValue());
+        }
+
+        @Test
+        void deveRegistrarUsuarioRemovidoSoComId() throws UsuarioNaoEncontradoException {
+            when(usuarioOutboundPort.deletar(1L)).thenReturn(1);
+
+            usuarioUseCase.removerUsuario(1L);
+
+            ArgumentCaptor<UsuarioEvento> evento = ArgumentCaptor.forClass(UsuarioEvento.class);
+            verify(eventoOutboundPort).registrar(evento.capture());
+            assertEquals(new UsuarioRemovidoEvento(1L, null, evento.getValue().ocorridoEm()), evento.getValue());
+        }
+
+        @Test
+        void naoDeveRegistrarEventoQuandoUsuarioNaoExiste() {
+            when(usuarioOutboundPort.deletar(1L)).thenReturn(0);
+
+            assertThrows(UsuarioNaoEncontradoException.class, () -> usuarioUseCase.removerUsuario(1L));
+
+            verifyNoInteractions(eventoOutboundPort);
+        }
+
+        @Test
+        void deveRegistrarUmEventoComEmailPorUsuarioRemovidoNoLote() {
+            when(usuarioOutboundPort.deletarTodos(anyCollection())).thenReturn(List.of(usuarioValido));
+
+            usuarioUseCase.removerUsuarios(List.of(1L, 99L));
+
+            ArgumentCaptor<UsuarioEvento> evento = ArgumentCaptor.forClass(UsuarioEvento.class);
+            verify(eventoOutboundPort, times(1)).registrar(evento.capture());
+            assertEquals(new UsuarioRemovidoEvento(1L, "joao@example.com", evento.getValue().ocorridoEm()), evento.getValue());
         }
     }
 
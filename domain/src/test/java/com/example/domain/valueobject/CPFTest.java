@@ -123,5 +123,37 @@ class CPFTest {
         assertDoesNotThrow(() -> CPF.of("111.444.777-35"));
         assertDoesNotThrow(() -> CPF.of("123.456.789-09"));
     }
+    
+    @Test
+    void deveIgnorarQualquerCaractereQueNaoSejaDigito() {
+        // Mesmo comportamento da remoção de formatação: tudo que não é 0-9 é descartado
+        assertEquals(CPF_VALIDO, CPF.of(" 123 456 789 09 ").getValue());
+        assertEquals(CPF_VALIDO, CPF.of("123/456.789-09").getValue());
+        assertEquals(CPF_VALIDO, CPF.of("cpf: 123.456.789-09").getValue());
+    }
+    
+    @Test
+    void naoDeveConsiderarDigitosNaoAsciiComoDigitosDoCPF() {
+        // Dígitos arábicos são ignorados (como na remoção de formatação por [^0-9])
+        assertEquals(CPF_VALIDO, CPF.of("123456789\u0660\u066109").getValue());
+        assertThrows(IllegalArgumentException.class, () -> CPF.of("\u0661\u0662\u0663\u0664\u0665\u0666\u0667\u0668\u0669\u0660\u0669"));
+    }
+    
+    @Test
+    void deveLancarExcecaoComMensagemDeCadaRegra() {
+        assertEquals("CPF deve ter 11 dígitos",
+                assertThrows(IllegalArgumentException.class, () -> CPF.of("123.456.789")).getMessage());
+        assertEquals("CPF inválido: todos os dígitos são iguais",
+                assertThrows(IllegalArgumentException.class, () -> CPF.of("999.999.999-99")).getMessage());
+        assertEquals("CPF inválido: 123.456.789-10",
+                assertThrows(IllegalArgumentException.class, () -> CPF.of("123.456.789-10")).getMessage());
+    }
+    
+    @Test
+    void deveValidarSegundoDigitoVerificador() {
+        // Primeiro verificador correto (0), segundo errado
+        assertThrows(IllegalArgumentException.class, () -> CPF.of("123.456.789-08"));
+        // Dígito verificador calculado como 10/11 vira 0
+        assertDoesNotThrow(() -> CPF.of("987.654.321-00"));
+    }
 }
-
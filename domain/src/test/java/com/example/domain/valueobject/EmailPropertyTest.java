@@ -0,0 +1,99 @@
+package com.example.domain.valueobject;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de propriedade para Value Object Email
+ * Comparam Email.of com a validação antiga (trim + toLowerCase + regex)
+ */
+class EmailPropertyTest {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+        "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$"
+    );
+
+    /**
+     * Validação antiga: null quando inválido, valor normalizado quando válido
+     */
+    private static String validacaoAntiga(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        String normalizedEmail = email.trim().toLowerCase();
+        return EMAIL_PATTERN.matcher(normalizedEmail).matches() ? normalizedEmail : null;
+    }
+
+    private static String validacaoAtual(String email) {
+        try {
+            return Email.of(email).getValue();
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    @Property(tries = 5000)
+    void deveAceitarERejeitarComoARegex(@ForAll("quaseEmails") String email) {
+        assertEquals(validacaoAntiga(email), validacaoAtual(email), () -> "entrada: [" + email + "]");
+    }
+
+    @Property(tries = 2000)
+    void deveAceitarERejeitarComoARegexParaTextoQualquer(@ForAll String email) {
+        assertEquals(validacaoAntiga(email), validacaoAtual(email), () -> "entrada: [" + email + "]");
+    }
+
+    @Property(tries = 2000)
+    void deveSepararLocalPartEDominioNoArroba(@ForAll("quaseEmails") String entrada) {
+        String esperado = validacaoAntiga(entrada);
+        if (esperado == null) {
+            return;
+        }
+        Email email = Email.of(entrada);
+        int arroba = esperado.indexOf('@');
+
+        assertEquals(esperado.substring(0, arroba), email.getLocalPart());
+        assertEquals(esperado.substring(arroba + 1), email.getDomain());
+        assertTrue(email.isFromDomain(esperado.substring(arroba + 1).toUpperCase()));
+        assertFalse(email.isFromDomain(esperado.substring(arroba)));
+        assertFalse(email.isFromDomain(null));
+    }
+
+    /**
+     * Strings próximas de emails: alfabeto pequeno com os caracteres que
+     * importam para a regra ('@', '.', símbolos, maiúsculas, espaços nas
+     * pontas e KELVIN SIGN), para exercitar as duas saídas da validação
+     */
+    @Provide
+    Arbitrary<String> quaseEmails() {
+        Arbitrary<String> trecho = Arbitraries.strings()
+                .withChars("abcXYZk09+_.-@ \tKé!")
+                .ofMinLength(0)
+                .ofMaxLength(6);
+        Arbitrary<String> local = Arbitraries.strings()
+                .withChars("aZ9+_.-K")
+                .ofMinLength(0)
+                .ofMaxLength(5);
+        Arbitrary<String> dominio = Arbitraries.strings()
+                .withChars("bY8.-")
+                .ofMinLength(0)
+                .ofMaxLength(5);
+        Arbitrary<String> tld = Arbitraries.strings()
+                .withChars("cQ1-K")
+                .ofMinLength(0)
+                .ofMaxLength(4);
+        Arbitrary<String> espacos = Arbitraries.of("", " ", "  ", "\t", "\n");
+
+        Arbitrary<String> estruturado = Combinators.combine(espacos, local, dominio, tld, espacos)
+                .as((antes, l, d, t, depois) -> antes + l + "@" + d + "." + t + depois);
+
+        return Arbitraries.oneOf(estruturado, trecho, Combinators.combine(estruturado, trecho).as(String::concat));
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.infrastructure.adapter;
+
+import com.example.domain.exception.EmailJaCadastradoException;
+import com.example.domain.model.Usuario;
+import com.example.domain.ports.out.UsuarioOutboundPort;
+import com.example.infrastructure.bloom.EmailBloomFilter;
+import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Decorator da porta de saída com Bloom filter de emails (opcional)
+ * 
+ * Ativado por app.usuarios.email-bloom-filter.enabled=true.
+ * Quando ativo, é o UsuarioOutboundPort injetado no Domain (@Primary)
+ * e delega tudo ao UsuarioRepositoryAdapter.
+ * 
+ * Verificação de unicidade de email:
+ * - email com certeza inexistente: responde sem ir ao banco (sem SELECT)
+ * - email possivelmente existente: consulta o banco normalmente
+ * 
+ * O filtro é aquecido na inicialização com a coluna usuarios.email e recebe
+ * cada email salvo. Remoções não tiram o email do filtro (Bloom filter não
+ * suporta remoção): o email removido continua "possível" e custa só o SELECT
+ * de antes, até o próximo start.
+ * 
+ * O filtro só conhece as escritas desta instância: a restrição única de
+ * UsuarioEntity.email continua sendo a palavra final (EmailJaCadastradoException)
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "app.usuarios.email-bloom-filter.enabled", havingValue = "true")
+@Slf4j
+public class UsuarioBloomFilterAdapter implements UsuarioOutboundPort {
+    
+    private final UsuarioRepositoryAdapter delegate;
+    private final UsuarioJpaRepository jpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EmailBloomFilter filtro;
+    private final long quantidadeEsperada;
+    private final AtomicLong quantidadeAdicionada = new AtomicLong();
+    
+    public UsuarioBloomFilterAdapter(
+            UsuarioRepositoryAdapter delegate,
+            UsuarioJpaRepository jpaRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.usuarios.email-bloom-filter.expected-insertions:1000000}") long quantidadeEsperada,
+            @Value("${app.usuarios.email-bloom-filter.false-positive-rate:0.01}") double taxaFalsoPositivo) {
+        this.delegate = delegate;
+        this.jpaRepository = jpaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.filtro = EmailBloomFilter.criar(quantidadeEsperada, taxaFalsoPositivo);
+        this.quantidadeEsperada = quantidadeEsperada;
+    }
+    
+    /**
+     * Carrega todos os emails do banco no filtro, antes de a aplicação receber requisições
+     */
+    @PostConstruct
+    public void aquecer() {
+        long inicio = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> emails = jpaRepository.streamEmails()) {
+                emails.forEach(this::adicionar);
+            }
+        });
+        log.info("Bloom filter de emails aquecido: {} emails, {} bits, {} hashes em {} ms",
+                quantidadeAdicionada.get(), filtro.getQuantidadeBits(), filtro.getQuantidadeHashes(),
+                (System.nanoTime() - inicio) / 1_000_000);
+    }
+    
+    @Override
+    public Usuario salvar(Usuario usuario) {
+        try {
+            Usuario salvo = delegate.salvar(usuario);
+            adicionar(salvo.getEmailAsString());
+            return salvo;
+        } catch (EmailJaCadastradoException ex) {
+            // Email gravado por outra instância: passa a ser conhecido aqui também
+            adicionar(usuario.getEmailAsString());
+            throw ex;
+        }
+    }
+    
+    @Override
+    public List<Usuario> salvarTodos(List<Usuario> usuarios) {
+        List<Usuario> salvos = delegate.salvarTodos(usuarios);
+        salvos.forEach(usuario -> adicionar(usuario.getEmailAsString()));
+        return salvos;
+    }
+    
+    @Override
+    public Usuario atualizar(Usuario usuario) {
+        try {
+            Usuario atualizado = delegate.atualizar(usuario);
+            adicionar(atualizado.getEmailAsString());
+            return atualizado;
+        } catch (EmailJaCadastradoException ex) {
+            adicionar(usuario.getEmailAsString());
+            throw ex;
+        }
+    }
+    
+    @Override
+    public Optional<Usuario> buscarPorId(Long id) {
+        return delegate.buscarPorId(id);
+    }
+    
+    @Override
+    public List<Usuario> buscarTodos() {
+        return delegate.buscarTodos();
+    }
+    
+    @Override
+    public int deletar(Long id) {
+        return delegate.deletar(id);
+    }
+    
+    @Override
+    public List<Usuario> deletarTodos(Collection<Long> ids) {
+        return delegate.deletarTodos(ids);
+    }
+    
+    @Override
+    public Optional<Usuario> buscarPorEmail(String email) {
+        if (!filtro.mightContain(email)) {
+            return Optional.empty();
+        }
+        return delegate.buscarPorEmail(email);
+    }
+    
+    /**
+     * Só os emails possivelmente existentes vão ao banco
+     */
+    @Override
+    public Set<String> buscarEmailsExistentes(Collection<String> emails) {
+        List<String> possiveis = new ArrayList<>();
+        for (String email : emails) {
+            if (filtro.mightContain(email)) {
+                possiveis.add(email);
+            }
+        }
+        return possiveis.isEmpty() ? Set.of() : delegate.buscarEmailsExistentes(possiveis);
+    }
+    
+    private void adicionar(String email) {
+        filtro.put(email);
+        if (quantidadeAdicionada.incrementAndGet() == quantidadeEsperada + 1) {
+            log.warn("Bloom filter de emails passou da quantidade esperada ({}): taxa de falso positivo vai subir. "
+                    + "Ajuste app.usuarios.email-bloom-filter.expected-insertions", quantidadeEsperada);
+        }
+    }
+}
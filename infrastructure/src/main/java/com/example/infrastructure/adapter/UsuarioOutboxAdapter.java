@@ -0,0 +1,58 @@
+package com.example.infrastructure.adapter;
+
+import com.example.domain.event.UsuarioEvento;
+import com.example.domain.ports.out.UsuarioEventoOutboundPort;
+import com.example.infrastructure.databases.oracle.entity.UsuarioOutboxEntity;
+import com.example.infrastructure.databases.oracle.repository.UsuarioOutboxJpaRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adaptador de Saída - Eventos de usuário no outbox (transactional outbox)
+ * 
+ * Implementa UsuarioEventoOutboundPort gravando o evento na tabela usuarios_outbox,
+ * na MESMA transação da escrita do usuário (MANDATORY: sem transação é erro,
+ * não uma gravação avulsa). Nada sai do processo aqui: quem publica é o relay.
+ */
+@Component
+@RequiredArgsConstructor
+public class UsuarioOutboxAdapter implements UsuarioEventoOutboundPort {
+    
+    private static final ObjectWriter PAYLOAD_WRITER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build()
+            .writer();
+    
+    private final UsuarioOutboxJpaRepository outboxRepository;
+    
+    /**
+     * Sem flush: o INSERT vai ao banco no mesmo flush/batch JDBC da escrita do usuário
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(UsuarioEvento evento) {
+        outboxRepository.save(new UsuarioOutboxEntity(
+                null,
+                evento.tipo(),
+                evento.usuarioId(),
+                toJson(evento),
+                evento.ocorridoEm()
+        ));
+    }
+    
+    private static String toJson(UsuarioEvento evento) {
+        try {
+            return PAYLOAD_WRITER.writeValueAsString(evento);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Falha ao serializar o evento " + evento.tipo(), ex);
+        }
+    }
+}
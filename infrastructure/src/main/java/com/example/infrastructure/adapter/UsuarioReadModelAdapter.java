@@ -0,0 +1,163 @@
+package com.example.infrastructure.adapter;
+
+import com.example.domain.event.UsuarioEvento;
+import com.example.domain.ports.out.UsuarioEventoOutboundPort;
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.entity.UsuarioLeituraEntity;
+import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
+import com.example.infrastructure.databases.oracle.repository.UsuarioLeituraJpaRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Adaptador de Saída - Modelo de leitura usuarios_read (lado Query do CQRS)
+ * 
+ * Ativado por app.usuarios.read-model.enabled=true. Recebe os mesmos eventos do
+ * outbox e guarda os ids tocados por transação; só DEPOIS do commit relê essas
+ * linhas de usuarios e grava a versão desnormalizada (ou apaga, se o usuário
+ * não existe mais), numa transação própria:
+ * - rollback do comando: nada muda no modelo de leitura
+ * - lotes (criarUsuarios): uma única projeção para todos os ids da transação
+ * 
+ * Como a projeção relê a tabela de escrita, a ordem dos eventos não importa:
+ * o resultado é sempre o estado atual do usuário. Projeções de transações
+ * diferentes podem rodar fora de ordem (ex.: o email de um usuário removido
+ * reaproveitado por outro): a linha antiga que ainda ocupa o email é apagada
+ * junto, e o índice único de email não barra a projeção nova. Falha na projeção não desfaz
+ * o comando (já confirmado): fica no log e é corrigida pela reconstrução no start.
+ */
+@Component
+@ConditionalOnProperty(name = "app.usuarios.read-model.enabled", havingValue = "true")
+@Slf4j
+public class UsuarioReadModelAdapter implements UsuarioEventoOutboundPort {
+    
+    /**
+     * A cada quantas linhas a reconstrução faz flush e limpa o persistence context
+     */
+    static final int LOTE_RECONSTRUCAO = 500;
+    
+    private final UsuarioJpaRepository usuarioJpaRepository;
+    private final UsuarioLeituraJpaRepository leituraRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean reconstruirNoStart;
+    
+    public UsuarioReadModelAdapter(
+            UsuarioJpaRepository usuarioJpaRepository,
+            UsuarioLeituraJpaRepository leituraRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.usuarios.read-model.rebuild-on-startup:true}") boolean reconstruirNoStart) {
+        this.usuarioJpaRepository = usuarioJpaRepository;
+        this.leituraRepository = leituraRepository;
+        this.entityManager = entityManager;
+        // afterCompletion roda com a transação do comando ainda associada à thread
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reconstruirNoStart = reconstruirNoStart;
+    }
+    
+    /**
+     * Recria usuarios_read a partir de usuarios, antes de a aplicação receber requisições
+     */
+    @PostConstruct
+    public void iniciar() {
+        if (reconstruirNoStart) {
+            reconstruir();
+        }
+    }
+    
+    /**
+     * Sem transação ativa o evento é projetado na hora; com transação,
+     * o id é acumulado e projetado no afterCompletion (se houve commit)
+     */
+    @Override
+    public void registrar(UsuarioEvento evento) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            projetar(Set.of(evento.usuarioId()));
+            return;
+        }
+        idsPendentes().add(evento.usuarioId());
+    }
+    
+    /**
+     * Apaga e regrava todo o modelo de leitura (cursor sobre usuarios)
+     *
+     * @return quantidade de linhas gravadas
+     */
+    public long reconstruir() {
+        long inicio = System.nanoTime();
+        Long total = transactionTemplate.execute(status -> {
+            leituraRepository.deleteAllInBatch();
+            long gravados = 0;
+            try (Stream<UsuarioEntity> usuarios = usuarioJpaRepository.streamAll()) {
+                for (UsuarioEntity usuario : (Iterable<UsuarioEntity>) usuarios::iterator) {
+                    entityManager.persist(UsuarioLeituraEntity.de(usuario));
+                    if (++gravados % LOTE_RECONSTRUCAO == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+            }
+            return gravados;
+        });
+        log.info("Modelo de leitura usuarios_read reconstruído: {} usuários em {} ms",
+                total, (System.nanoTime() - inicio) / 1_000_000);
+        return total;
+    }
+    
+    /**
+     * Ids tocados na transação corrente; registra o callback de commit no primeiro evento
+     */
+    @SuppressWarnings("unchecked")
+    private Set<Long> idsPendentes() {
+        Set<Long> ids = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (ids != null) {
+            return ids;
+        }
+        Set<Long> novos = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(this, novos);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(UsuarioReadModelAdapter.this);
+                if (status == STATUS_COMMITTED) {
+                    projetar(novos);
+                }
+            }
+        });
+        return novos;
+    }
+    
+    private void projetar(Collection<Long> ids) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<UsuarioEntity> atuais = usuarioJpaRepository.findAllById(ids);
+                if (atuais.isEmpty()) {
+                    leituraRepository.deleteAllByIdInBatch(ids);
+                    return;
+                }
+                // Apaga e regrava: a linha desatualizada de outro id com o mesmo email sai antes do INSERT
+                leituraRepository.deletarProjecoes(ids, atuais.stream().map(UsuarioEntity::getEmail).toList());
+                atuais.forEach(usuario -> entityManager.persist(UsuarioLeituraEntity.de(usuario)));
+            });
+        } catch (RuntimeException ex) {
+            log.error("Falha ao projetar usuários {} em usuarios_read", ids, ex);
+        }
+    }
+}
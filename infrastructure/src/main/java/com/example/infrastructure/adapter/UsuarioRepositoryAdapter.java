@@ -1,14 +1,29 @@
 package com.example.infrastructure.adapter;
 
+import com.example.domain.exception.ConflitoVersaoException;
+import com.example.domain.exception.EmailJaCadastradoException;
 import com.example.domain.model.Usuario;
 import com.example.domain.ports.out.UsuarioOutboundPort;
 import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.entity.UsuarioRemovidoEntity;
+import com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection;
 import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
+import com.example.infrastructure.databases.oracle.repository.UsuarioRemovidoJpaRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -23,13 +38,79 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UsuarioRepositoryAdapter implements UsuarioOutboundPort {
     
+    /**
+     * Limite de expressões no IN (Oracle não aceita mais de 1000)
+     */
+    static final int TAMANHO_CHUNK_IN = 1000;
+    
+    /**
+     * Quantidade de entidades mantidas no persistence context por vez durante a escrita em lote
+     * (múltiplo do hibernate.jdbc.batch_size)
+     */
+    static final int TAMANHO_CHUNK_INSERT = 500;
+    
     private final UsuarioJpaRepository jpaRepository;
+    private final UsuarioRemovidoJpaRepository removidoJpaRepository;
+    private final EntityManager entityManager;
     
+    /**
+     * Flush imediato: a violação da restrição única de email aparece aqui,
+     * e não no commit de uma transação externa
+     */
     @Override
     public Usuario salvar(Usuario usuario) {
         UsuarioEntity entity = toEntity(usuario);
-        UsuarioEntity savedEntity = jpaRepository.save(entity);
-        return toDomain(savedEntity);
+        try {
+            UsuarioEntity savedEntity = jpaRepository.saveAndFlush(entity);
+            return toDomain(savedEntity);
+        } catch (DataIntegrityViolationException ex) {
+            throw new EmailJaCadastradoException(usuario.getEmailAsString(), ex);
+        }
+    }
+    
+    /**
+     * Escrita em lote: cada chunk é enviado ao banco em batch JDBC (hibernate.jdbc.batch_size)
+     * e o persistence context é limpo em seguida, mantendo a memória constante
+     */
+    @Override
+    public List<Usuario> salvarTodos(List<Usuario> usuarios) {
+        List<Usuario> salvos = new ArrayList<>(usuarios.size());
+        for (int inicio = 0; inicio < usuarios.size(); inicio += TAMANHO_CHUNK_INSERT) {
+            List<UsuarioEntity> entities = usuarios
+                    .subList(inicio, Math.min(inicio + TAMANHO_CHUNK_INSERT, usuarios.size()))
+                    .stream()
+                    .map(this::toEntity)
+                    .collect(Collectors.toList());
+            
+            jpaRepository.saveAllAndFlush(entities).forEach(entity -> salvos.add(toDomain(entity)));
+            entityManager.clear();
+        }
+        return salvos;
+    }
+    
+    /**
+     * Altera a entidade gerenciada e faz flush: com @DynamicUpdate, um UPDATE só das colunas
+     * alteradas, com {@code where id = ? and versao = ?} (sem lock pessimista)
+     * 
+     * Na mesma transação do caso de uso, findById encontra a entidade já carregada
+     * no persistence context, sem novo SELECT
+     */
+    @Override
+    public Usuario atualizar(Usuario usuario) {
+        UsuarioEntity entity = jpaRepository.findById(usuario.getId())
+                .filter(encontrada -> Objects.equals(encontrada.getVersao(), usuario.getVersao()))
+                .orElseThrow(() -> new ConflitoVersaoException(usuario.getId(), usuario.getVersao()));
+        entity.setNome(usuario.getNome());
+        entity.setEmail(usuario.getEmailAsString());
+        entity.setCpf(usuario.getCpfAsString());
+        try {
+            jpaRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            throw new ConflitoVersaoException(usuario.getId(), usuario.getVersao(), ex);
+        } catch (DataIntegrityViolationException ex) {
+            throw new EmailJaCadastradoException(usuario.getEmailAsString(), ex);
+        }
+        return toDomain(entity);
     }
     
     @Override
@@ -45,17 +126,73 @@ public class UsuarioRepositoryAdapter implements UsuarioOutboundPort {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * Um DELETE, sem ler o usuário: a quantidade de linhas afetadas diz se o usuário existia.
+     * Só quando existia, o INSERT do tombstone (delta sync), na mesma transação
+     * 
+     * Com o cache de segundo nível ativo, só as entradas deste usuário saem do cache
+     */
     @Override
-    public void deletar(Long id) {
-        jpaRepository.deleteById(id);
+    public int deletar(Long id) {
+        jpaRepository.invalidarRemocao(id);
+        int removidos = jpaRepository.deletarPorId(id);
+        if (removidos > 0) {
+            removidoJpaRepository.save(new UsuarioRemovidoEntity(id, Instant.now()));
+        }
+        return removidos;
     }
     
+    /**
+     * Por chunk de TAMANHO_CHUNK_IN ids: SELECT ... FOR UPDATE (quem existe, para devolver os removidos),
+     * DELETE ... WHERE id IN e os INSERTs dos tombstones em batch JDBC; o persistence context é limpo
+     * ao fim de cada chunk
+     */
+    @Override
+    public List<Usuario> deletarTodos(Collection<Long> ids) {
+        List<Long> lista = new ArrayList<>(ids);
+        List<Usuario> removidos = new ArrayList<>();
+        for (int inicio = 0; inicio < lista.size(); inicio += TAMANHO_CHUNK_IN) {
+            List<UsuarioDetalheProjection> existentes = jpaRepository.findDetalhesParaRemocao(
+                    lista.subList(inicio, Math.min(inicio + TAMANHO_CHUNK_IN, lista.size())));
+            if (existentes.isEmpty()) {
+                continue;
+            }
+            List<Long> idsExistentes = existentes.stream().map(UsuarioDetalheProjection::id).collect(Collectors.toList());
+            jpaRepository.deletarPorIds(idsExistentes);
+            Instant removidoEm = Instant.now();
+            removidoJpaRepository.saveAllAndFlush(idsExistentes.stream()
+                    .map(id -> new UsuarioRemovidoEntity(id, removidoEm))
+                    .collect(Collectors.toList()));
+            entityManager.clear();
+            existentes.forEach(usuario -> removidos.add(
+                    Usuario.reconstituir(usuario.id(), usuario.nome(), usuario.email(), usuario.cpf())));
+        }
+        return removidos;
+    }
+    
+    /**
+     * Busca pelo natural id (email): com o cache de segundo nível ativo,
+     * email → id e id → usuário são resolvidos sem ir ao banco
+     */
     @Override
     public Optional<Usuario> buscarPorEmail(String email) {
-        return jpaRepository.findByEmail(email)
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(UsuarioEntity.class)
+                .loadOptional(email)
                 .map(this::toDomain);
     }
     
+    @Override
+    public Set<String> buscarEmailsExistentes(Collection<String> emails) {
+        List<String> lista = new ArrayList<>(emails);
+        Set<String> existentes = new HashSet<>();
+        for (int inicio = 0; inicio < lista.size(); inicio += TAMANHO_CHUNK_IN) {
+            existentes.addAll(jpaRepository.findEmailsExistentes(
+                    lista.subList(inicio, Math.min(inicio + TAMANHO_CHUNK_IN, lista.size()))));
+        }
+        return existentes;
+    }
+    
     // Métodos de conversão entre Domain e Infrastructure
     // Domain usa Value Objects (Email, CPF)
     // Infrastructure/JPA usa Strings no banco
@@ -65,23 +202,20 @@ public class UsuarioRepositoryAdapter implements UsuarioOutboundPort {
                 usuario.getId(),
                 usuario.getNome(),
                 usuario.getEmailAsString(),  // Value Object → String
-                usuario.getCpfAsString()     // Value Object → String (pode ser null)
+                usuario.getCpfAsString(),    // Value Object → String (pode ser null)
+                usuario.getVersao()
         );
     }
     
     private Usuario toDomain(UsuarioEntity entity) {
-        // Converte de volta: Strings → Value Objects
-        Usuario usuario = Usuario.criar(
-                entity.getNome(),
-                entity.getEmail(),  // String → Email (Value Object)
-                entity.getCpf()     // String → CPF (Value Object)
-        );
-        // Usa reflection ou cria um novo construtor com ID
-        return new Usuario(
+        // Strings → Value Objects, sem revalidar: o que está no banco
+        // já passou por Email.of/CPF.of quando foi gravado
+        return Usuario.reconstituir(
                 entity.getId(),
                 entity.getNome(),
-                usuario.getEmail(),
-                usuario.getCpf()
+                entity.getEmail(),
+                entity.getCpf(),
+                entity.getVersao()
         );
     }
 }
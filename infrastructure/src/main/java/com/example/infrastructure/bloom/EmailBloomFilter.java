@@ -0,0 +1,110 @@
+package com.example.infrastructure.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter de emails em memória
+ *
+ * Responde "com certeza não existe" ou "talvez exista":
+ * - mightContain == false: o email nunca foi adicionado (sem falso negativo)
+ * - mightContain == true: pode ser falso positivo, com taxa próxima à configurada
+ *   enquanto a quantidade de emails não passar da esperada
+ *
+ * Dimensionamento clássico:
+ * - bits  m = -n * ln(p) / (ln 2)^2
+ * - hashes k = m / n * ln 2
+ *
+ * Índices por hashing duplo (Kirsch-Mitzenmacher) sobre um hash de 64 bits do email.
+ * Thread-safe: os bits ficam em um AtomicLongArray e nunca são apagados.
+ * Não suporta remoção (apagar um bit poderia apagar outro email).
+ */
+public final class EmailBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long quantidadeBits;
+    private final int quantidadeHashes;
+
+    private EmailBloomFilter(long quantidadeBits, int quantidadeHashes) {
+        this.bits = new AtomicLongArray(Math.toIntExact((quantidadeBits + 63) / 64));
+        this.quantidadeBits = quantidadeBits;
+        this.quantidadeHashes = quantidadeHashes;
+    }
+
+    /**
+     * @param quantidadeEsperada quantidade de emails esperada (cardinalidade)
+     * @param taxaFalsoPositivo taxa de falso positivo desejada, entre 0 e 1 (ex: 0.01)
+     */
+    public static EmailBloomFilter criar(long quantidadeEsperada, double taxaFalsoPositivo) {
+        if (quantidadeEsperada <= 0) {
+            throw new IllegalArgumentException("Quantidade esperada deve ser positiva: " + quantidadeEsperada);
+        }
+        if (!(taxaFalsoPositivo > 0 && taxaFalsoPositivo < 1)) {
+            throw new IllegalArgumentException("Taxa de falso positivo deve estar entre 0 e 1: " + taxaFalsoPositivo);
+        }
+
+        // Índices são derivados de hashes de 32 bits: no máximo Integer.MAX_VALUE bits (256 MB)
+        long m = Math.min(Integer.MAX_VALUE,
+                Math.max(64, (long) Math.ceil(-quantidadeEsperada * Math.log(taxaFalsoPositivo) / (LN2 * LN2))));
+        int k = Math.max(1, (int) Math.round((double) m / quantidadeEsperada * LN2));
+        return new EmailBloomFilter(m, k);
+    }
+
+    public void put(String email) {
+        long hash = hash64(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= quantidadeHashes; i++) {
+            long indice = indice(h1 + i * h2);
+            int palavra = (int) (indice >>> 6);
+            long mascara = 1L << indice;
+            long atual = bits.get(palavra);
+            while ((atual & mascara) == 0 && !bits.compareAndSet(palavra, atual, atual | mascara)) {
+                atual = bits.get(palavra);
+            }
+        }
+    }
+
+    public boolean mightContain(String email) {
+        long hash = hash64(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= quantidadeHashes; i++) {
+            long indice = indice(h1 + i * h2);
+            if ((bits.get((int) (indice >>> 6)) & (1L << indice)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getQuantidadeBits() {
+        return quantidadeBits;
+    }
+
+    public int getQuantidadeHashes() {
+        return quantidadeHashes;
+    }
+
+    private long indice(int combinado) {
+        return (combinado < 0 ? ~combinado : combinado) % quantidadeBits;
+    }
+
+    /**
+     * FNV-1a de 64 bits seguido do finalizador do MurmurHash3 (espalha os bits)
+     */
+    private static long hash64(String email) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < email.length(); i++) {
+            h ^= email.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.infrastructure.databases.oracle.entity;
 
+import com.example.infrastructure.databases.oracle.id.PooledSequenceIdGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -9,6 +10,9 @@ import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 /**
  * Entidade JPA - Representação do Usuário no banco de dados
@@ -24,8 +28,16 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class PessoaEntity {
     
+    /**
+     * Mesma tabela e mesma sequence de UsuarioEntity (IDs não podem colidir)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pessoas_usuarios_seq")
+    @GenericGenerator(
+            name = "pessoas_usuarios_seq",
+            type = PooledSequenceIdGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "usuarios_seq")
+    )
     private Long id;
     
     @Column(nullable = false)
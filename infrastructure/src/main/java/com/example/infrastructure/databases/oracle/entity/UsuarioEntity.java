@@ -1,6 +1,17 @@
 package com.example.infrastructure.databases.oracle.entity;
 
+import com.example.infrastructure.databases.oracle.id.PooledSequenceIdGenerator;
+import com.example.infrastructure.databases.oracle.id.SequenciaMudanca;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,25 +22,86 @@ import lombok.NoArgsConstructor;
  * IMPORTANTE: Esta é uma entidade de INFRAESTRUTURA (JPA)
  * Os Value Objects (Email, CPF) do Domain são convertidos para Strings aqui
  * pois o banco de dados armazena strings, não objetos
+ * 
+ * Cache de segundo nível (quando hibernate.cache.use_second_level_cache está ativo):
+ * - por id na região {@value #REGIAO_CACHE}
+ * - email → id na região {@value #REGIAO_CACHE_EMAIL} (natural id)
+ * 
+ * Atualizações: UPDATE só com as colunas alteradas (@DynamicUpdate) e controle otimista pela coluna versao
+ * 
+ * Delta sync: seq_mudanca recebe um valor novo de {@value #SEQUENCIA_MUDANCA} a cada INSERT e UPDATE
+ * (índice único para a varredura por faixa); remoções viram linhas de UsuarioRemovidoEntity
  */
 @Entity
-@Table(name = "usuarios")
+@Table(name = "usuarios", indexes = @Index(name = "idx_usuarios_seq_mudanca", columnList = "seq_mudanca", unique = true))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = UsuarioEntity.REGIAO_CACHE)
+@NaturalIdCache(region = UsuarioEntity.REGIAO_CACHE_EMAIL)
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class UsuarioEntity {
     
+    public static final String REGIAO_CACHE = "usuarios";
+    public static final String REGIAO_CACHE_EMAIL = "usuarios-email";
+    public static final String SEQUENCIA_MUDANCA = "usuarios_mudanca_seq";
+    
+    /**
+     * ID por sequence (e não IDENTITY): o Hibernate conhece o ID antes do INSERT,
+     * o que permite agrupar os INSERTs em batch JDBC
+     * 
+     * IDs são entregues em blocos da memória (pooled-lo), ver PooledSequenceIdGenerator
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usuarios_seq")
+    @GenericGenerator(
+            name = "usuarios_seq",
+            type = PooledSequenceIdGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "usuarios_seq")
+    )
     private Long id;
     
     @Column(nullable = false)
     private String nome;
     
+    /**
+     * Natural id mutável: o email pode ser alterado, e o Hibernate atualiza a resolução email → id
+     */
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String email; // String aqui, mas Email (Value Object) no Domain
     
     @Column(nullable = true, length = 11)
     private String cpf; // String aqui, mas CPF (Value Object) no Domain
+    
+    /**
+     * Incrementada a cada UPDATE; o UPDATE leva {@code where versao = ?} e não altera
+     * nenhuma linha se outra transação gravou antes (OptimisticLockException)
+     * 
+     * Default no banco: INSERTs sem ORM (módulo reactive) começam na versão 0
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long versao;
+    
+    /**
+     * Posição da última mudança da linha no delta sync (GET /api/usuarios/delta)
+     * 
+     * Atribuída pelo Hibernate a cada INSERT e UPDATE, da sequence {@value #SEQUENCIA_MUDANCA}
+     * (SequenciaMudancaGenerator, sem pool em memória): vai como parâmetro do próprio statement,
+     * sem perder o batch JDBC
+     */
+    @SequenciaMudanca
+    @Column(name = "seq_mudanca", nullable = false)
+    private Long sequenciaMudanca;
+    
+    public UsuarioEntity(Long id, String nome, String email, String cpf) {
+        this(id, nome, email, cpf, null);
+    }
+    
+    public UsuarioEntity(Long id, String nome, String email, String cpf, Long versao) {
+        this(id, nome, email, cpf, versao, null);
+    }
 }
 
@@ -0,0 +1,102 @@
+package com.example.infrastructure.databases.oracle.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Entidade JPA - Modelo de leitura do usuário (lado Query do CQRS)
+ * 
+ * Cópia desnormalizada de usuarios, mantida pelo UsuarioReadModelAdapter depois
+ * do commit de cada comando. As leituras não disputam locks com as escritas e
+ * a tabela tem os próprios índices, com colunas já calculadas:
+ * - nome_busca: nome minúsculo e sem acentos
+ * - email_dominio: parte do email depois do '@'
+ * - cpf_mascarado: CPF exibível (***.456.789-**)
+ * 
+ * O id e a versao são os mesmos de usuarios (sem sequence própria)
+ */
+@Entity
+@Table(name = "usuarios_read", indexes = {
+        @Index(name = "ix_usuarios_read_email", columnList = "email", unique = true),
+        @Index(name = "ix_usuarios_read_email_dominio", columnList = "email_dominio"),
+        @Index(name = "ix_usuarios_read_nome_busca", columnList = "nome_busca")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioLeituraEntity {
+    
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    
+    @Id
+    private Long id;
+    
+    @Column(nullable = false)
+    private String nome;
+    
+    @Column(name = "nome_busca", nullable = false)
+    private String nomeBusca;
+    
+    @Column(nullable = false)
+    private String email;
+    
+    @Column(name = "email_dominio", nullable = false)
+    private String emailDominio;
+    
+    @Column(nullable = true, length = 11)
+    private String cpf;
+    
+    @Column(name = "cpf_mascarado", nullable = true, length = 14)
+    private String cpfMascarado;
+    
+    /**
+     * Cópia de usuarios.versao (ETag nas leituras), sem controle otimista aqui
+     */
+    @Column(nullable = false)
+    private Long versao;
+    
+    /**
+     * Linha do modelo de leitura a partir da linha de usuarios
+     */
+    public static UsuarioLeituraEntity de(UsuarioEntity usuario) {
+        return new UsuarioLeituraEntity(
+                usuario.getId(),
+                usuario.getNome(),
+                nomeBusca(usuario.getNome()),
+                usuario.getEmail(),
+                dominio(usuario.getEmail()),
+                usuario.getCpf(),
+                mascararCpf(usuario.getCpf()),
+                usuario.getVersao()
+        );
+    }
+    
+    /**
+     * "  José  da Silva " → "jose da silva"
+     */
+    public static String nomeBusca(String nome) {
+        String semAcentos = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(nome, Normalizer.Form.NFD))
+                .replaceAll("");
+        return semAcentos.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+    
+    static String dominio(String email) {
+        return email.substring(email.indexOf('@') + 1).toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * "12345678901" → "***.456.789-**" (só o miolo fica visível)
+     */
+    static String mascararCpf(String cpf) {
+        if (cpf == null || cpf.length() != 11) {
+            return null;
+        }
+        return "***." + cpf.substring(3, 6) + "." + cpf.substring(6, 9) + "-**";
+    }
+}
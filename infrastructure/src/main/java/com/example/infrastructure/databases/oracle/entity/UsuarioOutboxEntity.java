@@ -0,0 +1,53 @@
+package com.example.infrastructure.databases.oracle.entity;
+
+import com.example.infrastructure.databases.oracle.id.PooledSequenceIdGenerator;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import java.time.Instant;
+
+/**
+ * Entidade JPA - Evento de usuário aguardando publicação (transactional outbox)
+ * 
+ * Gravada na mesma transação da escrita em usuarios: o evento existe se, e somente se,
+ * a escrita foi confirmada. O relay lê em ordem de id, publica e apaga a linha.
+ */
+@Entity
+@Table(name = "usuarios_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioOutboxEntity {
+    
+    /**
+     * Crescente na ordem de gravação (dentro de uma instância): ordem de publicação
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usuarios_outbox_seq")
+    @GenericGenerator(
+            name = "usuarios_outbox_seq",
+            type = PooledSequenceIdGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "usuarios_outbox_seq")
+    )
+    private Long id;
+    
+    @Column(nullable = false, length = 50)
+    private String tipo;
+    
+    @Column(name = "usuario_id", nullable = false)
+    private Long usuarioId;
+    
+    /**
+     * Evento serializado em JSON
+     */
+    @Column(nullable = false, length = 4000)
+    private String payload;
+    
+    @Column(name = "criado_em", nullable = false)
+    private Instant criadoEm;
+}
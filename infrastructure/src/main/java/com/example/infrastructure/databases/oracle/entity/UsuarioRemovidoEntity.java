@@ -0,0 +1,53 @@
+package com.example.infrastructure.databases.oracle.entity;
+
+import com.example.infrastructure.databases.oracle.id.SequenciaMudancaGenerator;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import java.time.Instant;
+
+/**
+ * Entidade JPA - Tombstone de usuário removido (delta sync)
+ * 
+ * Gravada na mesma transação do DELETE em usuarios. A chave é a posição da remoção na mesma
+ * sequence de seq_mudanca de UsuarioEntity: criações, alterações e remoções ficam numa ordem só,
+ * e a busca "removidos depois de X" é uma varredura por faixa da chave primária.
+ */
+@Entity
+@Table(name = "usuarios_removidos")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioRemovidoEntity {
+    
+    /**
+     * Uma ida à sequence por posição (INCREMENT BY 1, sem os blocos em memória dos IDs de UsuarioEntity)
+     * 
+     * Este gerador também é o que cria a sequence usuarios_mudanca_seq no schema gerado pelo Hibernate,
+     * e o que atribui o seq_mudanca de UsuarioEntity (SequenciaMudancaGenerator)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = UsuarioEntity.SEQUENCIA_MUDANCA)
+    @GenericGenerator(
+            name = UsuarioEntity.SEQUENCIA_MUDANCA,
+            type = SequenciaMudancaGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = UsuarioEntity.SEQUENCIA_MUDANCA)
+    )
+    @Column(name = "seq_mudanca")
+    private Long sequenciaMudanca;
+    
+    @Column(name = "usuario_id", nullable = false)
+    private Long usuarioId;
+    
+    @Column(name = "removido_em", nullable = false)
+    private Instant removidoEm;
+    
+    public UsuarioRemovidoEntity(Long usuarioId, Instant removidoEm) {
+        this(null, usuarioId, removidoEm);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.infrastructure.databases.oracle.id;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Gerador de IDs por sequence com otimizador em memória (pooled / pooled-lo)
+ *
+ * Cada chamada à sequence reserva um bloco de IDs (allocation size):
+ * os próximos IDs são entregues da memória, sem round-trip ao banco.
+ *
+ * Diferente de @SequenceGenerator (allocationSize fixo em tempo de compilação),
+ * aqui o tamanho do bloco e o otimizador vêm da configuração do Hibernate,
+ * então podem ser ajustados por ambiente (spring.jpa.properties):
+ * - app.id.sequence.allocation-size (padrão 50)
+ * - app.id.sequence.optimizer: pooled-lo (padrão) ou pooled
+ *
+ * ⚠️ O INCREMENT BY da sequence no banco deve ser igual ao allocation size
+ */
+public class PooledSequenceIdGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE_SETTING = "app.id.sequence.allocation-size";
+    public static final String OPTIMIZER_SETTING = "app.id.sequence.optimizer";
+
+    public static final int ALLOCATION_SIZE_PADRAO = 50;
+    public static final String OPTIMIZER_PADRAO = StandardOptimizerDescriptor.POOLED_LO.getExternalName();
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        ConfigurationService configuration = serviceRegistry.requireService(ConfigurationService.class);
+
+        int allocationSize = configuration.getSetting(
+                ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, ALLOCATION_SIZE_PADRAO);
+        String optimizer = configuration.getSetting(
+                OPTIMIZER_SETTING, StandardConverters.STRING, OPTIMIZER_PADRAO);
+
+        if (allocationSize < 1) {
+            throw new MappingException(ALLOCATION_SIZE_SETTING + " deve ser maior que zero: " + allocationSize);
+        }
+
+        parameters.put(OptimizableGenerator.INCREMENT_PARAM, String.valueOf(allocationSize));
+        parameters.put(OptimizableGenerator.OPT_PARAM, allocationSize > 1 ? optimizer : StandardOptimizerDescriptor.NONE.getExternalName());
+
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.infrastructure.databases.oracle.id;
+
+import org.hibernate.annotations.ValueGenerationType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Posição do delta sync atribuída pelo Hibernate a cada INSERT e UPDATE (SequenciaMudancaValueGenerator)
+ */
+@ValueGenerationType(generatedBy = SequenciaMudancaValueGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SequenciaMudanca {
+}
@@ -0,0 +1,103 @@
+package com.example.infrastructure.databases.oracle.id;
+
+import com.example.infrastructure.databases.oracle.entity.UsuarioRemovidoEntity;
+import org.hibernate.MappingException;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Gerador das posições do delta sync (sequence usuarios_mudanca_seq)
+ *
+ * Uma instância por SessionFactory, a do ID de UsuarioRemovidoEntity: os tombstones recebem a posição como chave,
+ * e o seq_mudanca de UsuarioEntity (INSERT e UPDATE, ver SequenciaMudancaValueGenerator) vem desta mesma instância.
+ * O SQL da sequence é o do dialeto; dentro da JVM as posições são entregues em ordem crescente.
+ *
+ * Sem pool em memória (INCREMENT BY 1, uma ida à sequence por posição), ao contrário dos IDs: com blocos por JVM,
+ * uma instância escreveria posições acima das de outra, o token dos clientes passaria delas e as mudanças da outra
+ * instância nunca seriam entregues.
+ *
+ * A posição é atribuída na escrita, não no commit: para o delta não pular uma transação ainda aberta,
+ * cada transação fica registrada com a sua menor posição até terminar (commit ou rollback),
+ * e {@link #limiteVisivel(SharedSessionContractImplementor)} nunca passa da mais antiga delas.
+ *
+ * ⚠️ O registro é por instância da aplicação: escritas de outra instância não seguram o limite desta.
+ * O delta sync só é confiável com uma instância escrevendo (ver README)
+ */
+public class SequenciaMudancaGenerator extends SequenceStyleGenerator {
+
+    /**
+     * Menor posição de cada sessão com transação aberta
+     */
+    private final Map<SharedSessionContractImplementor, Long> emAndamento = new IdentityHashMap<>();
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        parameters.put(OptimizableGenerator.INCREMENT_PARAM, "1");
+        parameters.put(OptimizableGenerator.OPT_PARAM, StandardOptimizerDescriptor.NONE.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    /**
+     * Instância da SessionFactory (a mesma usada pelos tombstones)
+     */
+    public static SequenciaMudancaGenerator de(SessionFactory sessionFactory) {
+        return (SequenciaMudancaGenerator) sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(UsuarioRemovidoEntity.class)
+                .getGenerator();
+    }
+
+    @Override
+    public synchronized Object generate(SharedSessionContractImplementor session, Object object) {
+        Object posicao = super.generate(session, object);
+        registrar(session, (Long) posicao);
+        return posicao;
+    }
+
+    /**
+     * Próxima posição, para o seq_mudanca de uma linha de usuarios
+     */
+    public long proxima(SharedSessionContractImplementor session) {
+        return (Long) generate(session, null);
+    }
+
+    /**
+     * Primeira posição que ainda pode aparecer: todas as menores já foram confirmadas ou descartadas
+     *
+     * O marco é uma posição nova (toda posição entregue depois dele é maior), limitado pela menor posição
+     * das transações ainda abertas. Uma leitura iniciada depois desta chamada vê tudo o que está abaixo do limite.
+     */
+    public synchronized long limiteVisivel(SharedSessionContractImplementor session) {
+        long limite = (Long) super.generate(session, null);
+        for (Long posicao : emAndamento.values()) {
+            limite = Math.min(limite, posicao);
+        }
+        return limite;
+    }
+
+    /**
+     * Só a primeira posição de cada transação: as seguintes são maiores
+     */
+    private void registrar(SharedSessionContractImplementor session, long posicao) {
+        if (!(session instanceof SessionImplementor sessao) || !sessao.isTransactionInProgress()
+                || emAndamento.putIfAbsent(sessao, posicao) != null) {
+            return;
+        }
+        sessao.getActionQueue().registerProcess((sucesso, s) -> liberar(sessao));
+    }
+
+    private synchronized void liberar(SharedSessionContractImplementor session) {
+        emAndamento.remove(session);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.infrastructure.databases.oracle.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * Valor de seq_mudanca de UsuarioEntity: uma posição nova a cada INSERT e a cada UPDATE
+ *
+ * Gerado antes do statement e enviado como parâmetro (sem releitura depois, sem perder o batch JDBC),
+ * vindo do SequenciaMudancaGenerator da SessionFactory
+ */
+public class SequenciaMudancaValueGenerator implements BeforeExecutionGenerator {
+
+    private volatile SequenciaMudancaGenerator sequencia;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        SequenciaMudancaGenerator gerador = sequencia;
+        if (gerador == null) {
+            gerador = SequenciaMudancaGenerator.de(session.getFactory());
+            sequencia = gerador;
+        }
+        return gerador.proxima(session);
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_AND_UPDATE;
+    }
+}
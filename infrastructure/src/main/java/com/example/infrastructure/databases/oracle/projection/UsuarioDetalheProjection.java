@@ -0,0 +1,16 @@
+package com.example.infrastructure.databases.oracle.projection;
+
+/**
+ * Projeção de leitura - Detalhe do Usuário (buscas por id/email)
+ *
+ * Preenchida por constructor expression no JPQL ({@code select new ...}),
+ * sem hidratar UsuarioEntity
+ *
+ * versao: só nas buscas por id/email (ETag); null na exportação e na remoção em lote
+ */
+public record UsuarioDetalheProjection(Long id, String nome, String email, String cpf, Long versao) {
+
+    public UsuarioDetalheProjection(Long id, String nome, String email, String cpf) {
+        this(id, nome, email, cpf, null);
+    }
+}
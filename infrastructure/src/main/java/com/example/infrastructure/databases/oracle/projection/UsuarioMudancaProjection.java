@@ -0,0 +1,7 @@
+package com.example.infrastructure.databases.oracle.projection;
+
+/**
+ * Projeção de leitura - usuário criado ou alterado no delta sync, com a posição da mudança
+ */
+public record UsuarioMudancaProjection(Long id, String nome, String email, Long versao, Long sequenciaMudanca) {
+}
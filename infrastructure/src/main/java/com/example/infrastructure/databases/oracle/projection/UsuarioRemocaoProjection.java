@@ -0,0 +1,7 @@
+package com.example.infrastructure.databases.oracle.projection;
+
+/**
+ * Projeção de leitura - tombstone de usuário removido no delta sync, com a posição da remoção
+ */
+public record UsuarioRemocaoProjection(Long usuarioId, Long sequenciaMudanca) {
+}
@@ -0,0 +1,17 @@
+package com.example.infrastructure.databases.oracle.projection;
+
+/**
+ * Projeção de leitura - Resumo do Usuário (listagens)
+ *
+ * Preenchida por constructor expression no JPQL ({@code select new ...}):
+ * - SELECT traz apenas as colunas necessárias (sem cpf)
+ * - Não é entidade gerenciada: sem persistence context, sem snapshot de dirty-check
+ *
+ * versao: compõe o ETag da página
+ */
+public record UsuarioResumoProjection(Long id, String nome, String email, Long versao) {
+
+    public UsuarioResumoProjection(Long id, String nome, String email) {
+        this(id, nome, email, null);
+    }
+}
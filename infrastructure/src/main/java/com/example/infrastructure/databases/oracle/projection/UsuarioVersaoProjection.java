@@ -0,0 +1,9 @@
+package com.example.infrastructure.databases.oracle.projection;
+
+/**
+ * Projeção de leitura - só id e versão (GET condicional da listagem)
+ *
+ * Suficiente para calcular o ETag de uma página sem trazer nome e email
+ */
+public record UsuarioVersaoProjection(Long id, Long versao) {
+}
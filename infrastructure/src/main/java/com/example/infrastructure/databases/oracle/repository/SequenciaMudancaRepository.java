@@ -0,0 +1,15 @@
+package com.example.infrastructure.databases.oracle.repository;
+
+/**
+ * Limite de leitura do delta sync (fragmento de UsuarioRemovidoJpaRepository)
+ */
+public interface SequenciaMudancaRepository {
+
+    /**
+     * Primeira posição que ainda pode ser de uma transação aberta: todas as menores já foram
+     * confirmadas ou descartadas, e uma leitura iniciada depois desta chamada vê todas elas
+     *
+     * ⚠️ Só considera as transações desta instância da aplicação
+     */
+    long limiteVisivel();
+}
@@ -0,0 +1,21 @@
+package com.example.infrastructure.databases.oracle.repository;
+
+import com.example.infrastructure.databases.oracle.id.SequenciaMudancaGenerator;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Consulta o SequenciaMudancaGenerator da SessionFactory, pela sessão da transação corrente
+ */
+@RequiredArgsConstructor
+public class SequenciaMudancaRepositoryImpl implements SequenciaMudancaRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public long limiteVisivel() {
+        SharedSessionContractImplementor sessao = entityManager.unwrap(SharedSessionContractImplementor.class);
+        return SequenciaMudancaGenerator.de(sessao.getFactory()).limiteVisivel(sessao);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.infrastructure.databases.oracle.repository;
+
+/**
+ * Invalidação pontual do cache de segundo nível (fragmento de UsuarioJpaRepository)
+ */
+public interface UsuarioCacheRepository {
+
+    /**
+     * Chamado antes do DELETE de um usuário (UsuarioJpaRepository.deletarPorId), na mesma transação:
+     * tira do cache só a entrada do id e a do seu email e invalida o cache de consultas sobre usuarios
+     *
+     * Sem efeito com o cache de segundo nível desligado
+     */
+    void invalidarRemocao(Long id);
+}
@@ -0,0 +1,67 @@
+package com.example.infrastructure.databases.oracle.repository;
+
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.Arrays;
+
+/**
+ * Faz, para um único usuário, o que o Hibernate faz ao remover uma entidade (EntityDeleteAction):
+ * - trava a entrada do id na região usuarios até o fim da transação (leituras concorrentes não a repõem)
+ * - despeja o email → id da região usuarios-email, com o email lido da própria entrada em cache
+ * - invalida as consultas em cache sobre a tabela usuarios (timestamps), como um DELETE em JPQL
+ *
+ * Sem a entrada do id em cache o email não é conhecido: a região usuarios-email é despejada inteira
+ */
+@RequiredArgsConstructor
+public class UsuarioCacheRepositoryImpl implements UsuarioCacheRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void invalidarRemocao(Long id) {
+        SessionImplementor sessao = entityManager.unwrap(SessionImplementor.class);
+        SessionFactoryImplementor fabrica = sessao.getFactory();
+        if (!fabrica.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return;
+        }
+        EntityPersister persister = fabrica.getMappingMetamodel().getEntityDescriptor(UsuarioEntity.class);
+
+        EntityDataAccess porId = persister.getCacheAccessStrategy();
+        Object chave = porId.generateCacheKey(id, persister, fabrica, sessao.getTenantIdentifier());
+        String email = emailEmCache(porId.get(sessao, chave), persister);
+        SoftLock trava = porId.lockItem(sessao, chave, null);
+
+        NaturalIdDataAccess porEmail = persister.getNaturalIdCacheAccessStrategy();
+        if (email != null) {
+            porEmail.evict(porEmail.generateCacheKey(email, persister, sessao));
+        } else {
+            porEmail.evictAll();
+        }
+
+        String[] tabelas = Arrays.stream(persister.getQuerySpaces()).map(String::valueOf).toArray(String[]::new);
+        TimestampsCache timestamps = fabrica.getCache().getTimestampsCache();
+        timestamps.preInvalidate(tabelas, sessao);
+
+        sessao.getActionQueue().registerProcess((sucesso, sessaoFinal) -> {
+            porId.unlockItem(sessaoFinal, chave, trava);
+            timestamps.invalidate(tabelas, sessaoFinal);
+        });
+    }
+
+    private static String emailEmCache(Object entrada, EntityPersister persister) {
+        if (entrada instanceof CacheEntry cacheEntry) {
+            return (String) cacheEntry.getDisassembledState()[persister.getPropertyIndex("email")];
+        }
+        return null;
+    }
+}
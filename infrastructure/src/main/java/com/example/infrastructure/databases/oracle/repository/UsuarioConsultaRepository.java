@@ -0,0 +1,48 @@
+package com.example.infrastructure.databases.oracle.repository;
+
+import com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioResumoProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioVersaoProjection;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Consultas do lado Query do CQRS, com projeções
+ *
+ * Implementada por dois repositórios Spring Data, cada um com o seu @Query:
+ * - UsuarioJpaRepository: tabela usuarios (a mesma das escritas)
+ * - UsuarioLeituraJpaRepository: modelo de leitura usuarios_read (opcional)
+ */
+public interface UsuarioConsultaRepository {
+
+    /**
+     * Paginação por cursor (keyset): {@code WHERE id > ? ORDER BY id LIMIT ?}
+     */
+    List<UsuarioResumoProjection> findResumosAfter(Long after, Limit limit);
+
+    Optional<UsuarioDetalheProjection> findDetalheById(Long id);
+
+    Optional<UsuarioDetalheProjection> findDetalheByEmail(String email);
+
+    /**
+     * Versão do usuário, sem as demais colunas (GET condicional por id)
+     */
+    Optional<Long> findVersaoById(Long id);
+
+    /**
+     * Mesmas linhas de findResumosAfter, só com id e versão (GET condicional da listagem)
+     */
+    List<UsuarioVersaoProjection> findVersoesAfter(Long after, Limit limit);
+
+    /**
+     * Todos os usuários como cursor forward-only, ordenado por id
+     *
+     * ⚠️ Deve ser consumido dentro de uma transação e fechado ao final (try-with-resources)
+     */
+    Stream<UsuarioDetalheProjection> streamDetalhes();
+
+    long count();
+}
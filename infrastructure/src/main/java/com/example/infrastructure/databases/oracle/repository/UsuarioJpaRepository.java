@@ -1,16 +1,173 @@
 package com.example.infrastructure.databases.oracle.repository;
 
 import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioMudancaProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioResumoProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioVersaoProjection;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositório JPA do Spring Data
  */
 @Repository
-public interface UsuarioJpaRepository extends JpaRepository<UsuarioEntity, Long> {
+public interface UsuarioJpaRepository extends JpaRepository<UsuarioEntity, Long>, UsuarioConsultaRepository,
+        UsuarioCacheRepository {
+
+    /**
+     * Quantidade de linhas trazidas do banco a cada round-trip do cursor JDBC em streams
+     */
+    String FETCH_SIZE_STREAM = "500";
+
     Optional<UsuarioEntity> findByEmail(String email);
-}
 
+    /**
+     * Quais dos emails informados já existem (verificação de unicidade em lote)
+     * ⚠️ Oracle limita o IN a 1000 expressões: quem chama deve particionar a coleção
+     */
+    @Query("select u.email from UsuarioEntity u where u.email in :emails")
+    List<String> findEmailsExistentes(@Param("emails") Collection<String> emails);
+
+    /**
+     * {@code DELETE FROM usuarios WHERE id = ?} sem carregar a entidade (deleteById faz SELECT + DELETE)
+     *
+     * SQL nativo com query space só de usuarios_removidos (o tombstone gravado na mesma transação): com o cache
+     * de segundo nível ativo o Hibernate não invalida as regiões de UsuarioEntity inteiras, como faria com um
+     * DELETE em JPQL. Quem chama invalida antes só este usuário ({@link #invalidarRemocao(Long)})
+     *
+     * @return linhas removidas (0 se o id não existia)
+     */
+    @Modifying
+    @Query(value = "delete from usuarios where id = :id", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "usuarios_removidos"))
+    int deletarPorId(@Param("id") Long id);
+
+    /**
+     * Remoção em lote: um DELETE para todos os ids
+     * ⚠️ Oracle limita o IN a 1000 expressões: quem chama deve particionar a coleção
+     */
+    @Modifying
+    @Query("delete from UsuarioEntity u where u.id in :ids")
+    int deletarPorIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Quais dos ids existem, com as linhas travadas ({@code FOR UPDATE}) até o fim da transação:
+     * uma remoção concorrente dos mesmos ids espera, e cada usuário é removido (e notificado) uma vez só
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection(u.id, u.nome, u.email, u.cpf) "
+            + "from UsuarioEntity u where u.id in :ids")
+    List<UsuarioDetalheProjection> findDetalhesParaRemocao(@Param("ids") Collection<Long> ids);
+
+    // Queries de leitura com projeção (lado Query do CQRS)
+    // Não criam entidades gerenciadas: ideais para o UsuarioQueryService
+
+    /**
+     * Paginação por cursor (keyset): {@code WHERE id > ? ORDER BY id LIMIT ?}
+     *
+     * Usa o índice da chave primária, então o custo de cada página é constante
+     * independente da posição na tabela (diferente de OFFSET, que percorre as linhas anteriores)
+     */
+    @Override
+    @Query("select new com.example.infrastructure.databases.oracle.projection.UsuarioResumoProjection(u.id, u.nome, u.email, u.versao) "
+            + "from UsuarioEntity u where u.id > :after order by u.id")
+    List<UsuarioResumoProjection> findResumosAfter(@Param("after") Long after, Limit limit);
+
+    /**
+     * Cacheável: com o cache de consultas do Hibernate ativo, o resultado é reaproveitado
+     * até a próxima escrita na tabela usuarios
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection(u.id, u.nome, u.email, u.cpf, u.versao) "
+            + "from UsuarioEntity u where u.id = :id")
+    Optional<UsuarioDetalheProjection> findDetalheById(@Param("id") Long id);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection(u.id, u.nome, u.email, u.cpf, u.versao) "
+            + "from UsuarioEntity u where u.email = :email")
+    Optional<UsuarioDetalheProjection> findDetalheByEmail(@Param("email") String email);
+
+    /**
+     * Só a versão (GET condicional): nenhuma coluna além da chave e de versao
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select u.versao from UsuarioEntity u where u.id = :id")
+    Optional<Long> findVersaoById(@Param("id") Long id);
+
+    @Override
+    @Query("select new com.example.infrastructure.databases.oracle.projection.UsuarioVersaoProjection(u.id, u.versao) "
+            + "from UsuarioEntity u where u.id > :after order by u.id")
+    List<UsuarioVersaoProjection> findVersoesAfter(@Param("after") Long after, Limit limit);
+
+    /**
+     * Delta sync: usuários criados ou alterados entre as posições informadas (exclusive), em ordem de mudança
+     * 
+     * Varredura por faixa do índice de seq_mudanca: o custo depende de quantas linhas mudaram, não do tamanho da tabela
+     */
+    @Query("select new com.example.infrastructure.databases.oracle.projection.UsuarioMudancaProjection(u.id, u.nome, u.email, u.versao, u.sequenciaMudanca) "
+            + "from UsuarioEntity u where u.sequenciaMudanca > :depoisDe and u.sequenciaMudanca < :antesDe "
+            + "order by u.sequenciaMudanca")
+    List<UsuarioMudancaProjection> findMudancasBetween(@Param("depoisDe") Long depoisDe, @Param("antesDe") Long antesDe,
+                                                       Limit limit);
+
+    /**
+     * Percorre a tabela inteira como cursor forward-only, ordenado por id
+     *
+     * - fetch size: o driver busca as linhas em blocos, sem carregar o ResultSet inteiro
+     * - read only: Hibernate não guarda snapshot para dirty-check
+     *
+     * ⚠️ Deve ser consumido dentro de uma transação e fechado ao final (try-with-resources).
+     * Quem consome é responsável por limpar o persistence context periodicamente.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE_STREAM),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select u from UsuarioEntity u order by u.id")
+    Stream<UsuarioEntity> streamAll();
+
+    /**
+     * Mesmo cursor de streamAll, mas com projeção: sem entidades no persistence context
+     * (exportação do UsuarioQueryService)
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE_STREAM),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select new com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection(u.id, u.nome, u.email, u.cpf) "
+            + "from UsuarioEntity u order by u.id")
+    Stream<UsuarioDetalheProjection> streamDetalhes();
+
+    /**
+     * Todos os emails cadastrados como cursor forward-only (aquecimento do Bloom filter)
+     *
+     * ⚠️ Deve ser consumido dentro de uma transação e fechado ao final (try-with-resources)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE_STREAM),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select u.email from UsuarioEntity u")
+    Stream<String> streamEmails();
+}
@@ -0,0 +1,73 @@
+package com.example.infrastructure.databases.oracle.repository;
+
+import com.example.infrastructure.databases.oracle.entity.UsuarioLeituraEntity;
+import com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioResumoProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioVersaoProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repositório JPA do Spring Data - Modelo de leitura (usuarios_read)
+ * 
+ * Mesmas consultas do UsuarioJpaRepository, sobre a tabela desnormalizada
+ */
+@Repository
+public interface UsuarioLeituraJpaRepository extends JpaRepository<UsuarioLeituraEntity, Long>, UsuarioConsultaRepository {
+
+    /**
+     * Apaga as linhas dos ids projetados e as que ainda ocupam um dos emails deles
+     *
+     * Uma linha com o email de outro id está desatualizada (em usuarios o email é único):
+     * é o usuário removido ou que trocou de email cuja projeção ainda não rodou
+     * ⚠️ Oracle limita o IN a 1000 expressões: quem chama deve particionar a coleção
+     */
+    @Modifying
+    @Query("delete from UsuarioLeituraEntity u where u.id in :ids or u.email in :emails")
+    int deletarProjecoes(@Param("ids") Collection<Long> ids, @Param("emails") Collection<String> emails);
+
+    @Override
+    @Query("select new com.example.infrastructure.databases.oracle.projection.UsuarioResumoProjection(u.id, u.nome, u.email, u.versao) "
+            + "from UsuarioLeituraEntity u where u.id > :after order by u.id")
+    List<UsuarioResumoProjection> findResumosAfter(@Param("after") Long after, Limit limit);
+
+    @Override
+    @Query("select new com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection(u.id, u.nome, u.email, u.cpf, u.versao) "
+            + "from UsuarioLeituraEntity u where u.id = :id")
+    Optional<UsuarioDetalheProjection> findDetalheById(@Param("id") Long id);
+
+    @Override
+    @Query("select new com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection(u.id, u.nome, u.email, u.cpf, u.versao) "
+            + "from UsuarioLeituraEntity u where u.email = :email")
+    Optional<UsuarioDetalheProjection> findDetalheByEmail(@Param("email") String email);
+
+    @Override
+    @Query("select u.versao from UsuarioLeituraEntity u where u.id = :id")
+    Optional<Long> findVersaoById(@Param("id") Long id);
+
+    @Override
+    @Query("select new com.example.infrastructure.databases.oracle.projection.UsuarioVersaoProjection(u.id, u.versao) "
+            + "from UsuarioLeituraEntity u where u.id > :after order by u.id")
+    List<UsuarioVersaoProjection> findVersoesAfter(@Param("after") Long after, Limit limit);
+
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = UsuarioJpaRepository.FETCH_SIZE_STREAM),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select new com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection(u.id, u.nome, u.email, u.cpf) "
+            + "from UsuarioLeituraEntity u order by u.id")
+    Stream<UsuarioDetalheProjection> streamDetalhes();
+}
@@ -0,0 +1,39 @@
+package com.example.infrastructure.databases.oracle.repository;
+
+import com.example.infrastructure.databases.oracle.entity.UsuarioOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório JPA do outbox de eventos de usuário
+ */
+@Repository
+public interface UsuarioOutboxJpaRepository extends JpaRepository<UsuarioOutboxEntity, Long> {
+    
+    /**
+     * Reivindica o próximo lote de eventos: {@code SELECT ... ORDER BY id FOR UPDATE SKIP LOCKED}
+     * 
+     * Linhas já travadas por outra instância do relay são puladas (e não esperadas):
+     * várias instâncias drenam o outbox em paralelo sem publicar o mesmo evento duas vezes.
+     * O lock dura até o fim da transação de quem chamou.
+     * 
+     * SQL nativo: o H2Dialect do Hibernate não gera SKIP LOCKED a partir de
+     * {@code @Lock} + lock timeout, embora o H2 (2.2+) e o PostgreSQL aceitem.
+     * Oracle não aceita FETCH FIRST com FOR UPDATE: lá, {@code WHERE ROWNUM <= :limite}.
+     */
+    @Query(value = "select * from usuarios_outbox order by id fetch first :limite rows only for update skip locked",
+            nativeQuery = true)
+    List<UsuarioOutboxEntity> reivindicarLote(@Param("limite") int limite);
+    
+    /**
+     * Momento do evento mais antigo ainda não publicado (atraso do relay)
+     */
+    @Query("select min(e.criadoEm) from UsuarioOutboxEntity e")
+    Optional<Instant> findCriadoEmMaisAntigo();
+}
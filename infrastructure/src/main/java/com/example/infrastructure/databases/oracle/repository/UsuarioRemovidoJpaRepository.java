@@ -0,0 +1,29 @@
+package com.example.infrastructure.databases.oracle.repository;
+
+import com.example.infrastructure.databases.oracle.entity.UsuarioRemovidoEntity;
+import com.example.infrastructure.databases.oracle.projection.UsuarioRemocaoProjection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositório JPA dos tombstones de usuários removidos (delta sync)
+ *
+ * Gravados com save/saveAll (posição do SequenciaMudancaGenerator, INSERTs em batch JDBC)
+ */
+@Repository
+public interface UsuarioRemovidoJpaRepository extends JpaRepository<UsuarioRemovidoEntity, Long>, SequenciaMudancaRepository {
+
+    /**
+     * Remoções entre as posições informadas (exclusive), em ordem (varredura por faixa da chave primária)
+     */
+    @Query("select new com.example.infrastructure.databases.oracle.projection.UsuarioRemocaoProjection(r.usuarioId, r.sequenciaMudanca) "
+            + "from UsuarioRemovidoEntity r where r.sequenciaMudanca > :depoisDe and r.sequenciaMudanca < :antesDe "
+            + "order by r.sequenciaMudanca")
+    List<UsuarioRemocaoProjection> findRemocoesBetween(@Param("depoisDe") Long depoisDe, @Param("antesDe") Long antesDe,
+                                                       Limit limit);
+}
@@ -0,0 +1,48 @@
+package com.example.infrastructure.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Publicador em arquivo - acrescenta cada evento como uma linha NDJSON
+ * 
+ * {"id":..,"tipo":"usuario.criado","usuarioId":..,"criadoEm":"..","payload":{..}}
+ * 
+ * Stand-in de um broker para ambientes sem mensageria (app.usuarios.outbox.publisher=arquivo)
+ */
+@Component
+@ConditionalOnProperty(name = "app.usuarios.outbox.publisher", havingValue = "arquivo")
+@Slf4j
+public class ArquivoPublicadorEventos implements PublicadorEventos {
+    
+    private final Path arquivo;
+    
+    public ArquivoPublicadorEventos(@Value("${app.usuarios.outbox.arquivo.path}") Path arquivo) throws IOException {
+        this.arquivo = arquivo;
+        if (arquivo.getParent() != null) {
+            Files.createDirectories(arquivo.getParent());
+        }
+        log.info("Eventos de usuário publicados em {}", arquivo.toAbsolutePath());
+    }
+    
+    @Override
+    public synchronized void publicar(EventoPublicavel evento) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write("{\"id\":" + evento.id()
+                    + ",\"tipo\":\"" + evento.tipo()
+                    + "\",\"usuarioId\":" + evento.usuarioId()
+                    + ",\"criadoEm\":\"" + evento.criadoEm()
+                    + "\",\"payload\":" + evento.payload() + "}\n");
+        }
+    }
+}
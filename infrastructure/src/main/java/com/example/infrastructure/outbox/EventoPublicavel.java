@@ -0,0 +1,13 @@
+package com.example.infrastructure.outbox;
+
+import java.time.Instant;
+
+/**
+ * Evento lido do outbox, como é entregue ao PublicadorEventos
+ * 
+ * @param id identificador do evento no outbox (chave de deduplicação para o consumidor:
+ *           a entrega é at-least-once)
+ * @param payload evento serializado em JSON
+ */
+public record EventoPublicavel(Long id, String tipo, Long usuarioId, String payload, Instant criadoEm) {
+}
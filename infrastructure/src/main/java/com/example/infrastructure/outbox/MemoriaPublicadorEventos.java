@@ -0,0 +1,45 @@
+package com.example.infrastructure.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Publicador em memória - guarda os últimos eventos publicados (testes e desenvolvimento)
+ * 
+ * Limitado a app.usuarios.outbox.memoria.capacidade eventos: os mais antigos são descartados
+ */
+@Component
+@ConditionalOnProperty(name = "app.usuarios.outbox.publisher", havingValue = "memoria", matchIfMissing = true)
+public class MemoriaPublicadorEventos implements PublicadorEventos {
+    
+    private final int capacidade;
+    private final Deque<EventoPublicavel> eventos = new ArrayDeque<>();
+    
+    public MemoriaPublicadorEventos(@Value("${app.usuarios.outbox.memoria.capacidade:10000}") int capacidade) {
+        this.capacidade = capacidade;
+    }
+    
+    @Override
+    public synchronized void publicar(EventoPublicavel evento) {
+        if (eventos.size() == capacidade) {
+            eventos.removeFirst();
+        }
+        eventos.addLast(evento);
+    }
+    
+    /**
+     * Eventos publicados, do mais antigo para o mais recente
+     */
+    public synchronized List<EventoPublicavel> publicados() {
+        return List.copyOf(eventos);
+    }
+    
+    public synchronized void limpar() {
+        eventos.clear();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.infrastructure.outbox;
+
+/**
+ * Destino dos eventos do outbox (broker, webhook, arquivo...)
+ * 
+ * Ponto de extensão: basta um bean desta interface para trocar o destino.
+ * Padrão (app.usuarios.outbox.publisher): memoria; alternativa: arquivo.
+ * 
+ * Chamado pelo relay dentro da transação que reivindicou o lote:
+ * se publicar lançar exceção, o evento (e os seguintes do lote) continuam no outbox
+ */
+public interface PublicadorEventos {
+    
+    void publicar(EventoPublicavel evento) throws Exception;
+}
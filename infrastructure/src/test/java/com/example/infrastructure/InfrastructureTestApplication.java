@@ -0,0 +1,13 @@
+package com.example.infrastructure;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Configuração mínima para testes de slice (@DataJpaTest) do módulo Infrastructure
+ *
+ * O módulo não tem classe principal (ela fica no Application),
+ * então os testes precisam de uma @SpringBootConfiguration própria
+ */
+@SpringBootApplication
+public class InfrastructureTestApplication {
+}
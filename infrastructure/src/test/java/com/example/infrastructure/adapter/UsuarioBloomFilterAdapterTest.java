@@ -0,0 +1,119 @@
+package com.example.infrastructure.adapter;
+
+import com.example.domain.exception.EmailJaCadastradoException;
+import com.example.domain.model.Usuario;
+import com.example.domain.ports.out.UsuarioOutboundPort;
+import com.example.infrastructure.bloom.EmailBloomFilter;
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do decorator com Bloom filter de emails contra H2 real
+ */
+@DataJpaTest(properties = {
+        "app.usuarios.email-bloom-filter.enabled=true",
+        "app.usuarios.email-bloom-filter.expected-insertions=1000"
+})
+@Import({UsuarioRepositoryAdapter.class, UsuarioBloomFilterAdapter.class})
+class UsuarioBloomFilterAdapterTest {
+
+    // O filtro vive no contexto Spring compartilhado e não volta com o rollback:
+    // cada teste usa emails próprios para o que não deve estar no filtro
+    @Autowired
+    private UsuarioOutboundPort usuarioOutboundPort;
+
+    @SpyBean
+    private UsuarioRepositoryAdapter delegate;
+
+    @Autowired
+    private UsuarioJpaRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.save(new UsuarioEntity(null, "Existente", "existente@test.com", null));
+        // Dados inseridos depois da inicialização do contexto: aquece de novo
+        ((UsuarioBloomFilterAdapter) usuarioOutboundPort).aquecer();
+    }
+
+    @Test
+    @DisplayName("Decorator é a porta de saída injetada quando habilitado")
+    void deveSerAPortaDeSaidaPrimaria() {
+        assertInstanceOf(UsuarioBloomFilterAdapter.class, usuarioOutboundPort);
+    }
+
+    @Test
+    @DisplayName("Email com certeza inexistente não vai ao banco")
+    void naoDeveConsultarBancoParaEmailNovo() {
+        assertTrue(usuarioOutboundPort.buscarPorEmail("inexistente@test.com").isEmpty());
+
+        verify(delegate, never()).buscarPorEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("Email aquecido do banco ou salvo depois é consultado no banco")
+    void deveConsultarBancoParaEmailPossivel() {
+        assertTrue(usuarioOutboundPort.buscarPorEmail("existente@test.com").isPresent());
+
+        usuarioOutboundPort.salvar(Usuario.criar("Novo", "novo@test.com"));
+        assertTrue(usuarioOutboundPort.buscarPorEmail("novo@test.com").isPresent());
+
+        verify(delegate, times(2)).buscarPorEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("Lote: só emails possivelmente existentes vão ao banco")
+    void deveFiltrarEmailsDoLote() {
+        assertEquals(Set.of("existente@test.com"),
+                usuarioOutboundPort.buscarEmailsExistentes(List.of("existente@test.com", "inexistente-lote@test.com")));
+        verify(delegate).buscarEmailsExistentes(List.of("existente@test.com"));
+
+        clearInvocations(delegate);
+        assertTrue(usuarioOutboundPort.buscarEmailsExistentes(List.of("novo1@test.com", "novo2@test.com")).isEmpty());
+        verify(delegate, never()).buscarEmailsExistentes(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Restrição única do banco continua valendo (email fora do filtro)")
+    void deveTraduzirViolacaoDeUnicidade() {
+        // Simula escrita de outra instância: está no banco, mas não no filtro
+        repository.saveAndFlush(new UsuarioEntity(null, "Outra instância", "outra@test.com", null));
+        assertTrue(usuarioOutboundPort.buscarPorEmail("outra@test.com").isEmpty());
+
+        EmailJaCadastradoException ex = assertThrows(EmailJaCadastradoException.class,
+                () -> usuarioOutboundPort.salvar(Usuario.criar("Duplicado", "outra@test.com")));
+        assertEquals("Já existe um usuário com o email: outra@test.com", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Bloom filter: sem falso negativo e falso positivo perto da taxa configurada")
+    void deveRespeitarTaxaDeFalsoPositivo() {
+        EmailBloomFilter filtro = EmailBloomFilter.criar(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filtro.put("usuario" + i + "@test.com");
+        }
+
+        int falsosPositivos = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filtro.mightContain("usuario" + i + "@test.com"));
+            if (filtro.mightContain("outro" + i + "@test.com")) {
+                falsosPositivos++;
+            }
+        }
+        assertTrue(falsosPositivos < 200, "falsos positivos: " + falsosPositivos);
+    }
+}
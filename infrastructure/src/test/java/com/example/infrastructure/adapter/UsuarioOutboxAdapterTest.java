@@ -0,0 +1,134 @@
+package com.example.infrastructure.adapter;
+
+import com.example.domain.event.UsuarioCriadoEvento;
+import com.example.domain.event.UsuarioRemovidoEvento;
+import com.example.infrastructure.databases.oracle.entity.UsuarioOutboxEntity;
+import com.example.infrastructure.databases.oracle.repository.UsuarioOutboxJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do outbox de eventos de usuário contra H2 real
+ */
+@DataJpaTest
+@Import(UsuarioOutboxAdapter.class)
+class UsuarioOutboxAdapterTest {
+
+    @Autowired
+    private UsuarioOutboxAdapter adapter;
+
+    @Autowired
+    private UsuarioOutboxJpaRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Evento gravado no outbox com tipo, usuário e payload JSON")
+    void deveGravarEventoNoOutbox() {
+        Instant ocorridoEm = Instant.parse("2024-01-02T03:04:05Z");
+        adapter.registrar(new UsuarioCriadoEvento(1L, "João", "joao@test.com", ocorridoEm));
+
+        List<UsuarioOutboxEntity> eventos = repository.findAll();
+        assertEquals(1, eventos.size());
+        UsuarioOutboxEntity evento = eventos.get(0);
+        assertEquals(UsuarioCriadoEvento.TIPO, evento.getTipo());
+        assertEquals(1L, evento.getUsuarioId());
+        assertEquals(ocorridoEm, evento.getCriadoEm());
+        assertEquals("{\"usuarioId\":1,\"nome\":\"João\",\"email\":\"joao@test.com\",\"ocorridoEm\":\"2024-01-02T03:04:05Z\"}",
+                evento.getPayload());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Fora de uma transação o evento não é gravado (MANDATORY)")
+    void deveExigirTransacao() {
+        assertThrows(IllegalTransactionStateException.class,
+                () -> adapter.registrar(new UsuarioRemovidoEvento(1L, "joao@test.com", Instant.now())));
+        assertEquals(0, repository.count());
+    }
+
+    @Nested
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Reivindicação de lotes (FOR UPDATE SKIP LOCKED)")
+    class Reivindicacao {
+
+        @AfterEach
+        void limpar() {
+            repository.deleteAllInBatch();
+        }
+
+        @Test
+        @DisplayName("Duas transações concorrentes recebem lotes disjuntos, em ordem de id")
+        void devePularLinhasTravadasPorOutraTransacao() throws Exception {
+            TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+            transacao.executeWithoutResult(status -> {
+                for (long i = 1; i <= 6; i++) {
+                    adapter.registrar(new UsuarioCriadoEvento(i, "Usuário " + i, "u" + i + "@test.com", Instant.now()));
+                }
+            });
+
+            CountDownLatch primeiraReivindicou = new CountDownLatch(1);
+            CountDownLatch segundaReivindicou = new CountDownLatch(1);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<List<Long>> primeira = executor.submit(() -> transacao.execute(status -> {
+                    List<Long> ids = ids(repository.reivindicarLote(4));
+                    primeiraReivindicou.countDown();
+                    aguardar(segundaReivindicou);
+                    return ids;
+                }));
+
+                assertTrue(primeiraReivindicou.await(5, TimeUnit.SECONDS));
+                List<Long> segunda = transacao.execute(status -> ids(repository.reivindicarLote(4)));
+                segundaReivindicou.countDown();
+
+                List<Long> daPrimeira = primeira.get(5, TimeUnit.SECONDS);
+                assertEquals(4, daPrimeira.size());
+                assertEquals(2, segunda.size());
+                assertTrue(daPrimeira.get(3) < segunda.get(0), "ordem de id: " + daPrimeira + " / " + segunda);
+
+                Set<Long> todos = new HashSet<>(daPrimeira);
+                todos.addAll(segunda);
+                assertEquals(6, todos.size());
+            } finally {
+                segundaReivindicou.countDown();
+                executor.shutdownNow();
+            }
+        }
+
+        private List<Long> ids(List<UsuarioOutboxEntity> eventos) {
+            return eventos.stream().map(UsuarioOutboxEntity::getId).toList();
+        }
+
+        private void aguardar(CountDownLatch latch) {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
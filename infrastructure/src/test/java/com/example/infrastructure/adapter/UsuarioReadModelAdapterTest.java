@@ -0,0 +1,151 @@
+package com.example.infrastructure.adapter;
+
+import com.example.domain.event.UsuarioCriadoEvento;
+import com.example.domain.event.UsuarioRemovidoEvento;
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.entity.UsuarioLeituraEntity;
+import com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioResumoProjection;
+import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
+import com.example.infrastructure.databases.oracle.repository.UsuarioLeituraJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do modelo de leitura usuarios_read contra H2 real
+ *
+ * Sem a transação do @DataJpaTest: a projeção depende do commit de verdade
+ */
+@DataJpaTest(properties = "app.usuarios.read-model.enabled=true")
+@Import(UsuarioReadModelAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UsuarioReadModelAdapterTest {
+
+    @Autowired
+    private UsuarioReadModelAdapter adapter;
+
+    @Autowired
+    private UsuarioJpaRepository usuarioRepository;
+
+    @Autowired
+    private UsuarioLeituraJpaRepository leituraRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void limpar() {
+        leituraRepository.deleteAllInBatch();
+        usuarioRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Criação confirmada: linha desnormalizada em usuarios_read")
+    void deveProjetarUsuarioCriadoAposCommit() {
+        UsuarioEntity usuario = emTransacao(() -> criar("  José  da Conceição ", "Jose@Empresa.com.br", "12345678901"));
+
+        UsuarioLeituraEntity leitura = leituraRepository.findById(usuario.getId()).orElseThrow();
+        assertEquals("  José  da Conceição ", leitura.getNome());
+        assertEquals("jose da conceicao", leitura.getNomeBusca());
+        assertEquals("empresa.com.br", leitura.getEmailDominio());
+        assertEquals("***.456.789-**", leitura.getCpfMascarado());
+        assertEquals("12345678901", leitura.getCpf());
+    }
+
+    @Test
+    @DisplayName("Rollback do comando: nada é projetado")
+    void naoDeveProjetarQuandoHaRollback() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            criar("Maria", "maria@test.com", null);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, leituraRepository.count());
+    }
+
+    @Test
+    @DisplayName("Lote numa transação: todos os ids projetados de uma vez")
+    void deveProjetarLoteInteiro() {
+        emTransacao(() -> {
+            for (int i = 1; i <= 3; i++) {
+                criar("Usuario " + i, "usuario" + i + "@test.com", null);
+            }
+            return null;
+        });
+
+        List<String> emails = leituraRepository.findResumosAfter(0L, Limit.of(10)).stream()
+                .map(UsuarioResumoProjection::email)
+                .toList();
+        assertEquals(List.of("usuario1@test.com", "usuario2@test.com", "usuario3@test.com"), emails);
+    }
+
+    @Test
+    @DisplayName("Remoção confirmada: linha sai de usuarios_read")
+    void deveRemoverProjecaoAposCommit() {
+        UsuarioEntity usuario = emTransacao(() -> criar("Ana", "ana@test.com", null));
+        assertTrue(leituraRepository.existsById(usuario.getId()));
+
+        emTransacao(() -> {
+            usuarioRepository.deleteById(usuario.getId());
+            adapter.registrar(new UsuarioRemovidoEvento(usuario.getId(), usuario.getEmail(), Instant.now()));
+            return null;
+        });
+
+        assertFalse(leituraRepository.existsById(usuario.getId()));
+    }
+
+    @Test
+    @DisplayName("Projeção fora de ordem: email reaproveitado substitui a linha do usuário removido")
+    void deveProjetarEmailReaproveitadoAntesDaRemocao() {
+        UsuarioEntity removido = emTransacao(() -> criar("Ana", "ana@test.com", null));
+
+        // Remoção e recriação confirmadas, mas só a projeção da recriação rodou até aqui
+        usuarioRepository.deleteById(removido.getId());
+        UsuarioEntity recriado = usuarioRepository.save(new UsuarioEntity(null, "Ana Nova", "ana@test.com", null));
+        adapter.registrar(new UsuarioCriadoEvento(recriado.getId(), "Ana Nova", "ana@test.com", Instant.now()));
+
+        assertFalse(leituraRepository.existsById(removido.getId()));
+        assertEquals(recriado.getId(), leituraRepository.findDetalheByEmail("ana@test.com").orElseThrow().id());
+
+        adapter.registrar(new UsuarioRemovidoEvento(removido.getId(), "ana@test.com", Instant.now()));
+        assertTrue(leituraRepository.existsById(recriado.getId()));
+    }
+
+    @Test
+    @DisplayName("Reconstrução: usuarios_read volta a refletir usuarios")
+    void deveReconstruirAPartirDeUsuarios() {
+        UsuarioEntity usuario = emTransacao(() -> usuarioRepository.save(
+                new UsuarioEntity(null, "Sem Evento", "sem.evento@test.com", null)));
+        assertEquals(0, leituraRepository.count());
+
+        assertEquals(1, adapter.reconstruir());
+
+        UsuarioDetalheProjection detalhe = leituraRepository.findDetalheByEmail("sem.evento@test.com").orElseThrow();
+        assertEquals(usuario.getId(), detalhe.id());
+    }
+
+    private UsuarioEntity criar(String nome, String email, String cpf) {
+        UsuarioEntity salvo = usuarioRepository.save(new UsuarioEntity(null, nome, email, cpf));
+        adapter.registrar(new UsuarioCriadoEvento(salvo.getId(), nome, email, Instant.now()));
+        return salvo;
+    }
+
+    private <T> T emTransacao(Supplier<T> acao) {
+        return new TransactionTemplate(transactionManager).execute(status -> acao.get());
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.infrastructure.adapter;
+
+import com.example.domain.exception.ConflitoVersaoException;
+import com.example.domain.exception.EmailJaCadastradoException;
+import com.example.domain.model.Usuario;
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.projection.UsuarioRemocaoProjection;
+import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
+import com.example.infrastructure.databases.oracle.repository.UsuarioRemovidoJpaRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Atualização com controle otimista e remoção com tombstone contra H2 real
+ *
+ * Sem a transação do @DataJpaTest: cada operação abre a sua, como no UsuarioCommandService,
+ * para que escritas concorrentes sejam de fato confirmadas por outra transação.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.infrastructure.adapter.UsuarioRepositoryAdapterTest$SqlCapturado")
+@Import(UsuarioRepositoryAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UsuarioRepositoryAdapterTest {
+
+    @Autowired
+    private UsuarioRepositoryAdapter adapter;
+
+    @Autowired
+    private UsuarioJpaRepository repository;
+
+    @Autowired
+    private UsuarioRemovidoJpaRepository removidoRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transacao;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        removidoRepository.deleteAllInBatch();
+        transacao = new TransactionTemplate(transactionManager);
+        SqlCapturado.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("atualizar: UPDATE só com a coluna alterada e a versão, que é incrementada")
+    void deveAtualizarSoAColunaAlterada() {
+        Long id = salvar("Antigo", "dinamico@test.com");
+
+        Usuario atualizado = transacao.execute(status -> {
+            Usuario usuario = adapter.buscarPorId(id).orElseThrow();
+            usuario.atualizarNome("Novo");
+            SqlCapturado.STATEMENTS.clear();
+            return adapter.atualizar(usuario);
+        });
+
+        assertEquals(1L, atualizado.getVersao());
+        assertEquals("Novo", repository.findById(id).orElseThrow().getNome());
+        List<String> updates = SqlCapturado.STATEMENTS.stream().filter(sql -> sql.startsWith("update")).toList();
+        assertEquals(1, updates.size());
+        assertTrue(updates.get(0).contains("nome=?"));
+        assertFalse(updates.get(0).contains("email=?"));
+        assertFalse(updates.get(0).contains("cpf=?"));
+        assertTrue(updates.get(0).contains("versao=?"));
+    }
+
+    @Test
+    @DisplayName("atualizar: conflito quando a versão lida já não é a gravada")
+    void deveLancarConflitoComVersaoAntiga() {
+        Long id = salvar("Lido", "antigo@test.com");
+        Usuario lidoAntes = transacao.execute(status -> adapter.buscarPorId(id)).orElseThrow();
+        transacao.executeWithoutResult(status -> {
+            Usuario usuario = adapter.buscarPorId(id).orElseThrow();
+            usuario.atualizarNome("Primeiro");
+            adapter.atualizar(usuario);
+        });
+
+        lidoAntes.atualizarNome("Segundo");
+        assertThrows(ConflitoVersaoException.class,
+                () -> transacao.executeWithoutResult(status -> adapter.atualizar(lidoAntes)));
+        assertEquals("Primeiro", repository.findById(id).orElseThrow().getNome());
+    }
+
+    @Test
+    @DisplayName("atualizar: conflito quando outra transação grava entre a leitura e o UPDATE")
+    void deveLancarConflitoComEscritaConcorrente() {
+        Long id = salvar("Concorrente", "concorrente@test.com");
+        TransactionTemplate outraTransacao = new TransactionTemplate(transactionManager);
+        outraTransacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThrows(ConflitoVersaoException.class, () -> transacao.executeWithoutResult(status -> {
+            Usuario usuario = adapter.buscarPorId(id).orElseThrow();
+            outraTransacao.executeWithoutResult(outro -> {
+                UsuarioEntity entity = repository.findById(id).orElseThrow();
+                entity.setNome("Venceu");
+            });
+            usuario.atualizarNome("Perdeu");
+            adapter.atualizar(usuario);
+        }));
+        assertEquals("Venceu", repository.findById(id).orElseThrow().getNome());
+    }
+
+    @Test
+    @DisplayName("atualizar: email de outro usuário vira EmailJaCadastradoException")
+    void deveTraduzirEmailDuplicado() {
+        salvar("Dono", "dono@test.com");
+        Long id = salvar("Outro", "outro@test.com");
+
+        assertThrows(EmailJaCadastradoException.class, () -> transacao.executeWithoutResult(status -> {
+            Usuario usuario = adapter.buscarPorId(id).orElseThrow();
+            usuario.atualizarEmail("dono@test.com");
+            adapter.atualizar(usuario);
+        }));
+    }
+
+    @Test
+    @DisplayName("deletar: DELETE e tombstone na mesma transação; nada é registrado se o id não existia")
+    void deveRegistrarTombstoneAoDeletar() {
+        Long id = salvar("Removido", "removido@test.com");
+
+        assertEquals(1, (int) transacao.execute(status -> adapter.deletar(id)));
+        assertEquals(0, (int) transacao.execute(status -> adapter.deletar(id)));
+
+        List<UsuarioRemocaoProjection> remocoes = removidoRepository.findRemocoesBetween(0L, Long.MAX_VALUE, Limit.of(10));
+        assertEquals(List.of(id), remocoes.stream().map(UsuarioRemocaoProjection::usuarioId).toList());
+        assertTrue(repository.findMudancasBetween(0L, Long.MAX_VALUE, Limit.of(10)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("deletarTodos: um tombstone por usuário removido, nenhum para ids inexistentes")
+    void deveRegistrarTombstonesAoDeletarEmLote() {
+        Long primeiro = salvar("Primeiro", "primeiro@test.com");
+        Long segundo = salvar("Segundo", "segundo@test.com");
+
+        List<Usuario> removidos = transacao.execute(status -> adapter.deletarTodos(List.of(primeiro, segundo, -1L)));
+
+        assertEquals(2, removidos.size());
+        assertEquals(List.of(primeiro, segundo), removidoRepository.findRemocoesBetween(0L, Long.MAX_VALUE, Limit.of(10)).stream()
+                .map(UsuarioRemocaoProjection::usuarioId).toList());
+    }
+
+    private Long salvar(String nome, String email) {
+        return transacao.execute(status -> repository.save(new UsuarioEntity(null, nome, email, null))).getId();
+    }
+
+    /**
+     * Guarda o SQL gerado pelo Hibernate (instanciado pelo Hibernate, por isso estático)
+     */
+    public static class SqlCapturado implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase());
+            return sql;
+        }
+    }
+}
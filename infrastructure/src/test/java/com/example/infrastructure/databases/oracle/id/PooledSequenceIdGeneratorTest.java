@@ -0,0 +1,69 @@
+package com.example.infrastructure.databases.oracle.id;
+
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.repository.UsuarioJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do gerador de IDs por sequence com otimizador pooled-lo
+ * Allocation size configurado por propriedade (como seria por ambiente)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.app.id.sequence.allocation-size=10")
+class PooledSequenceIdGeneratorTest {
+
+    @Autowired
+    private UsuarioJpaRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Sequence é criada com INCREMENT BY igual ao allocation size configurado")
+    void deveCriarSequenceComIncrementoConfigurado() {
+        Number incremento = (Number) entityManager.createNativeQuery(
+                        "select increment from information_schema.sequences where sequence_name = 'USUARIOS_SEQ'")
+                .getSingleResult();
+
+        assertEquals(10, incremento.intValue());
+    }
+
+    @Test
+    @DisplayName("Sequence do delta sync fica com INCREMENT BY 1, sem blocos por instância, qualquer que seja o allocation size")
+    void deveCriarSequenceDeMudancaSemBlocos() {
+        Number incremento = (Number) entityManager.createNativeQuery(
+                        "select increment from information_schema.sequences where sequence_name = 'USUARIOS_MUDANCA_SEQ'")
+                .getSingleResult();
+
+        assertEquals(1, incremento.intValue());
+    }
+
+    @Test
+    @DisplayName("IDs do mesmo bloco são entregues da memória, sem consultar a sequence")
+    void deveEntregarIdsEmBlocos() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            ids.add(repository.save(new UsuarioEntity(null, "Usuario " + i, "bloco" + i + "@test.com", null)).getId());
+        }
+
+        // pooled-lo: valor da sequence = primeiro ID do bloco; os 9 seguintes vêm da memória
+        for (int i = 1; i < 10; i++) {
+            assertEquals(ids.get(0) + i, ids.get(i));
+        }
+        // 11º ID pertence ao próximo bloco
+        assertEquals(ids.get(0) + 10, ids.get(10));
+
+        Number chamadasSequence = (Number) entityManager.createNativeQuery(
+                        "select base_value from information_schema.sequences where sequence_name = 'USUARIOS_SEQ'")
+                .getSingleResult();
+        assertEquals(ids.get(0) + 20, chamadasSequence.longValue());
+    }
+}
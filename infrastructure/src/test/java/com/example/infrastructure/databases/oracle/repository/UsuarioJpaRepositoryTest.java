@@ -0,0 +1,230 @@
+package com.example.infrastructure.databases.oracle.repository;
+
+import com.example.infrastructure.databases.oracle.entity.UsuarioEntity;
+import com.example.infrastructure.databases.oracle.entity.UsuarioRemovidoEntity;
+import com.example.infrastructure.databases.oracle.projection.UsuarioDetalheProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioMudancaProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioRemocaoProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioResumoProjection;
+import com.example.infrastructure.databases.oracle.projection.UsuarioVersaoProjection;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes das queries do UsuarioJpaRepository contra H2 real
+ * (queries derivadas/JPQL só são validadas executando no banco)
+ */
+@DataJpaTest
+class UsuarioJpaRepositoryTest {
+
+    @Autowired
+    private UsuarioJpaRepository repository;
+
+    @Autowired
+    private UsuarioRemovidoJpaRepository removidoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 5; i++) {
+            repository.save(new UsuarioEntity(null, "Usuario " + i, "usuario" + i + "@test.com", null));
+        }
+    }
+
+    @Test
+    @DisplayName("Keyset: retorna apenas ids maiores que o cursor, em ordem, respeitando o limite")
+    void devePaginarPorCursor() {
+        List<UsuarioResumoProjection> todos = repository.findResumosAfter(0L, Limit.of(10));
+        assertEquals(5, todos.size());
+
+        Long cursor = todos.get(1).id();
+        List<UsuarioResumoProjection> pagina = repository.findResumosAfter(cursor, Limit.of(2));
+
+        assertEquals(2, pagina.size());
+        assertEquals(todos.get(2).id(), pagina.get(0).id());
+        assertEquals(todos.get(3).id(), pagina.get(1).id());
+    }
+
+    @Test
+    @DisplayName("Versões: as mesmas linhas da listagem, e a versão muda a cada UPDATE")
+    void deveConsultarSoAsVersoes() {
+        List<UsuarioResumoProjection> todos = repository.findResumosAfter(0L, Limit.of(3));
+        List<UsuarioVersaoProjection> versoes = repository.findVersoesAfter(0L, Limit.of(3));
+
+        assertEquals(todos.stream().map(UsuarioResumoProjection::id).toList(),
+                versoes.stream().map(UsuarioVersaoProjection::id).toList());
+        assertEquals(0L, versoes.get(0).versao());
+
+        Long id = versoes.get(0).id();
+        repository.findById(id).orElseThrow().setNome("Alterado");
+        repository.flush();
+
+        assertEquals(1L, repository.findVersaoById(id).orElseThrow());
+        assertEquals(1L, repository.findDetalheById(id).orElseThrow().versao());
+        assertTrue(repository.findVersaoById(-1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Keyset: cursor após o último id retorna página vazia")
+    void deveRetornarVazioAposUltimoId() {
+        List<UsuarioResumoProjection> todos = repository.findResumosAfter(0L, Limit.of(10));
+        Long ultimo = todos.get(todos.size() - 1).id();
+
+        assertTrue(repository.findResumosAfter(ultimo, Limit.of(10)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Projeção: busca por id e por email sem criar entidades gerenciadas")
+    void deveBuscarDetalheSemGerenciarEntidade() {
+        entityManager.flush();
+        entityManager.clear();
+
+        UsuarioDetalheProjection porEmail = repository.findDetalheByEmail("usuario3@test.com").orElseThrow();
+        UsuarioDetalheProjection porId = repository.findDetalheById(porEmail.id()).orElseThrow();
+
+        assertEquals("Usuario 3", porId.nome());
+        assertEquals(porEmail, porId);
+        assertTrue(repository.findDetalheByEmail("inexistente@test.com").isEmpty());
+
+        // Nenhuma entidade foi carregada no persistence context
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        assertEquals(0, session.getPersistenceContextInternal().getNumberOfManagedEntities());
+    }
+
+    @Test
+    @DisplayName("Stream: percorre todos os usuários ordenados por id")
+    void devePercorrerTodosEmStream() {
+        try (Stream<UsuarioEntity> stream = repository.streamAll()) {
+            List<String> emails = stream.map(UsuarioEntity::getEmail).toList();
+
+            assertEquals(List.of(
+                    "usuario1@test.com", "usuario2@test.com", "usuario3@test.com",
+                    "usuario4@test.com", "usuario5@test.com"
+            ), emails);
+        }
+    }
+
+    @Test
+    @DisplayName("Stream com projeção: mesmos usuários e ordem, sem entidades gerenciadas")
+    void devePercorrerDetalhesEmStream() {
+        entityManager.flush();
+        entityManager.clear();
+
+        try (Stream<UsuarioDetalheProjection> stream = repository.streamDetalhes()) {
+            List<String> emails = stream.map(UsuarioDetalheProjection::email).toList();
+
+            assertEquals(List.of(
+                    "usuario1@test.com", "usuario2@test.com", "usuario3@test.com",
+                    "usuario4@test.com", "usuario5@test.com"
+            ), emails);
+        }
+
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        assertEquals(0, session.getPersistenceContextInternal().getNumberOfManagedEntities());
+    }
+
+    @Test
+    @DisplayName("Unicidade em lote: retorna apenas os emails que já existem")
+    void deveBuscarEmailsExistentes() {
+        List<String> existentes = repository.findEmailsExistentes(
+                List.of("usuario1@test.com", "novo@test.com", "usuario5@test.com"));
+
+        assertEquals(2, existentes.size());
+        assertTrue(existentes.containsAll(List.of("usuario1@test.com", "usuario5@test.com")));
+    }
+
+    @Test
+    @DisplayName("Sequence: IDs são atribuídos antes do INSERT, permitindo batch")
+    void deveAtribuirIdsPorSequenceNoSaveAll() {
+        List<UsuarioEntity> novos = List.of(
+                new UsuarioEntity(null, "Lote 1", "lote1@test.com", null),
+                new UsuarioEntity(null, "Lote 2", "lote2@test.com", null)
+        );
+
+        List<UsuarioEntity> salvos = repository.saveAll(novos);
+
+        // Ainda sem flush: o ID já veio da sequence (com IDENTITY seria INSERT imediato)
+        assertNotNull(salvos.get(0).getId());
+        assertNotNull(salvos.get(1).getId());
+        assertNotEquals(salvos.get(0).getId(), salvos.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("DELETE por id informa as linhas afetadas: 1 se existia, 0 se não")
+    void deveInformarLinhasAfetadasNoDeletePorId() {
+        Long id = repository.findResumosAfter(0L, Limit.of(1)).get(0).id();
+
+        assertEquals(1, repository.deletarPorId(id));
+        assertEquals(0, repository.deletarPorId(id));
+        assertFalse(repository.existsById(id));
+        assertEquals(4, repository.count());
+    }
+
+    @Test
+    @DisplayName("Remoção em lote: trava e devolve só os ids existentes, depois um DELETE para todos")
+    void deveRemoverEmLoteSoOsExistentes() {
+        List<Long> ids = repository.findResumosAfter(0L, Limit.of(2)).stream().map(UsuarioResumoProjection::id).toList();
+
+        List<UsuarioDetalheProjection> existentes = repository.findDetalhesParaRemocao(List.of(ids.get(0), ids.get(1), -1L));
+
+        assertEquals(2, existentes.size());
+        assertEquals(2, repository.deletarPorIds(existentes.stream().map(UsuarioDetalheProjection::id).toList()));
+        assertEquals(3, repository.count());
+    }
+
+    @Test
+    @DisplayName("Delta: INSERT e UPDATE recebem posições crescentes, e a remoção continua na mesma sequência")
+    void deveOrdenarMudancasPelaSequencia() {
+        List<UsuarioMudancaProjection> mudancas = repository.findMudancasBetween(0L, Long.MAX_VALUE, Limit.of(10));
+        assertEquals(5, mudancas.size());
+        assertEquals(repository.findResumosAfter(0L, Limit.of(10)).stream().map(UsuarioResumoProjection::id).toList(),
+                mudancas.stream().map(UsuarioMudancaProjection::id).toList());
+        Long ultima = mudancas.get(4).sequenciaMudanca();
+
+        // UPDATE (@DynamicUpdate: nome, versao e seq_mudanca no SET): a linha vai para o fim
+        Long alterado = mudancas.get(0).id();
+        repository.findById(alterado).orElseThrow().setNome("Alterado");
+        repository.flush();
+        List<UsuarioMudancaProjection> depois = repository.findMudancasBetween(ultima, Long.MAX_VALUE, Limit.of(10));
+        assertEquals(List.of(alterado), depois.stream().map(UsuarioMudancaProjection::id).toList());
+        assertEquals("Alterado", depois.get(0).nome());
+        assertTrue(depois.get(0).sequenciaMudanca() > ultima);
+
+        Long removido = mudancas.get(1).id();
+        assertEquals(1, repository.deletarPorId(removido));
+        removidoRepository.saveAndFlush(new UsuarioRemovidoEntity(removido, Instant.now()));
+        List<UsuarioRemocaoProjection> remocoes = removidoRepository.findRemocoesBetween(ultima, Long.MAX_VALUE, Limit.of(10));
+        assertEquals(List.of(removido), remocoes.stream().map(UsuarioRemocaoProjection::usuarioId).toList());
+        assertTrue(remocoes.get(0).sequenciaMudanca() > depois.get(0).sequenciaMudanca());
+        assertTrue(removidoRepository.findRemocoesBetween(remocoes.get(0).sequenciaMudanca(), Long.MAX_VALUE, Limit.of(10)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Delta: a posição é atribuída pelo Hibernate antes do INSERT e do UPDATE, já presente na entidade")
+    void deveAtribuirPosicaoNaEntidade() {
+        UsuarioEntity usuario = repository.saveAndFlush(new UsuarioEntity(null, "Posicao", "posicao@test.com", null));
+        Long inserido = usuario.getSequenciaMudanca();
+        assertNotNull(inserido);
+
+        usuario.setNome("Posicao Alterada");
+        repository.flush();
+
+        assertTrue(usuario.getSequenciaMudanca() > inserido);
+        assertEquals(usuario.getSequenciaMudanca(),
+                repository.findMudancasBetween(inserido, Long.MAX_VALUE, Limit.of(10)).get(0).sequenciaMudanca());
+    }
+}
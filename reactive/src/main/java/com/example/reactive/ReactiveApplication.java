@@ -0,0 +1,18 @@
+package com.example.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Classe Principal da Aplicação não bloqueante (WebFlux + R2DBC)
+ * 
+ * Alternativa ao módulo application: mesmo Domain e mesmas rotas /api/usuarios,
+ * sem nenhuma thread bloqueada esperando o banco
+ */
+@SpringBootApplication
+public class ReactiveApplication {
+    
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveApplication.class, args);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.reactive.adapter;
+
+import com.example.domain.exception.EmailJaCadastradoException;
+import com.example.domain.model.Usuario;
+import com.example.domain.ports.out.ReactiveUsuarioOutboundPort;
+import com.example.reactive.databases.r2dbc.UsuarioR2dbcRepository;
+import com.example.reactive.databases.r2dbc.UsuarioRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import reactor.adapter.JdkFlowAdapter;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Adaptador de Saída (Driven Adapter) não bloqueante - Implementa a porta reativa usando R2DBC
+ * 
+ * Converte Reactor (Mono/Flux) para os tipos do JDK que o Domain conhece
+ * (CompletionStage/Flow.Publisher), e linhas R2DBC para objetos de Domínio
+ */
+@Component
+@RequiredArgsConstructor
+public class UsuarioR2dbcAdapter implements ReactiveUsuarioOutboundPort {
+    
+    private final UsuarioR2dbcRepository repository;
+    
+    @Override
+    public CompletionStage<Usuario> salvar(Usuario usuario) {
+        return repository.inserir(usuario.getNome(), usuario.getEmailAsString(), usuario.getCpfAsString())
+                .map(this::toDomain)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        ex -> new EmailJaCadastradoException(usuario.getEmailAsString(), ex))
+                .toFuture();
+    }
+    
+    @Override
+    public CompletionStage<Optional<Usuario>> buscarPorId(Long id) {
+        return repository.buscarPorId(id)
+                .map(this::toDomain)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+    
+    @Override
+    public Flow.Publisher<Usuario> buscarTodos() {
+        return JdkFlowAdapter.publisherToFlowPublisher(repository.buscarTodos().map(this::toDomain));
+    }
+    
+    @Override
+    public CompletionStage<Boolean> deletar(Long id) {
+        return repository.deletar(id).toFuture();
+    }
+    
+    @Override
+    public CompletionStage<Optional<Usuario>> buscarPorEmail(String email) {
+        return repository.buscarPorEmail(email)
+                .map(this::toDomain)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+    
+    private Usuario toDomain(UsuarioRow row) {
+        // Sem revalidar: o que está no banco já passou por Email.of/CPF.of quando foi gravado
+        return Usuario.reconstituir(row.id(), row.nome(), row.email(), row.cpf());
+    }
+}
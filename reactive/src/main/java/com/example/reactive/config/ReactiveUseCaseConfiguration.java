@@ -0,0 +1,26 @@
+package com.example.reactive.config;
+
+import com.example.domain.ports.in.ReactiveUsuarioInboundPort;
+import com.example.domain.ports.out.ReactiveUsuarioOutboundPort;
+import com.example.domain.usecase.ReactiveUsuarioUseCaseImpl;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração Manual dos Beans da Lógica de Negócio (stack não bloqueante)
+ * 
+ * Mesmo princípio do UseCaseConfiguration do módulo application:
+ * o Domain fica puro e o wiring Spring fica aqui
+ */
+@Configuration
+public class ReactiveUseCaseConfiguration {
+    
+    /**
+     * @param usuarioOutboundPort implementação reativa da porta de saída (UsuarioR2dbcAdapter)
+     * @return instância configurada da lógica de negócio
+     */
+    @Bean
+    public ReactiveUsuarioInboundPort reactiveUsuarioInboundPort(ReactiveUsuarioOutboundPort usuarioOutboundPort) {
+        return new ReactiveUsuarioUseCaseImpl(usuarioOutboundPort);
+    }
+}
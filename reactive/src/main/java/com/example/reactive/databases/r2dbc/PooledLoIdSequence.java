@@ -0,0 +1,59 @@
+package com.example.reactive.databases.r2dbc;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * IDs por sequence em blocos (pooled-lo), compatível com o PooledSequenceIdGenerator do JPA
+ * 
+ * Cada valor v lido da sequence reserva o bloco [v, v + allocationSize):
+ * os próximos IDs saem da memória, sem round-trip ao banco.
+ * Os dois stacks podem gravar na mesma tabela sem colisão de IDs.
+ * 
+ * Sem lock durante o round-trip: se duas requisições esgotarem o bloco ao mesmo tempo,
+ * as duas buscam um bloco novo e o restante de um deles vira "buraco" (como em um restart)
+ * 
+ * ⚠️ O INCREMENT BY da sequence no banco deve ser igual ao allocation size
+ */
+public class PooledLoIdSequence {
+    
+    private final DatabaseClient databaseClient;
+    private final String nextValueSql;
+    private final int allocationSize;
+    
+    // Protegidos por this
+    private long proximo;
+    private long limite;
+    
+    public PooledLoIdSequence(DatabaseClient databaseClient, String nextValueSql, int allocationSize) {
+        if (allocationSize < 1) {
+            throw new IllegalArgumentException("allocation size deve ser maior que zero: " + allocationSize);
+        }
+        this.databaseClient = databaseClient;
+        this.nextValueSql = nextValueSql;
+        this.allocationSize = allocationSize;
+    }
+    
+    public Mono<Long> proximoId() {
+        return Mono.defer(() -> {
+            synchronized (this) {
+                if (proximo < limite) {
+                    return Mono.just(proximo++);
+                }
+            }
+            return databaseClient.sql(nextValueSql)
+                    .map(row -> row.get(0, Long.class))
+                    .one()
+                    .map(this::reservarBloco);
+        });
+    }
+    
+    /**
+     * Devolve o primeiro ID do bloco e guarda o restante para as próximas chamadas
+     */
+    private synchronized long reservarBloco(long inicio) {
+        proximo = inicio + 1;
+        limite = inicio + allocationSize;
+        return inicio;
+    }
+}
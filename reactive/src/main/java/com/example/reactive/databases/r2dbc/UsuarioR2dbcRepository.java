@@ -0,0 +1,126 @@
+package com.example.reactive.databases.r2dbc;
+
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repositório R2DBC da tabela usuarios - SQL explícito via DatabaseClient
+ * 
+ * Mesmas consultas do UsuarioJpaRepository, sem ORM:
+ * - projeções só com as colunas usadas
+ * - keyset ({@code id > ? ORDER BY id}) na listagem
+ * - DELETE em um único round-trip, com a contagem de linhas afetadas
+ * - posição do delta sync (seq_mudanca) da mesma sequence do SequenciaMudancaGenerator, no próprio INSERT
+ */
+@Repository
+public class UsuarioR2dbcRepository {
+    
+    private static final String COLUNAS = "id, nome, email, cpf";
+    
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transacao;
+    private final PooledLoIdSequence idSequence;
+    
+    public UsuarioR2dbcRepository(DatabaseClient databaseClient,
+                                  TransactionalOperator transacao,
+                                  @Value("${app.usuarios.r2dbc.next-id-sql}") String nextIdSql,
+                                  @Value("${app.usuarios.r2dbc.id-allocation-size}") int idAllocationSize) {
+        this.databaseClient = databaseClient;
+        this.transacao = transacao;
+        this.idSequence = new PooledLoIdSequence(databaseClient, nextIdSql, idAllocationSize);
+    }
+    
+    /**
+     * INSERT com ID da sequence (blocos pooled-lo)
+     * Email duplicado falha com DataIntegrityViolationException (traduzida pelo DatabaseClient)
+     */
+    public Mono<UsuarioRow> inserir(String nome, String email, String cpf) {
+        return idSequence.proximoId().flatMap(id -> {
+            DatabaseClient.GenericExecuteSpec insert = databaseClient
+                    .sql("insert into usuarios (" + COLUNAS + ", seq_mudanca) "
+                            + "values (:id, :nome, :email, :cpf, next value for usuarios_mudanca_seq)")
+                    .bind("id", id)
+                    .bind("nome", nome)
+                    .bind("email", email);
+            insert = cpf != null ? insert.bind("cpf", cpf) : insert.bindNull("cpf", String.class);
+            return insert.then().thenReturn(new UsuarioRow(id, nome, email, cpf));
+        });
+    }
+    
+    public Mono<UsuarioRow> buscarPorId(Long id) {
+        return databaseClient.sql("select " + COLUNAS + " from usuarios where id = :id")
+                .bind("id", id)
+                .map(UsuarioR2dbcRepository::toRow)
+                .one();
+    }
+    
+    public Mono<UsuarioRow> buscarPorEmail(String email) {
+        return databaseClient.sql("select " + COLUNAS + " from usuarios where email = :email")
+                .bind("email", email)
+                .map(UsuarioR2dbcRepository::toRow)
+                .one();
+    }
+    
+    /**
+     * Tabela inteira ordenada por id, emitida conforme o driver entrega as linhas
+     * (backpressure do R2DBC: não materializa o resultado)
+     */
+    public Flux<UsuarioRow> buscarTodos() {
+        return databaseClient.sql("select " + COLUNAS + " from usuarios order by id")
+                .map(UsuarioR2dbcRepository::toRow)
+                .all();
+    }
+    
+    /**
+     * Paginação por cursor (keyset): {@code WHERE id > ? ORDER BY id LIMIT ?}
+     * Projeção sem cpf, como UsuarioResumoProjection
+     */
+    public Flux<UsuarioRow> buscarResumosApos(long after, int limite) {
+        return databaseClient.sql("select id, nome, email from usuarios where id > :after order by id limit :limite")
+                .bind("after", after)
+                .bind("limite", limite)
+                .map(row -> new UsuarioRow(row.get("id", Long.class), row.get("nome", String.class),
+                        row.get("email", String.class), null))
+                .all();
+    }
+    
+    public Mono<Long> contar() {
+        return databaseClient.sql("select count(*) from usuarios")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+    
+    /**
+     * DELETE e, se a linha existia, o tombstone do delta sync (mesma tabela e sequence do UsuarioRemovidoEntity),
+     * na mesma transação (R2dbcTransactionManager): se o INSERT do tombstone falhar, o DELETE é desfeito
+     *
+     * @return true se a linha existia (1 linha afetada)
+     */
+    public Mono<Boolean> deletar(Long id) {
+        return databaseClient.sql("delete from usuarios where id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(linhas -> linhas == 0 ? Mono.just(false) : databaseClient
+                        .sql("insert into usuarios_removidos (seq_mudanca, usuario_id, removido_em) "
+                                + "values (next value for usuarios_mudanca_seq, :id, current_timestamp)")
+                        .bind("id", id)
+                        .then()
+                        .thenReturn(true))
+                .as(transacao::transactional);
+    }
+    
+    private static UsuarioRow toRow(Readable row) {
+        return new UsuarioRow(
+                row.get("id", Long.class),
+                row.get("nome", String.class),
+                row.get("email", String.class),
+                row.get("cpf", String.class)
+        );
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.reactive.databases.r2dbc;
+
+/**
+ * Linha da tabela usuarios lida via R2DBC
+ * Mesmas colunas de UsuarioEntity, sem mapeamento ORM
+ */
+public record UsuarioRow(Long id, String nome, String email, String cpf) {
+}
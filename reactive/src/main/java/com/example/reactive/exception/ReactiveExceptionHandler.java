@@ -0,0 +1,52 @@
+package com.example.reactive.exception;
+
+import com.example.domain.exception.UsuarioInvalidoException;
+import com.example.domain.exception.UsuarioNaoEncontradoException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Handler Global de Exceções (WebFlux)
+ * Converte as exceções de domínio, que chegam como erro do Mono,
+ * no mesmo corpo de erro do GlobalExceptionHandler do módulo application
+ */
+@Slf4j
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+    
+    @ExceptionHandler({UsuarioInvalidoException.class, IllegalArgumentException.class})
+    public ResponseEntity<Map<String, Object>> handleRequisicaoInvalida(Exception ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(errorBuild(HttpStatus.BAD_REQUEST, "INVALID_REQUEST", ex.getMessage()));
+    }
+    
+    @ExceptionHandler(UsuarioNaoEncontradoException.class)
+    public ResponseEntity<Map<String, Object>> handleNaoEncontrado(UsuarioNaoEncontradoException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(errorBuild(HttpStatus.NOT_FOUND, "NOT_FOUND", ex.getMessage()));
+    }
+    
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
+        String message = "Erro inesperado ocorreu. Nossa equipe está trabalhando nisso no momento.";
+        log.error(message, ex);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(errorBuild(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", message));
+    }
+    
+    private Map<String, Object> errorBuild(HttpStatus httpStatus, String errorKey, String message) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", httpStatus);
+        body.put("error", errorKey);
+        body.put("message", message);
+        return body;
+    }
+}
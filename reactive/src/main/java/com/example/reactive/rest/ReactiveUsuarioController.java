@@ -0,0 +1,79 @@
+package com.example.reactive.rest;
+
+import com.example.reactive.rest.dto.UsuarioPageResponse;
+import com.example.reactive.rest.dto.UsuarioRequest;
+import com.example.reactive.rest.dto.UsuarioResponse;
+import com.example.reactive.service.command.ReactiveUsuarioCommandService;
+import com.example.reactive.service.query.ReactiveUsuarioQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adaptador de Entrada - Controller REST não bloqueante (WebFlux)
+ * 
+ * Mesmas rotas e respostas do UsuarioController (módulo application), com CQRS:
+ * - Commands (write) → ReactiveUsuarioCommandService → Domain
+ * - Queries (read) → ReactiveUsuarioQueryService → R2DBC (bypass)
+ */
+@RestController
+@RequestMapping("/api/usuarios")
+@RequiredArgsConstructor
+public class ReactiveUsuarioController {
+    
+    private final ReactiveUsuarioCommandService commandService;
+    private final ReactiveUsuarioQueryService queryService;
+    
+    @PostMapping
+    public Mono<ResponseEntity<UsuarioResponse>> criarUsuario(@RequestBody UsuarioRequest request) {
+        return commandService.criarUsuario(request)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+    
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<UsuarioResponse>> buscarUsuario(@PathVariable Long id) {
+        return queryService.buscarPorId(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Listagem paginada por cursor: ?after={ultimoId}&limit={tamanho}
+     */
+    @GetMapping
+    public Mono<UsuarioPageResponse> listarUsuarios(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        return queryService.listarUsuarios(after, limit);
+    }
+    
+    /**
+     * Streaming NDJSON: cada usuário é escrito na resposta assim que lido do banco
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UsuarioResponse> exportarUsuarios() {
+        return queryService.exportarUsuarios();
+    }
+    
+    @GetMapping("/email/{email}")
+    public Mono<ResponseEntity<UsuarioResponse>> buscarPorEmail(@PathVariable String email) {
+        return queryService.buscarPorEmail(email)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/count")
+    public Mono<Long> contarUsuarios() {
+        return queryService.contarUsuarios();
+    }
+    
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> removerUsuario(@PathVariable Long id) {
+        return commandService.removerUsuario(id)
+                .then(Mono.just(ResponseEntity.noContent().<Void>build()));
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.reactive.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de um item da listagem de usuários (sem cpf)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioListResponse {
+    private Long id;
+    private String nome;
+    private String email;
+}
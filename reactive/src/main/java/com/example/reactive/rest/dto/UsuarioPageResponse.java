@@ -0,0 +1,20 @@
+package com.example.reactive.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de uma página da listagem de usuários (paginação por cursor/keyset)
+ * proximoCursor null = última página
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioPageResponse {
+    private List<UsuarioListResponse> usuarios;
+    private Long proximoCursor;
+    private int limite;
+}
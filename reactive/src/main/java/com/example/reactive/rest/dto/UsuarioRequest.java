@@ -0,0 +1,17 @@
+package com.example.reactive.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para requisições de criação de usuário (mesmo JSON do módulo application)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioRequest {
+    private String nome;
+    private String email;  // Será convertido para Email (Value Object)
+    private String cpf;    // Será convertido para CPF (Value Object) - opcional
+}
@@ -0,0 +1,18 @@
+package com.example.reactive.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para respostas contendo dados de usuário (mesmo JSON do módulo application)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioResponse {
+    private Long id;
+    private String nome;
+    private String email;
+    private String cpf;
+}
@@ -0,0 +1,56 @@
+package com.example.reactive.service.command;
+
+import com.example.domain.model.Usuario;
+import com.example.domain.ports.in.ReactiveUsuarioInboundPort;
+import com.example.domain.valueobject.CPF;
+import com.example.domain.valueobject.Email;
+import com.example.reactive.rest.dto.UsuarioRequest;
+import com.example.reactive.rest.dto.UsuarioResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Command Service não bloqueante - Operações de ESCRITA
+ * 
+ * Mesmo papel do UsuarioCommandService: converte Strings → Value Objects
+ * e passa pelo Domain (ReactiveUsuarioInboundPort).
+ * 
+ * Mono.fromCompletionStage(Supplier): a chamada ao Domain só acontece na inscrição,
+ * e exceções da conversão (ex: email inválido) viram erro do Mono
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveUsuarioCommandService {
+    
+    private final ReactiveUsuarioInboundPort usuarioInboundPort;
+    
+    public Mono<UsuarioResponse> criarUsuario(UsuarioRequest request) {
+        return Mono.fromCompletionStage(() -> {
+                    log.info("Command: Criar usuário com email {}", request.getEmail());
+                    return usuarioInboundPort.criarUsuario(
+                            request.getNome(),
+                            Email.of(request.getEmail()),
+                            CPF.of(request.getCpf()));
+                })
+                .map(this::toResponse);
+    }
+    
+    public Mono<Void> removerUsuario(Long id) {
+        return Mono.fromCompletionStage(() -> {
+            log.info("Command: Remover usuário {}", id);
+            return usuarioInboundPort.removerUsuario(id);
+        });
+    }
+    
+    private UsuarioResponse toResponse(Usuario usuario) {
+        return new UsuarioResponse(
+                usuario.getId(),
+                usuario.getNome(),
+                usuario.getEmailAsString(),
+                usuario.getCpfAsString()
+        );
+    }
+}
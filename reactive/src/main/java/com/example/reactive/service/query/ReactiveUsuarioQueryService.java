@@ -0,0 +1,94 @@
+package com.example.reactive.service.query;
+
+import com.example.reactive.databases.r2dbc.UsuarioR2dbcRepository;
+import com.example.reactive.databases.r2dbc.UsuarioRow;
+import com.example.reactive.rest.dto.UsuarioListResponse;
+import com.example.reactive.rest.dto.UsuarioPageResponse;
+import com.example.reactive.rest.dto.UsuarioResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Query Service não bloqueante - Operações de LEITURA
+ * 
+ * Mesmo papel do UsuarioQueryService: BYPASS do Domain, direto no repositório R2DBC
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveUsuarioQueryService {
+    
+    /**
+     * Tamanho de página usado quando o cliente não informa "limit"
+     */
+    public static final int LIMITE_PADRAO = 50;
+    
+    /**
+     * Limite máximo de página aceito pelo servidor
+     */
+    public static final int LIMITE_MAXIMO = 500;
+    
+    private final UsuarioR2dbcRepository repository;
+    
+    public Mono<UsuarioResponse> buscarPorId(Long id) {
+        log.info("Query: Buscar usuário por id {} (BYPASS Domain)", id);
+        return repository.buscarPorId(id).map(this::toResponse);
+    }
+    
+    /**
+     * Email normalizado como é gravado (sem espaços nas pontas, minúsculas)
+     */
+    public Mono<UsuarioResponse> buscarPorEmail(String email) {
+        String normalizado = email.trim().toLowerCase(Locale.ROOT);
+        log.info("Query: Buscar usuário por email {} (BYPASS Domain)", normalizado);
+        return repository.buscarPorEmail(normalizado).map(this::toResponse);
+    }
+    
+    /**
+     * Paginação por cursor (keyset): busca limite + 1 linhas, a extra só indica se existe próxima página
+     */
+    public Mono<UsuarioPageResponse> listarUsuarios(Long after, Integer limite) {
+        long cursor = after != null && after > 0 ? after : 0L;
+        int tamanho = limite == null || limite < 1 ? LIMITE_PADRAO : Math.min(limite, LIMITE_MAXIMO);
+        
+        log.info("Query: Listar usuários após id {} (limite {}) (BYPASS Domain)", cursor, tamanho);
+        
+        return repository.buscarResumosApos(cursor, tamanho + 1)
+                .map(this::toListResponse)
+                .collectList()
+                .map(resumos -> {
+                    boolean temProxima = resumos.size() > tamanho;
+                    List<UsuarioListResponse> usuarios = temProxima ? resumos.subList(0, tamanho) : resumos;
+                    Long proximoCursor = temProxima ? usuarios.get(usuarios.size() - 1).getId() : null;
+                    return new UsuarioPageResponse(usuarios, proximoCursor, tamanho);
+                });
+    }
+    
+    /**
+     * Exportação: cada linha vira um elemento do Flux assim que chega do banco
+     * (o WebFlux escreve NDJSON e respeita o backpressure do cliente)
+     */
+    public Flux<UsuarioResponse> exportarUsuarios() {
+        log.info("Query: Exportar usuários em NDJSON (BYPASS Domain)");
+        return repository.buscarTodos().map(this::toResponse);
+    }
+    
+    public Mono<Long> contarUsuarios() {
+        log.info("Query: Contar usuários (BYPASS Domain)");
+        return repository.contar();
+    }
+    
+    private UsuarioResponse toResponse(UsuarioRow row) {
+        return new UsuarioResponse(row.id(), row.nome(), row.email(), row.cpf());
+    }
+    
+    private UsuarioListResponse toListResponse(UsuarioRow row) {
+        return new UsuarioListResponse(row.id(), row.nome(), row.email());
+    }
+}
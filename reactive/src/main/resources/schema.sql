@@ -0,0 +1,22 @@
+-- Mesmo schema gerado pelo Hibernate para UsuarioEntity e UsuarioRemovidoEntity (módulo infrastructure),
+-- com o INCREMENT BY de cada gerador: usuarios_seq em blocos (app.usuarios.r2dbc.id-allocation-size, padrão 50)
+-- e usuarios_mudanca_seq de 1 em 1 (SequenciaMudancaGenerator, sem pool em memória).
+-- seq_mudanca sem default: o INSERT informa a posição, como o Hibernate
+create sequence if not exists usuarios_seq start with 1 increment by 50;
+create sequence if not exists usuarios_mudanca_seq start with 1 increment by 1;
+
+create table if not exists usuarios (
+    id bigint not null primary key,
+    nome varchar(255) not null,
+    email varchar(255) not null unique,
+    cpf varchar(11),
+    versao bigint default 0 not null,
+    seq_mudanca bigint not null,
+    constraint idx_usuarios_seq_mudanca unique (seq_mudanca)
+);
+
+create table if not exists usuarios_removidos (
+    seq_mudanca bigint not null primary key,
+    usuario_id bigint not null,
+    removido_em timestamp(6) with time zone not null
+);
@@ -0,0 +1,128 @@
+package com.example.reactive.adapter;
+
+import com.example.domain.exception.EmailJaCadastradoException;
+import com.example.domain.model.Usuario;
+import com.example.domain.valueobject.CPF;
+import com.example.domain.valueobject.Email;
+import com.example.reactive.databases.r2dbc.UsuarioR2dbcRepository;
+import com.example.reactive.databases.r2dbc.UsuarioRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes do UsuarioR2dbcAdapter - sem Spring, repositório mockado
+ * Os CompletionStage/Flow.Publisher devolvidos são verificados de volta como Mono/Flux (StepVerifier)
+ */
+@ExtendWith(MockitoExtension.class)
+class UsuarioR2dbcAdapterTest {
+
+    private static final UsuarioRow JOAO = new UsuarioRow(1L, "João", "joao@example.com", "12345678909");
+
+    @Mock
+    private UsuarioR2dbcRepository repository;
+
+    private UsuarioR2dbcAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new UsuarioR2dbcAdapter(repository);
+    }
+
+    @Test
+    @DisplayName("salvar: linha inserida vira usuário de domínio")
+    void deveSalvar() {
+        when(repository.inserir("João", "joao@example.com", "12345678909")).thenReturn(Mono.just(JOAO));
+
+        Usuario usuario = new Usuario(null, "João", Email.of("joao@example.com"), CPF.of("123.456.789-09"));
+
+        StepVerifier.create(Mono.fromCompletionStage(adapter.salvar(usuario)))
+                .assertNext(salvo -> {
+                    assertEquals(1L, salvo.getId());
+                    assertEquals("joao@example.com", salvo.getEmailAsString());
+                    assertEquals("12345678909", salvo.getCpfAsString());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("salvar: violação de unicidade vira EmailJaCadastradoException")
+    void deveTraduzirEmailDuplicado() {
+        when(repository.inserir("João", "joao@example.com", null))
+                .thenReturn(Mono.error(new DataIntegrityViolationException("usuarios.email")));
+
+        Usuario usuario = new Usuario(null, "João", Email.of("joao@example.com"), null);
+
+        StepVerifier.create(Mono.fromCompletionStage(adapter.salvar(usuario)))
+                .expectError(EmailJaCadastradoException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("buscarPorId: linha ausente vira Optional vazio, não erro nem conclusão sem valor")
+    void deveDevolverOptionalVazio() {
+        when(repository.buscarPorId(1L)).thenReturn(Mono.just(JOAO));
+        when(repository.buscarPorId(2L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(Mono.fromCompletionStage(adapter.buscarPorId(1L)))
+                .assertNext(usuario -> assertEquals("João", usuario.orElseThrow().getNome()))
+                .verifyComplete();
+        StepVerifier.create(Mono.fromCompletionStage(adapter.buscarPorId(2L)))
+                .assertNext(usuario -> assertTrue(usuario.isEmpty()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("buscarTodos: emite sob demanda, respeitando o backpressure do assinante")
+    void deveRespeitarBackpressure() {
+        UsuarioRow maria = new UsuarioRow(2L, "Maria", "maria@example.com", null);
+        when(repository.buscarTodos()).thenReturn(Flux.just(JOAO, maria));
+
+        StepVerifier.create(JdkFlowAdapter.flowPublisherToFlux(adapter.buscarTodos()), 1)
+                .assertNext(usuario -> assertEquals(1L, usuario.getId()))
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenRequest(1)
+                .assertNext(usuario -> assertEquals(2L, usuario.getId()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("deletar: propaga se a linha existia")
+    void deveDeletar() {
+        when(repository.deletar(1L)).thenReturn(Mono.just(true));
+        when(repository.deletar(2L)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(Mono.fromCompletionStage(adapter.deletar(1L))).expectNext(true).verifyComplete();
+        StepVerifier.create(Mono.fromCompletionStage(adapter.deletar(2L))).expectNext(false).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("buscarTodos: nada é lido do banco antes da inscrição")
+    void deveSerPreguicoso() {
+        AtomicBoolean consultou = new AtomicBoolean();
+        when(repository.buscarTodos()).thenReturn(Flux.defer(() -> {
+            consultou.set(true);
+            return Flux.just(JOAO);
+        }));
+
+        var publisher = adapter.buscarTodos();
+        assertFalse(consultou.get());
+
+        StepVerifier.create(JdkFlowAdapter.flowPublisherToFlux(publisher)).expectNextCount(1).verifyComplete();
+        assertTrue(consultou.get());
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.reactive.rest;
+
+import com.example.domain.exception.UsuarioInvalidoException;
+import com.example.domain.exception.UsuarioNaoEncontradoException;
+import com.example.reactive.rest.dto.UsuarioListResponse;
+import com.example.reactive.rest.dto.UsuarioPageResponse;
+import com.example.reactive.rest.dto.UsuarioRequest;
+import com.example.reactive.rest.dto.UsuarioResponse;
+import com.example.reactive.service.command.ReactiveUsuarioCommandService;
+import com.example.reactive.service.query.ReactiveUsuarioQueryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes do ReactiveUsuarioController via WebTestClient
+ * Só a camada web (controller + ReactiveExceptionHandler); os services são mockados
+ */
+@WebFluxTest(ReactiveUsuarioController.class)
+class ReactiveUsuarioControllerTest {
+
+    private static final UsuarioResponse JOAO = new UsuarioResponse(1L, "João", "joao@example.com", null);
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveUsuarioCommandService commandService;
+
+    @MockBean
+    private ReactiveUsuarioQueryService queryService;
+
+    @Test
+    @DisplayName("POST: 201 com o usuário criado")
+    void deveCriarUsuario() {
+        when(commandService.criarUsuario(any(UsuarioRequest.class))).thenReturn(Mono.just(JOAO));
+
+        webTestClient.post().uri("/api/usuarios")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UsuarioRequest("João", "joao@example.com", null))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(UsuarioResponse.class).isEqualTo(JOAO);
+    }
+
+    @Test
+    @DisplayName("POST: erro de validação do Domain vira 400 no mesmo corpo de erro do módulo application")
+    void deveResponder400ParaUsuarioInvalido() {
+        when(commandService.criarUsuario(any(UsuarioRequest.class)))
+                .thenReturn(Mono.error(new UsuarioInvalidoException("Nome não pode ser vazio")));
+
+        webTestClient.post().uri("/api/usuarios")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UsuarioRequest("", "joao@example.com", null))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("INVALID_REQUEST")
+                .jsonPath("$.message").isEqualTo("Nome não pode ser vazio");
+    }
+
+    @Test
+    @DisplayName("GET por id: Mono vazio vira 404")
+    void deveBuscarPorId() {
+        when(queryService.buscarPorId(1L)).thenReturn(Mono.just(JOAO));
+        when(queryService.buscarPorId(2L)).thenReturn(Mono.empty());
+
+        webTestClient.get().uri("/api/usuarios/1").exchange()
+                .expectStatus().isOk()
+                .expectBody(UsuarioResponse.class).isEqualTo(JOAO);
+        webTestClient.get().uri("/api/usuarios/2").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("GET paginado: repassa cursor e limite")
+    void deveListarPorCursor() {
+        UsuarioPageResponse pagina = new UsuarioPageResponse(
+                List.of(new UsuarioListResponse(11L, "Maria", "maria@example.com")), 11L, 1);
+        when(queryService.listarUsuarios(10L, 1)).thenReturn(Mono.just(pagina));
+
+        webTestClient.get().uri("/api/usuarios?after=10&limit=1").exchange()
+                .expectStatus().isOk()
+                .expectBody(UsuarioPageResponse.class).isEqualTo(pagina);
+    }
+
+    @Test
+    @DisplayName("GET /export: NDJSON, um usuário por linha")
+    void deveExportarNdjson() {
+        UsuarioResponse maria = new UsuarioResponse(2L, "Maria", "maria@example.com", null);
+        when(queryService.exportarUsuarios()).thenReturn(Flux.just(JOAO, maria));
+
+        Flux<UsuarioResponse> corpo = webTestClient.get().uri("/api/usuarios/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(UsuarioResponse.class)
+                .getResponseBody();
+
+        StepVerifier.create(corpo)
+                .expectNext(JOAO, maria)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("DELETE: 204, ou 404 quando o Domain não encontra o usuário")
+    void deveRemoverUsuario() {
+        when(commandService.removerUsuario(1L)).thenReturn(Mono.empty());
+        when(commandService.removerUsuario(2L)).thenReturn(Mono.error(new UsuarioNaoEncontradoException(2L)));
+
+        webTestClient.delete().uri("/api/usuarios/1").exchange()
+                .expectStatus().isNoContent();
+        webTestClient.delete().uri("/api/usuarios/2").exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.error").isEqualTo("NOT_FOUND");
+    }
+}